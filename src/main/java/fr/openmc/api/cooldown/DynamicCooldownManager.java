@@ -3,6 +3,8 @@ package fr.openmc.api.cooldown;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.stmt.DeleteBuilder;
+import com.j256.ormlite.stmt.UpdateBuilder;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.DatabaseTable;
 import com.j256.ormlite.table.TableUtils;
@@ -11,12 +13,20 @@ import fr.openmc.core.bootstrap.features.Feature;
 import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
 import fr.openmc.core.bootstrap.features.types.LoadAfterItemsAdder;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
 import fr.openmc.core.commands.debug.DebugCooldownCommand;
 import fr.openmc.core.commands.utils.CooldownCommand;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
 
 import java.sql.SQLException;
 import java.util.*;
@@ -41,7 +51,7 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
         private long duration;
         @DatabaseField(canBeNull = false)
         private long lastUse;
-        private BukkitTask scheduledTask;
+        private TimingWheel.Timer<Cooldown> timer;
 
         Cooldown() {
             // required for ORMLite
@@ -55,23 +65,11 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
             this.lastUse = lastUse;
             this.uniqueId = cooldownUUID;
             this.group = group;
-
-            Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
-                    Bukkit.getPluginManager().callEvent(new CooldownStartEvent(this.uniqueId, this.group))
-            );
-
-            long delayTicks = getRemaining() / 50; //ticks
-
-            this.scheduledTask = Bukkit.getScheduler().runTaskLater(OMCPlugin.getInstance(), () -> {
-                Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
-                        Bukkit.getPluginManager().callEvent(new CooldownEndEvent(this.uniqueId, this.group))
-                );
-                DynamicCooldownManager.clear(this.uniqueId, this.group, false);
-            }, delayTicks);
         }
 
         public void cancelTask() {
-            if (scheduledTask != null) scheduledTask.cancel();
+            wheel.cancel(timer);
+            timer = null;
         }
 
         /**
@@ -92,6 +90,9 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
     @Override
     public void init() {
         loadCooldowns();
+
+        if (ticker != null) ticker.cancel();
+        ticker = Bukkit.getScheduler().runTaskTimer(OMCPlugin.getInstance(), DynamicCooldownManager::tick, 1L, 1L);
     }
 
     @Override
@@ -108,8 +109,21 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
         DynamicCooldownManager.saveCooldowns();
     }
 
-    // Map structure: UUID -> (Group -> Cooldown)
-    private static final Map<UUID, Map<String, Cooldown>> cooldowns = new HashMap<>();
+    // Map structure: UUID -> (Group id -> Cooldown)
+    private static final Map<UUID, Int2ObjectMap<Cooldown>> cooldowns = new HashMap<>();
+
+    // Groups are interned to an int id, looked up without allocation
+    private static final Object2IntMap<String> groupIds = new Object2IntOpenHashMap<>();
+    private static final List<String> groupNames = new ArrayList<>();
+
+    // A single wheel fires every CooldownEndEvent, ticked once per server tick
+    private static final TimingWheel<Cooldown> wheel = new TimingWheel<>(50L, System.currentTimeMillis());
+    private static final List<Cooldown> startedCooldowns = new ArrayList<>();
+    private static BukkitTask ticker;
+
+    static {
+        groupIds.defaultReturnValue(-1);
+    }
 
     private static Dao<Cooldown, String> cooldownDao;
 
@@ -126,40 +140,116 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
             for (Cooldown cooldown : dbCooldowns) {
                 if (cooldown.isReady()) {
                     Bukkit.getPluginManager().callEvent(new CooldownEndEvent(cooldown.uniqueId, cooldown.group));
-                    cooldownDao.delete(cooldown);
+                    queueDelete(cooldown);
                     continue;
                 }
 
-                cooldowns.computeIfAbsent(cooldown.uniqueId, k -> new HashMap<>())
-                        .put(cooldown.group, new Cooldown(cooldown.uniqueId, cooldown.group, cooldown.duration, cooldown.lastUse));
+                start(cooldown, false);
             }
         } catch (SQLException e) {
             throw new RuntimeException("Erreur lors du chargement des cooldowns depuis la base de données", e);
         }
     }
 
+    /**
+     * Cooldowns are written to the database write queue as soon as they change, so saving only
+     * drops the expired ones. The queue writes the remaining changes when it is drained.
+     */
     public static void saveCooldowns() {
-        OMCLogger.info("Saving cooldowns...");
-
-        cooldowns.forEach((uuid, groupCooldowns) -> {
-            groupCooldowns.forEach((group, cooldown) -> {
-                if (!cooldown.isReady()) {
-                    try {
-                        cooldownDao.createOrUpdate(cooldown);
-                    } catch (SQLException e) {
-                        throw new RuntimeException(e);
-                    }
-                } else {
-                    try {
-                        cooldownDao.delete(cooldown);
-                    } catch (SQLException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
-            });
+        cleanup();
+        OMCLogger.infoFormatted("Cooldowns saved ({} pending database writes).",
+                DatabaseManager.getWriteQueue().getPendingCount());
+    }
+
+    /**
+     * Queues the insert or update of a new or changed cooldown, merged with any pending write on the same cooldown
+     */
+    private static void queueSave(Cooldown cooldown) {
+        DatabaseManager.queue(DatabaseWriteQueue.key("cooldowns", cooldown.uniqueId, cooldown.group), MutationType.UPSERT, () -> {
+            UpdateBuilder<Cooldown, String> update = cooldownDao.updateBuilder();
+            update.updateColumnValue("duration", cooldown.duration);
+            update.updateColumnValue("lastUse", cooldown.lastUse);
+            update.where().eq("uniqueId", cooldown.uniqueId).and().eq("group", cooldown.group);
+
+            if (update.update() == 0) cooldownDao.create(cooldown);
         });
+    }
+
+    /**
+     * Queues the deletion of an expired or cleared cooldown
+     */
+    private static void queueDelete(Cooldown cooldown) {
+        DatabaseManager.queue(DatabaseWriteQueue.key("cooldowns", cooldown.uniqueId, cooldown.group), MutationType.DELETE, () -> {
+            DeleteBuilder<Cooldown, String> delete = cooldownDao.deleteBuilder();
+            delete.where().eq("uniqueId", cooldown.uniqueId).and().eq("group", cooldown.group);
+            delete.delete();
+        });
+    }
+
+    /**
+     * Cancels the end of a removed cooldown and deletes it from the database
+     */
+    private static void discard(Cooldown cooldown) {
+        cooldown.cancelTask();
+        queueDelete(cooldown);
+    }
+
+    /**
+     * Fires the start events of the cooldowns added since the last tick, then the end events of the expired ones
+     */
+    private static void tick() {
+        if (!startedCooldowns.isEmpty()) {
+            List<Cooldown> started = new ArrayList<>(startedCooldowns);
+            startedCooldowns.clear();
+            for (Cooldown cooldown : started) {
+                Bukkit.getPluginManager().callEvent(new CooldownStartEvent(cooldown.uniqueId, cooldown.group));
+            }
+        }
 
-        OMCLogger.info("Cooldowns saved successfully.");
+        wheel.advance(System.currentTimeMillis(), DynamicCooldownManager::expire);
+    }
+
+    /**
+     * Removes a cooldown fired by the wheel and calls its end event
+     */
+    private static void expire(Cooldown cooldown) {
+        cooldown.timer = null;
+        clear(cooldown.uniqueId, cooldown.group, false);
+        Bukkit.getPluginManager().callEvent(new CooldownEndEvent(cooldown.uniqueId, cooldown.group));
+    }
+
+    /**
+     * Stores a cooldown, replacing the previous one of the same group, and schedules its end
+     *
+     * @param dirty true if the cooldown is new or changed and must be written to the database
+     */
+    private static void start(Cooldown cooldown, boolean dirty) {
+        Cooldown previous = cooldowns.computeIfAbsent(cooldown.uniqueId, k -> new Int2ObjectOpenHashMap<>())
+                .put(internGroup(cooldown.group), cooldown);
+        if (previous != null) previous.cancelTask();
+        if (dirty) queueSave(cooldown);
+
+        cooldown.timer = wheel.schedule(cooldown, cooldown.lastUse + cooldown.duration);
+        startedCooldowns.add(cooldown);
+    }
+
+    private static int internGroup(String group) {
+        int id = groupIds.getInt(group);
+        if (id < 0) {
+            id = groupNames.size();
+            groupNames.add(group);
+            groupIds.put(group, id);
+        }
+        return id;
+    }
+
+    @Nullable
+    private static Cooldown getCooldown(UUID uuid, String group) {
+        var userCooldowns = cooldowns.get(uuid);
+        if (userCooldowns == null) return null;
+
+        int groupId = groupIds.getInt(group);
+        return groupId < 0 ? null : userCooldowns.get(groupId);
     }
 
     /**
@@ -167,7 +257,12 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
      * @return Map of cooldowns for the entity, or null if no cooldowns
      */
     public static Map<String, Cooldown> getCooldowns(UUID uuid) {
-        return cooldowns.get(uuid);
+        var userCooldowns = cooldowns.get(uuid);
+        if (userCooldowns == null) return null;
+
+        Map<String, Cooldown> byGroup = new LinkedHashMap<>();
+        userCooldowns.forEach((groupId, cooldown) -> byGroup.put(groupNames.get(groupId), cooldown));
+        return byGroup;
     }
 
     /**
@@ -176,11 +271,7 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
      * @return true if an entity can perform action
      */
     public static boolean isReady(UUID uuid, String group) {
-        var userCooldowns = cooldowns.get(uuid);
-        if (userCooldowns == null)
-            return true;
-
-        Cooldown cooldown = userCooldowns.get(group);
+        Cooldown cooldown = getCooldown(uuid, group);
         return cooldown == null || cooldown.isReady();
     }
 
@@ -192,8 +283,7 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
      * @param duration Cooldown duration in ms
      */
     public static void use(UUID uuid, String group, long duration) {
-        cooldowns.computeIfAbsent(uuid, k -> new HashMap<>())
-                .put(group, new Cooldown(uuid, group, duration, System.currentTimeMillis()));
+        start(new Cooldown(uuid, group, duration, System.currentTimeMillis()), true);
     }
 
     /**
@@ -204,10 +294,7 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
      * @return remaining time in milliseconds, 0 if no cooldown
      */
     public static long getRemaining(UUID uuid, String group) {
-        var userCooldowns = cooldowns.get(uuid);
-        if (userCooldowns == null) return 0;
-
-        Cooldown cooldown = userCooldowns.get(group);
+        Cooldown cooldown = getCooldown(uuid, group);
         return cooldown == null ? 0 : cooldown.getRemaining();
     }
 
@@ -219,13 +306,7 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
      * @param reductionMillis Réduction en millisecondes
      */
     public static void reduceCooldown(Player player, UUID uuid, String group, long reductionMillis) {
-        var userCooldowns = cooldowns.get(uuid);
-
-        if (userCooldowns == null) {
-            return;
-        }
-
-        Cooldown cooldown = userCooldowns.get(group);
+        Cooldown cooldown = getCooldown(uuid, group);
         if (cooldown == null) {
             return;
         }
@@ -240,26 +321,23 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
         cooldown.cancelTask();
 
         if (newRemaining == 0) {
-            userCooldowns.remove(group);
-            Bukkit.getPluginManager().callEvent(new CooldownEndEvent(uuid, group));
-            if (userCooldowns.isEmpty()) cooldowns.remove(uuid);
+            clear(uuid, group, true);
             player.closeInventory();
             return;
         }
 
         long newLastUse = System.currentTimeMillis() - (cooldown.duration - newRemaining);
-        Cooldown newCooldown = new Cooldown(uuid, group, cooldown.duration, newLastUse);
-        userCooldowns.put(group, newCooldown);
+        start(new Cooldown(uuid, group, cooldown.duration, newLastUse), true);
     }
 
     /**
-     * Removes all expired cooldowns
+     * Removes all expired cooldowns.
+     * <p>
+     * The wheel is advanced up to now instead of removing them directly, so every expired cooldown
+     * still goes through its {@link CooldownEndEvent}.
      */
     public static void cleanup() {
-        cooldowns.entrySet().removeIf(entry -> {
-            entry.getValue().entrySet().removeIf(groupEntry -> groupEntry.getValue().isReady());
-            return entry.getValue().isEmpty();
-        });
+        wheel.advance(System.currentTimeMillis(), DynamicCooldownManager::expire);
     }
 
     /**
@@ -268,9 +346,12 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
      * @param group Cooldown group
      */
     public static void clear(String group) {
+        int groupId = groupIds.getInt(group);
+        if (groupId < 0) return;
+
         cooldowns.forEach((uuid, userCooldowns) -> {
-            Cooldown removed = userCooldowns.remove(group);
-            if (removed != null) removed.cancelTask();
+            Cooldown removed = userCooldowns.remove(groupId);
+            if (removed != null) discard(removed);
         });
         cooldowns.entrySet().removeIf(entry -> entry.getValue().isEmpty()); // A test
     }
@@ -287,8 +368,9 @@ public class DynamicCooldownManager extends Feature implements LoadAfterItemsAdd
         if (userCooldowns != null) {
             if (callEvent) Bukkit.getPluginManager().callEvent(new CooldownEndEvent(uuid, group));
 
-            Cooldown removed = userCooldowns.remove(group);
-            if (removed != null) removed.cancelTask();
+            int groupId = groupIds.getInt(group);
+            Cooldown removed = groupId < 0 ? null : userCooldowns.remove(groupId);
+            if (removed != null) discard(removed);
             if (userCooldowns.isEmpty()) cooldowns.remove(uuid);
         }
     }
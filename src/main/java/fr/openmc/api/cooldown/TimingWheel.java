@@ -0,0 +1,156 @@
+package fr.openmc.api.cooldown;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel, advanced with the wall clock.
+ * <p>
+ * Four levels of 256 slots: a timer is stored in the level matching its distance to the current tick,
+ * and cascades to a finer level when the coarser slot comes up. Scheduling, cancelling and firing are O(1),
+ * whatever the number of pending timers, and advancing by one tick only touches a single slot.
+ *
+ * @param <T> the value fired when a timer expires
+ */
+public class TimingWheel<T> {
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+    /**
+     * A scheduled timer, used to cancel it.
+     */
+    public static final class Timer<T> {
+        private final T value;
+        private long deadline;
+        private Timer<T> next;
+        private boolean cancelled;
+
+        private Timer(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        public T getValue() {
+            return value;
+        }
+    }
+
+    private final long tickMillis;
+    private final Timer<T>[][] slots;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  Duration of a tick in milliseconds
+     * @param startMillis Current time in milliseconds
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new Timer[LEVELS][WHEEL_SIZE];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Schedule a value to be fired at the given time.
+     *
+     * @param value          The value to fire
+     * @param deadlineMillis The time in milliseconds at which the timer expires
+     * @return The timer, to pass to {@link #cancel(Timer)}
+     */
+    public Timer<T> schedule(T value, long deadlineMillis) {
+        long deadline = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        Timer<T> timer = new Timer<>(value, deadline);
+        insert(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Cancel a timer. It will be dropped the next time its slot is visited.
+     *
+     * @param timer The timer to cancel
+     */
+    public void cancel(Timer<T> timer) {
+        if (timer == null || timer.cancelled) return;
+
+        timer.cancelled = true;
+        size--;
+    }
+
+    /**
+     * Advance the wheel up to the given time, firing every expired timer in deadline order.
+     *
+     * @param nowMillis The current time in milliseconds
+     * @param action    Called for each expired timer
+     */
+    public void advance(long nowMillis, Consumer<T> action) {
+        long target = nowMillis / tickMillis;
+        while (currentTick < target) {
+            currentTick++;
+            cascade();
+
+            int index = (int) (currentTick & WHEEL_MASK);
+            Timer<T> timer = slots[0][index];
+            slots[0][index] = null;
+
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.next = null;
+
+                if (!timer.cancelled) {
+                    if (timer.deadline <= currentTick) {
+                        timer.cancelled = true;
+                        size--;
+                        action.accept(timer.value);
+                    } else {
+                        insert(timer);
+                    }
+                }
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * @return The number of pending timers
+     */
+    public int size() {
+        return size;
+    }
+
+    private void cascade() {
+        long tick = currentTick;
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & WHEEL_MASK) != 0) return;
+            tick >>>= WHEEL_BITS;
+
+            int index = (int) (tick & WHEEL_MASK);
+            Timer<T> timer = slots[level][index];
+            slots[level][index] = null;
+
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.next = null;
+                if (!timer.cancelled) insert(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void insert(Timer<T> timer) {
+        long delay = Math.min(timer.deadline - currentTick, MAX_DELAY);
+        long slotTick = currentTick + delay;
+
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+
+        int index = (int) ((slotTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        timer.next = slots[level][index];
+        slots[level][index] = timer;
+    }
+}
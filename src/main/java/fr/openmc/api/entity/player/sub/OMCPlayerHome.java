@@ -3,7 +3,6 @@ package fr.openmc.api.entity.player.sub;
 import fr.openmc.core.features.homes.HomeLimits;
 import fr.openmc.core.features.homes.HomesManager;
 import fr.openmc.core.features.homes.models.Home;
-import fr.openmc.core.features.homes.models.HomeLimit;
 import org.bukkit.Location;
 import org.bukkit.OfflinePlayer;
 
@@ -15,10 +14,11 @@ public class OMCPlayerHome extends OMCPlayerFeat {
     }
 
     public List<Home> getHomes() {
-        return HomesManager.homes
-                .stream()
-                .filter(home -> home.getOwner().equals(getUniqueId()))
-                .toList();
+        return HomesManager.getHomes(getUniqueId());
+    }
+
+    public Home getHome(String name) {
+        return HomesManager.getHome(getUniqueId(), name);
     }
 
     public List<String> getHomesNames() {
@@ -29,46 +29,27 @@ public class OMCPlayerHome extends OMCPlayerFeat {
     }
 
     public boolean setHome(Home home) {
-        return HomesManager.homes.add(home);
+        HomesManager.addHome(home);
+        return true;
     }
 
     public boolean removeHome(Home home) {
-        return HomesManager.homes.remove(home);
+        return HomesManager.removeHome(home);
     }
 
     public void renameHome(Home home, String newName) {
-        home.setName(newName);
+        HomesManager.renameHome(home, newName);
     }
 
     public void relocateHome(Home home, Location newLoc) {
-        HomesManager.homes.remove(home);
+        HomesManager.relocateHome(home, newLoc);
     }
 
     public HomeLimits getHomeLimit() {
-        HomeLimit homeLimit = HomesManager.homeLimits.stream()
-                .filter(hl -> hl.getPlayerUUID().equals(getUniqueId()))
-                .findFirst()
-                .orElse(null);
-
-        if (homeLimit == null) {
-            homeLimit = new HomeLimit(getUniqueId(), HomeLimits.LIMIT_0);
-            HomesManager.homeLimits.add(homeLimit);
-        }
-
-        return homeLimit.getHomeLimit();
+        return HomesManager.getHomeLimit(getUniqueId()).getHomeLimit();
     }
 
     public void updateHomeLimit() {
-        HomeLimit homeLimit = HomesManager.homeLimits.stream()
-                .filter(hl -> hl.getPlayerUUID().equals(getUniqueId()))
-                .findFirst()
-                .orElse(null);
-        if (homeLimit == null) {
-            HomesManager.homeLimits.add(new HomeLimit(getUniqueId(), HomeLimits.LIMIT_0));
-        } else {
-            int currentLimitIndex = homeLimit.getHomeLimit().ordinal();
-            HomeLimits newLimit = HomeLimits.values()[currentLimitIndex + 1];
-            homeLimit.setLimit(newLimit.getLimit());
-        }
+        HomesManager.upgradeHomeLimit(getUniqueId());
     }
 }
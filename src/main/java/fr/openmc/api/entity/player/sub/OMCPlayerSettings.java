@@ -17,7 +17,7 @@ public class OMCPlayerSettings extends OMCPlayerFeat {
     }
 
     public boolean canReceiveFriendRequest(UUID senderUUID) {
-        return this.getSettings().canPerformAction(SettingType.FRIEND_REQUESTS_POLICY, senderUUID);
+        return PlayerSettingsManager.canPerformAction(getUniqueId(), SettingType.FRIEND_REQUESTS_POLICY, senderUUID);
     }
 
     public boolean shouldPlayNotificationSound() {
@@ -25,10 +25,10 @@ public class OMCPlayerSettings extends OMCPlayerFeat {
     }
 
     public boolean canReceiveCityInvite(UUID receiverUUID) {
-        return this.getSettings().canPerformAction(SettingType.CITY_JOIN_REQUESTS_POLICY, receiverUUID);
+        return PlayerSettingsManager.canPerformAction(getUniqueId(), SettingType.CITY_JOIN_REQUESTS_POLICY, receiverUUID);
     }
 
     public boolean canReceivePrivateMessage(UUID senderUUID) {
-        return this.getSettings().canPerformAction(SettingType.PRIVATE_MESSAGE_POLICY, senderUUID);
+        return PlayerSettingsManager.canPerformAction(getUniqueId(), SettingType.PRIVATE_MESSAGE_POLICY, senderUUID);
     }
 }
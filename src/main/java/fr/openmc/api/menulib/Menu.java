@@ -4,6 +4,7 @@ import fr.openmc.api.entity.player.OMCPlayer;
 import fr.openmc.api.menulib.events.OpenMenuEvent;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
+import fr.openmc.api.packetmenulib.PacketMenuLib;
 import fr.openmc.core.hooks.itemsadder.ItemsAdderHook;
 import fr.openmc.core.utils.bukkit.ItemUtils;
 import fr.openmc.core.utils.text.messages.MessageType;
@@ -12,6 +13,7 @@ import fr.openmc.core.utils.text.messages.Prefix;
 import fr.openmc.core.utils.text.messages.TranslationManager;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -21,6 +23,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.InventoryView;
@@ -29,11 +32,9 @@ import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Represents an abstract Menu framework for managing custom player inventories.
@@ -43,6 +44,74 @@ import java.util.function.Consumer;
 @Getter
 public abstract class Menu implements InventoryHolder {
     private final Object2ObjectMap<ItemMenuBuilder, Consumer<InventoryClickEvent>> itemClickEvents = new Object2ObjectOpenHashMap<>();
+    /**
+     * The items placed by the last {@link #open()} or {@link #update()}, indexed by slot,
+     * so that a click finds its item without rebuilding the content of the menu.
+     */
+    @Getter(AccessLevel.NONE)
+    private ItemMenuBuilder[] renderedItems;
+    /**
+     * What the back buttons showed at the last render, see {@link #getBackState()}.
+     */
+    @Getter(AccessLevel.NONE)
+    private Object renderedBackState;
+    /**
+     * The slots whose item declared a refresh interval, see {@link ItemMenuBuilder#setRefresh(long, Supplier)}.
+     */
+    @Getter(AccessLevel.NONE)
+    private final List<DynamicSlot> dynamicSlots = new ArrayList<>();
+    /**
+     * The client-side window of the menu, when it is read-only, see {@link #isReadOnly()}.
+     */
+    @Getter(AccessLevel.NONE)
+    private VirtualMenuView virtualView;
+
+    /**
+     * Where the items of the menu are placed: its Bukkit inventory, or its client-side window.
+     */
+    private interface MenuSlots {
+        int getSize();
+
+        void setItem(int slot, ItemStack item);
+    }
+
+    private record InventorySlots(Inventory inventory) implements MenuSlots {
+        @Override
+        public int getSize() {
+            return inventory.getSize();
+        }
+
+        @Override
+        public void setItem(int slot, ItemStack item) {
+            inventory.setItem(slot, item);
+        }
+    }
+
+    private record ViewSlots(VirtualMenuView view) implements MenuSlots {
+        @Override
+        public int getSize() {
+            return view.getSize();
+        }
+
+        @Override
+        public void setItem(int slot, ItemStack item) {
+            view.setItem(slot, item);
+        }
+    }
+
+    private static final class DynamicSlot {
+        private final int slot;
+        private final long interval;
+        private final Supplier<ItemMenuBuilder> supplier;
+        private long lastRefresh;
+
+        private DynamicSlot(int slot, long interval, Supplier<ItemMenuBuilder> supplier, long lastRefresh) {
+            this.slot = slot;
+            this.interval = interval;
+            this.supplier = supplier;
+            this.lastRefresh = lastRefresh;
+        }
+    }
 
     private final OMCPlayer owner;
 
@@ -86,6 +155,20 @@ public abstract class Menu implements InventoryHolder {
         return null;
     }
 
+    /**
+     * Whether the menu only displays information. A read-only menu without takable slots is rendered
+     * entirely client-side through {@link PacketMenuLib} when ProtocolLib is loaded: no Bukkit inventory is
+     * created, and an update only sends the slots that changed.
+     * <p>
+     * The {@link InventoryClickEvent} given to the click handlers of such a menu is built on a copy of the
+     * window that is never opened, and {@link OpenMenu#onOpen} is not called.
+     *
+     * @return {@code true} to render the menu through packets
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
     public Component getNoPermissionMessage() {
         return TranslationManager.translation("api.menulib.no_permission");
     }
@@ -153,10 +236,14 @@ public abstract class Menu implements InventoryHolder {
                 MenuLib.pushMenu(owner, this);
             }
 
+            if (isReadOnly() && PacketMenuLib.isEnabled() && getTakableSlot().isEmpty()) {
+                openVirtual();
+                return;
+            }
+
             Inventory inventory = getInventory();
 
-            getContent().forEach((slot, item) ->
-                    setItem(owner, inventory, slot, item));
+            render(new InventorySlots(inventory), false);
 
             Bukkit.getServer().getPluginManager().callEvent(new OpenMenuEvent(owner, this));
 
@@ -166,23 +253,189 @@ public abstract class Menu implements InventoryHolder {
                 om.onOpen(new InventoryOpenEvent(openedMenu));
         } catch (Exception e) {
             MessagesManager.sendMessage(owner, TranslationManager.translation("api.menulib.an_error_occurred"), Prefix.OPENMC, MessageType.ERROR, false);
-            owner.closeInventory();
+            MenuLib.closeMenu(owner);
             throw new RuntimeException(e);
         }
     }
 
-    public final void setItem(Player player, Inventory inventory, int slot, ItemMenuBuilder item) {
+    /**
+     * Shows the menu in a client-side window. If the window already shows this menu (page change),
+     * only the slots that changed are sent.
+     */
+    private void openVirtual() {
+        VirtualMenuView shown = VirtualMenuView.getShowing(owner);
+        if (shown != null && shown.getMenu() == this) {
+            render(new ViewSlots(shown), true);
+            return;
+        }
+
+        if (shown != null) MenuLib.onVirtualClose(shown.getMenu(), owner);
+        if (owner.getOpenInventory().getType() != InventoryType.CRAFTING)
+            owner.closeInventory(InventoryCloseEvent.Reason.OPEN_NEW);
+
+        this.virtualView = new VirtualMenuView(this, getTitle());
+        render(new ViewSlots(virtualView), false);
+
+        Bukkit.getServer().getPluginManager().callEvent(new OpenMenuEvent(owner, this));
+
+        virtualView.show();
+    }
+
+    /**
+     * Places the items of {@link #getContent()} in the inventory and keeps them for the click dispatch.
+     * When {@code diff} is true, only the slots whose item changed since the last render are pushed.
+     *
+     * @param inventory The slots of this menu
+     * @param diff      Whether the inventory already shows the last render
+     */
+    private void render(MenuSlots inventory, boolean diff) {
+        ItemMenuBuilder[] previous = diff ? this.renderedItems : null;
+        ItemMenuBuilder[] rendered = new ItemMenuBuilder[inventory.getSize()];
+        long tick = Bukkit.getCurrentTick();
+        Object backState = getBackState();
+        dynamicSlots.clear();
+
+        getContent().forEach((slot, item) -> {
+            boolean inMenu = slot >= 0 && slot < rendered.length;
+            if (inMenu && item.isDynamic())
+                dynamicSlots.add(new DynamicSlot(slot, item.getRefreshInterval(), item.getRefresher(), tick));
+
+            if (inMenu && previous != null && isUnchanged(previous[slot], item, backState)) {
+                rendered[slot] = item;
+                return;
+            }
+
+            if (placeItem(owner, inventory, slot, item) && inMenu)
+                rendered[slot] = item;
+        });
+
+        if (previous != null) {
+            List<Integer> takableSlots = getTakableSlot();
+            for (int slot = 0; slot < previous.length; slot++) {
+                if (previous[slot] != null && rendered[slot] == null && !takableSlots.contains(slot))
+                    inventory.setItem(slot, null);
+            }
+        }
+
+        this.renderedItems = rendered;
+        this.renderedBackState = backState;
+
+        if (dynamicSlots.isEmpty()) MenuTicker.unregister(this);
+        else MenuTicker.register(this);
+    }
+
+    /**
+     * Cheap comparison of two renders of a slot: the same builder, or an equal item with the same role.
+     * A back button also depends on the history of the owner, so it changes with {@code backState}.
+     */
+    private boolean isUnchanged(ItemMenuBuilder previous, ItemMenuBuilder item, Object backState) {
+        if (item.isBackButton() && !Objects.equals(backState, renderedBackState)) return false;
+        if (previous == item) return true;
+        return previous != null
+                && previous.isBackButton() == item.isBackButton()
+                && previous.getType() == item.getType()
+                && previous.getAmount() == item.getAmount()
+                && previous.equals(item);
+    }
+
+    /**
+     * @return What the back buttons show: {@code null} when they are hidden, else the name of the menu they go back to
+     */
+    private Object getBackState() {
+        if (owner == null || !MenuLib.hasPreviousMenu(owner)) return null;
+
+        Menu last = MenuLib.getLastMenu(owner);
+        return last != null ? last.getName() : Boolean.TRUE;
+    }
+
+    /**
+     * Rebuilds the dynamic items whose refresh interval has elapsed, and pushes the ones that changed.
+     * The other items of the menu are not rebuilt.
+     * <p>
+     * Called once per second by the {@link MenuTicker}: an item is rebuilt on the pass
+     * closest to its interval, so intervals are rounded to the second.
+     */
+    final void refreshDynamicItems() {
+        if (dynamicSlots.isEmpty()) return;
+
+        MenuSlots open = getShownSlots();
+        if (open == null) return;
+        ItemMenuBuilder[] rendered = this.renderedItems;
+        long tick = Bukkit.getCurrentTick();
+
+        for (DynamicSlot dynamic : dynamicSlots) {
+            if (tick - dynamic.lastRefresh + MenuTicker.PERIOD <= dynamic.interval) continue;
+            dynamic.lastRefresh = tick;
+
+            ItemMenuBuilder previous = rendered[dynamic.slot];
+            ItemMenuBuilder item = dynamic.supplier.get();
+            item.inheritClickHandler(previous);
+
+            if (isUnchanged(previous, item, item.isBackButton() ? getBackState() : renderedBackState)) {
+                rendered[dynamic.slot] = item;
+            } else if (placeItem(owner, open, dynamic.slot, item)) {
+                rendered[dynamic.slot] = item;
+            } else {
+                open.setItem(dynamic.slot, null);
+                rendered[dynamic.slot] = null;
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the owner is looking at this menu
+     */
+    public final boolean isOpen() {
+        return getShownSlots() != null;
+    }
+
+    /**
+     * @return The slots the owner is looking at, or {@code null} if this menu is not shown
+     */
+    private MenuSlots getShownSlots() {
+        if (owner == null) return null;
+        if (virtualView != null && virtualView.isShowing()) return new ViewSlots(virtualView);
+
+        Inventory top = owner.getOpenInventory().getTopInventory();
+        return top.getHolder(false) == this ? new InventorySlots(top) : null;
+    }
+
+    /**
+     * Retrieves the item placed in a slot by the last {@link #open()} or {@link #update()}.
+     *
+     * @param slot The raw slot of the click
+     * @return The {@link ItemMenuBuilder} placed in the slot, or {@code null} if the slot is empty
+     * or outside the menu
+     */
+    public final ItemMenuBuilder getRenderedItem(int slot) {
+        ItemMenuBuilder[] rendered = this.renderedItems;
+        // menu shown without open(), its content is built on demand
+        if (rendered == null) return getContent().get(slot);
+
+        return slot >= 0 && slot < rendered.length ? rendered[slot] : null;
+    }
+
+    /**
+     * Places an item of the menu in the inventory.
+     *
+     * @return {@code true} if the item was placed, {@code false} if it is hidden on this page
+     */
+    public final boolean setItem(Player player, Inventory inventory, int slot, ItemMenuBuilder item) {
+        return placeItem(player, new InventorySlots(inventory), slot, item);
+    }
+
+    private boolean placeItem(Player player, MenuSlots inventory, int slot, ItemMenuBuilder item) {
         if (item.isBackButton() && !MenuLib.hasPreviousMenu(player)) {
             if (!this.getTakableSlot().contains(slot)) {
                 inventory.setItem(slot, ItemUtils.getInvisibleItem());
             }
-            return;
+            return true;
         }
 
         if (this instanceof PaginatedMenu paginatedMenu) {
             if ((item.isPreviousButton() && paginatedMenu.isFirstPage())
                     || (item.isNextButton() && paginatedMenu.isLastPage()))
-                return;
+                return false;
         }
 
         if (item.isBackButton() && MenuLib.hasPreviousMenu(player)) {
@@ -192,15 +445,16 @@ public abstract class Menu implements InventoryHolder {
                 itemMeta.lore(TranslationManager.translationLore("api.menulib.menu.back.lore", MenuLib.getLastMenu(player) != null ?
                         MenuLib.getLastMenu(player).getName().color(NamedTextColor.GREEN) : TranslationManager.translation("api.menulib.menu.back")));
             }, true));
-            return;
+            return true;
         }
 
         if (item.getType().isAir() && !this.getTakableSlot().contains(slot)) {
             inventory.setItem(slot, ItemUtils.getInvisibleItem());
-            return;
+            return true;
         }
 
         inventory.setItem(slot, item);
+        return true;
     }
 
     /**
@@ -235,16 +489,10 @@ public abstract class Menu implements InventoryHolder {
     }
 
     public final void update() {
-        if (owner == null) return;
-
-        Inventory open = owner.getOpenInventory().getTopInventory();
-
-        if (!(open.getHolder() instanceof Menu menu) || menu != this) return;
+        MenuSlots open = getShownSlots();
+        if (open == null) return;
 
-        getContent().forEach((slot, item) ->
-                setItem(owner, open, slot, item));
-
-        owner.updateInventory();
+        render(open, true);
     }
 
     /**
@@ -272,13 +520,14 @@ public abstract class Menu implements InventoryHolder {
     @NotNull
     @Override
     public final Inventory getInventory() {
-        Component title = getName();
+        return Bukkit.createInventory(this, getInventorySize().getSize(), getTitle());
+    }
 
-        if (ItemsAdderHook.isEnable() && (getTexture() != null && !getTexture().isEmpty()) && getTexture() != null && !getTexture().isEmpty()) {
-            title = Component.text(getTexture());
+    private Component getTitle() {
+        if (ItemsAdderHook.isEnable() && getTexture() != null && !getTexture().isEmpty()) {
+            return Component.text(getTexture());
         }
-
-        return Bukkit.createInventory(this, getInventorySize().getSize(), title);
+        return getName();
     }
 
 }
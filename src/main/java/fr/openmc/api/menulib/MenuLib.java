@@ -2,6 +2,7 @@ package fr.openmc.api.menulib;
 
 import fr.openmc.api.menulib.template.ConfirmMenu;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
+import fr.openmc.api.packetmenulib.PacketMenuLib;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
 import fr.openmc.core.features.homes.menu.HomeDeleteConfirmMenu;
@@ -12,9 +13,12 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -67,6 +71,7 @@ public final class MenuLib implements Listener {
      */
     public static void init(JavaPlugin plugin) {
         new MenuLib(plugin);
+        MenuTicker.init(plugin);
     }
 
     /**
@@ -84,10 +89,33 @@ public final class MenuLib implements Listener {
     }
 
     public static void updateMenu(Player player) {
+        VirtualMenuView view = VirtualMenuView.getShowing(player);
+        if (view != null) {
+            view.getMenu().update();
+            return;
+        }
+
         if (!(player.getOpenInventory().getTopInventory().getHolder() instanceof Menu menu)) return;
         menu.update();
     }
 
+    /**
+     * Closes the menu the player is looking at, whether it is an inventory or a read-only menu
+     * rendered through packets.
+     *
+     * @param player The player
+     */
+    public static void closeMenu(Player player) {
+        VirtualMenuView view = VirtualMenuView.getShowing(player);
+        if (view == null) {
+            player.closeInventory();
+            return;
+        }
+
+        PacketMenuLib.closeMenu(player);
+        view.onInventoryClose(new fr.openmc.api.packetmenulib.events.InventoryCloseEvent(player));
+    }
+
     public static void clearHistory(Player player) {
         menuHistory.remove(player.getUniqueId());
     }
@@ -158,7 +186,9 @@ public final class MenuLib implements Listener {
      * Handles click events in an inventory associated with a {@link Menu}.
      * This method ensures that clicks within the menu's inventory are canceled,
      * and delegates further handling to the menu's implementation of {@code onInventoryClick}.
-     * Additionally, it triggers any registered item-specific click event handlers.
+     * Additionally, it triggers the click handler of the item rendered in the clicked slot.
+     * Only a slot that was filled outside of the menu content falls back to comparing the clicked item
+     * with every registered handler.
      *
      * @param e The {@link InventoryClickEvent} representing the inventory interaction
      *          triggered by the player. Contains information about the clicked
@@ -175,26 +205,14 @@ public final class MenuLib implements Listener {
 
         menu.onInventoryClick(e);
 
-        ItemMenuBuilder itemClicked = menu.getContent().get(e.getRawSlot());
-
-        if (itemClicked != null && itemClicked.isBackButton()) {
-            Player player = (Player) e.getWhoClicked();
-            Menu previous = MenuLib.popAndGetPreviousMenu(player);
-            if (previous != null) previous.open();
-            return;
-        }
-
         try {
+            if (dispatchRenderedClick(menu, e.getRawSlot(), (Player) e.getWhoClicked(), e)) return;
+
             Map<ItemMenuBuilder, Consumer<InventoryClickEvent>> itemClickEvents = menu.getItemClickEvents();
-            if (itemClickEvents.isEmpty())
+            if (itemClickEvents.isEmpty() || e.getCurrentItem() == null
+                    || e.getRawSlot() < 0 || e.getRawSlot() >= e.getInventory().getSize())
                 return;
 
-            Consumer<InventoryClickEvent> action = itemClickEvents.get(itemClicked);
-            if (action != null) {
-                action.accept(e);
-                return;
-            }
-
             for (Map.Entry<ItemMenuBuilder, Consumer<InventoryClickEvent>> entry : itemClickEvents.entrySet()) {
                 if (ItemUtils.isSimilarMenu(entry.getKey(), e.getCurrentItem())) {
                     entry.getValue().accept(e);
@@ -206,6 +224,51 @@ public final class MenuLib implements Listener {
         }
     }
 
+    /**
+     * Handles a click in a read-only menu rendered through packets, see {@link Menu#isReadOnly()}.
+     * Called on the main thread. The event is built on a view matching the window, which is never opened.
+     *
+     * @param view   The window shown to the player
+     * @param slot   The clicked slot of the menu
+     * @param player The player who clicked
+     * @param click  The type of the click
+     */
+    static void onVirtualClick(VirtualMenuView view, int slot, Player player, ClickType click) {
+        Menu menu = view.getMenu();
+
+        try {
+            InventoryClickEvent e = new InventoryClickEvent(view.createClickView(player),
+                    InventoryType.SlotType.CONTAINER, slot, click, InventoryAction.NOTHING);
+            e.setCancelled(true);
+
+            menu.onInventoryClick(e);
+            dispatchRenderedClick(menu, slot, player, e);
+        } catch (Exception ex) {
+            OMCLogger.error("An error occurred while handling a click event in a menu: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Triggers the handler of the item rendered in a slot, or goes back to the previous menu.
+     *
+     * @return {@code true} if an item of the menu content was rendered in the slot
+     */
+    private static boolean dispatchRenderedClick(Menu menu, int slot, Player player, InventoryClickEvent e) {
+        ItemMenuBuilder itemClicked = menu.getRenderedItem(slot);
+        if (itemClicked == null) return false;
+
+        if (itemClicked.isBackButton()) {
+            Menu previous = MenuLib.popAndGetPreviousMenu(player);
+            if (previous != null) previous.open();
+            return true;
+        }
+
+        Consumer<InventoryClickEvent> action = itemClicked.getClickHandler();
+        if (action == null) action = menu.getItemClickEvents().get(itemClicked);
+        if (action != null) action.accept(e);
+        return true;
+    }
+
     @EventHandler
     public void onInventoryDrag(InventoryDragEvent e) {
         if (!(e.getInventory().getHolder() instanceof Menu menu))
@@ -225,11 +288,28 @@ public final class MenuLib implements Listener {
 
         if (e.getInventory().getHolder(false) instanceof Menu menu) {
             menu.onClose(e);
-            Bukkit.getScheduler().runTaskLater(OMCPlugin.getInstance(), () -> {
-                if (!(e.getPlayer().getOpenInventory().getTopInventory().getHolder() instanceof Menu)) {
-                    MenuLib.clearHistory(player);
-                }
-            }, 1L);
+            scheduleCloseCleanup(menu, player);
         }
     }
+
+    /**
+     * Handles the closing of a read-only menu rendered through packets, on the main thread.
+     *
+     * @param menu   The menu that was shown to the player
+     * @param player The player
+     */
+    static void onVirtualClose(Menu menu, Player player) {
+        menu.onClose(new InventoryCloseEvent(player.getOpenInventory()));
+        scheduleCloseCleanup(menu, player);
+    }
+
+    private static void scheduleCloseCleanup(Menu menu, Player player) {
+        Bukkit.getScheduler().runTaskLater(OMCPlugin.getInstance(), () -> {
+            if (!(player.getOpenInventory().getTopInventory().getHolder() instanceof Menu)
+                    && VirtualMenuView.getShowing(player) == null) {
+                MenuLib.clearHistory(player);
+            }
+            if (!menu.isOpen()) MenuTicker.unregister(menu);
+        }, 1L);
+    }
 }
@@ -0,0 +1,93 @@
+package fr.openmc.api.menulib;
+
+import fr.openmc.core.bootstrap.integration.OMCLogger;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * A single scheduler refreshing the dynamic items of every open {@link Menu}.
+ * <p>
+ * Each menu that declares dynamic items is registered in one of {@link #PERIOD} buckets, the one holding
+ * the fewest menus. Every tick, only the menus of one bucket are refreshed: each menu is visited once per
+ * second, and the work is spread across the ticks instead of running all at once.
+ * <p>
+ * A menu leaves the ticker as soon as its owner stops looking at it, so no refresh outlives the inventory.
+ */
+public final class MenuTicker {
+    /**
+     * The number of ticks between two refreshes of the same menu.
+     */
+    public static final int PERIOD = 20;
+
+    private static final List<Set<Menu>> buckets = new ArrayList<>(PERIOD);
+    private static final Map<Menu, Set<Menu>> bucketByMenu = new IdentityHashMap<>();
+    private static BukkitTask task;
+
+    static {
+        for (int i = 0; i < PERIOD; i++) {
+            buckets.add(Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    private MenuTicker() {
+    }
+
+    /**
+     * Starts the ticker.
+     *
+     * @param plugin The {@link JavaPlugin} running the task
+     */
+    static void init(JavaPlugin plugin) {
+        if (task != null) task.cancel();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, MenuTicker::tick, 1L, 1L);
+    }
+
+    /**
+     * Adds a menu to the ticker, if it is not already registered.
+     *
+     * @param menu The menu whose dynamic items must be refreshed
+     */
+    static void register(Menu menu) {
+        if (bucketByMenu.containsKey(menu)) return;
+
+        Set<Menu> emptiest = buckets.getFirst();
+        for (Set<Menu> bucket : buckets) {
+            if (bucket.size() < emptiest.size()) emptiest = bucket;
+        }
+
+        emptiest.add(menu);
+        bucketByMenu.put(menu, emptiest);
+    }
+
+    /**
+     * Removes a menu from the ticker.
+     *
+     * @param menu The menu to remove
+     */
+    static void unregister(Menu menu) {
+        Set<Menu> bucket = bucketByMenu.remove(menu);
+        if (bucket != null) bucket.remove(menu);
+    }
+
+    private static void tick() {
+        Set<Menu> bucket = buckets.get(Bukkit.getCurrentTick() % PERIOD);
+        if (bucket.isEmpty()) return;
+
+        for (Menu menu : bucket.toArray(new Menu[0])) {
+            if (!menu.isOpen()) {
+                unregister(menu);
+                continue;
+            }
+
+            try {
+                menu.refreshDynamicItems();
+            } catch (Exception e) {
+                OMCLogger.error("Could not refresh the menu {}", menu.getClass().getSimpleName(), e);
+                unregister(menu);
+            }
+        }
+    }
+}
@@ -71,6 +71,21 @@ public abstract class PaginatedMenu extends Menu {
      */
     public abstract List<ItemStack> getItems();
 
+    /**
+     * Retrieves the items of the range {@code [fromIndex, toIndex)}, the only ones shown on the current page.
+     * <p>
+     * The default implementation slices {@link #getItems()}. Menus over large collections should override it,
+     * together with {@link #getSizeOfItems()}, so that opening a page only builds the items of that page.
+     *
+     * @param fromIndex The index of the first item, inclusive
+     * @param toIndex   The index of the last item, exclusive
+     * @return A non-null {@link List} of at most {@code toIndex - fromIndex} items
+     */
+    public List<ItemStack> getItems(int fromIndex, int toIndex) {
+        List<ItemStack> items = getItems();
+        return items.subList(Math.min(fromIndex, items.size()), Math.min(toIndex, items.size()));
+    }
+
     /**
      * Retrieves a mapping of button slots to their corresponding {@link ItemMenuBuilder} instances
      * for the current menu. Each entry in the map represents a specific button within the menu,
@@ -96,32 +111,53 @@ public abstract class PaginatedMenu extends Menu {
     @Override
     public final @NotNull Map<Integer, ItemMenuBuilder> getContent() {
         Map<Integer, ItemMenuBuilder> map = new HashMap<>();
-        for (Integer staticSlot : getStaticSlots()) {
+        int inventorySize = getInventorySize().getSize();
+        List<Integer> staticSlotList = getStaticSlots();
+        for (Integer staticSlot : staticSlotList) {
             map.put(staticSlot, new ItemMenuBuilder(this, ItemUtils.createItem(" ", getBorderMaterial() == null ? Material.AIR : getBorderMaterial())).hideTooltip(true));
         }
-        List<Integer> staticSlots = StaticSlots.removeRecurringIntegers(getStaticSlots(), getInventorySize().getSize());
-        int maxItems = getInventorySize().getSize() - staticSlots.size();
-        numberOfPages = Math.max(0, (int) Math.ceil((double) getSizeOfItems() / maxItems) - 1);
 
-        // Check if the page is out of bounds
+        boolean[] staticSlots = new boolean[inventorySize];
+        List<Integer> distinctStaticSlots = StaticSlots.removeRecurringIntegers(staticSlotList, inventorySize);
+        for (int staticSlot : distinctStaticSlots) {
+            staticSlots[staticSlot] = true;
+        }
+        int maxItems = inventorySize - distinctStaticSlots.size();
+        int sizeOfItems = getSizeOfItems();
+        numberOfPages = Math.max(0, (int) Math.ceil((double) sizeOfItems / maxItems) - 1);
+
+        // Only the items of the current page are built
+        int fromIndex = maxItems * page;
+        List<ItemStack> pageItems = fromIndex < sizeOfItems
+                ? getItems(fromIndex, Math.min(fromIndex + maxItems, sizeOfItems))
+                : List.of();
+
         int index = 0;
-        for (int i = 0; i < getInventory().getSize(); i++) {
-            if (!staticSlots.contains(i)) {
-                if (index + maxItems * page < getItems().size()) {
-                    map.put(i, new ItemMenuBuilder(this, getItems().get(index + maxItems * page)));
-                    index++;
-                }
+        for (int i = 0; i < inventorySize && index < pageItems.size(); i++) {
+            if (staticSlots[i]) continue;
+
+            ItemStack item = pageItems.get(index++);
+            ItemMenuBuilder itemBuilder = new ItemMenuBuilder(this, item);
+            if (item instanceof ItemMenuBuilder menuItem) {
+                if (menuItem.getClickHandler() != null)
+                    itemBuilder.setOnClick(menuItem.getClickHandler());
+                if (menuItem.isDynamic())
+                    itemBuilder.setRefresh(menuItem.getRefreshInterval(), menuItem.getRefresher());
             }
+            map.put(i, itemBuilder);
         }
 
-        if (getButtons() != null) {
-            for (Map.Entry<Integer, ItemMenuBuilder> entry : getButtons().entrySet()) {
+        Map<Integer, ItemMenuBuilder> buttons = getButtons();
+        if (buttons != null) {
+            for (Map.Entry<Integer, ItemMenuBuilder> entry : buttons.entrySet()) {
                 Integer integer = entry.getKey();
                 ItemMenuBuilder itemBuilder = entry.getValue();
-                if (!staticSlots.contains(integer))
+                if (integer == null || integer < 0 || integer >= inventorySize || !staticSlots[integer])
                     continue;
 
                 ItemMenuBuilder newItemBuilder = new ItemMenuBuilder(this, itemBuilder, itemBuilder.isBackButton());
+                if (itemBuilder.getClickHandler() != null)
+                    newItemBuilder.setOnClick(itemBuilder.getClickHandler());
                 if (itemBuilder.isPreviousButton()) {
                     if (this.isFirstPage())
                         continue;
@@ -150,6 +186,11 @@ public abstract class PaginatedMenu extends Menu {
     @Override
     public abstract @NotNull InventorySize getInventorySize();
 
+    /**
+     * Retrieves the total number of items of the menu, across all pages.
+     *
+     * @return The number of items available for pagination
+     */
     public abstract int getSizeOfItems();
 
     /**
@@ -0,0 +1,171 @@
+package fr.openmc.api.menulib;
+
+import fr.openmc.api.menulib.utils.InventorySize;
+import fr.openmc.api.packetmenulib.PacketMenuLib;
+import fr.openmc.api.packetmenulib.events.InventoryClickEvent;
+import fr.openmc.api.packetmenulib.events.InventoryCloseEvent;
+import fr.openmc.api.packetmenulib.menu.InventoryType;
+import fr.openmc.core.OMCPlugin;
+import lombok.Getter;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.MenuType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The client-side window of a read-only {@link Menu}, see {@link Menu#isReadOnly()}.
+ * <p>
+ * The menu is shown through {@link PacketMenuLib}: there is no server-side inventory nor holder.
+ * The view keeps the items last sent for each slot, so an update only sends the slots that changed.
+ */
+final class VirtualMenuView implements fr.openmc.api.packetmenulib.menu.Menu {
+    private static final int PLAYER_INVENTORY_SIZE = 36;
+
+    @Getter
+    private final Menu menu;
+    @Getter
+    private final Component title;
+    @Getter
+    private final InventoryType inventoryType;
+    private final ItemStack[] slots;
+
+    VirtualMenuView(Menu menu, Component title) {
+        this.menu = menu;
+        this.title = title;
+        this.inventoryType = getInventoryType(menu.getInventorySize());
+        this.slots = new ItemStack[menu.getInventorySize().getSize()];
+    }
+
+    /**
+     * @param player The player
+     * @return The view shown to the player, or {@code null} if the player is not looking at a read-only menu
+     */
+    static VirtualMenuView getShowing(Player player) {
+        return PacketMenuLib.getOpenMenus().get(player.getUniqueId()) instanceof VirtualMenuView view ? view : null;
+    }
+
+    boolean isShowing() {
+        return PacketMenuLib.getOpenMenus().get(menu.getOwner().getUniqueId()) == this;
+    }
+
+    int getSize() {
+        return slots.length;
+    }
+
+    /**
+     * Changes the item of a slot, and sends it to the client if the window is shown.
+     *
+     * @param slot The slot of the menu
+     * @param item The new item, or {@code null} to empty the slot
+     */
+    void setItem(int slot, ItemStack item) {
+        if (Objects.equals(slots[slot], item)) return;
+
+        slots[slot] = item;
+        if (isShowing())
+            PacketMenuLib.updateSlot(this, menu.getOwner().getPlayer(), slot, item);
+    }
+
+    /**
+     * Builds a view matching the window, for the click events given to the handlers of the menu.
+     * The view is never opened: its top inventory only holds a copy of the items shown.
+     *
+     * @param player The player who clicked
+     * @return The view
+     */
+    InventoryView createClickView(Player player) {
+        InventoryView view = getMenuType(menu.getInventorySize()).builder().title(title).build(player);
+        Inventory top = view.getTopInventory();
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (slots[slot] != null) top.setItem(slot, slots[slot]);
+        }
+        return view;
+    }
+
+    /**
+     * Shows the window to the owner, with every slot.
+     */
+    void show() {
+        PacketMenuLib.openMenu(this, menu.getOwner().getPlayer());
+    }
+
+    @Override
+    public Map<Integer, ItemStack> getContent() {
+        Map<Integer, ItemStack> content = new HashMap<>();
+        for (int slot = 0; slot < slots.length; slot++) {
+            if (slots[slot] != null) content.put(slot, slots[slot]);
+        }
+
+        // the window also covers the player's inventory, which must stay visible
+        ItemStack[] playerItems = menu.getOwner().getInventory().getStorageContents();
+        for (int i = 9; i < PLAYER_INVENTORY_SIZE; i++) {
+            content.put(slots.length + i - 9, playerItems[i]);
+        }
+        for (int i = 0; i < 9; i++) {
+            content.put(slots.length + 27 + i, playerItems[i]);
+        }
+        return content;
+    }
+
+    @Override
+    public void onInventoryClick(InventoryClickEvent inventoryClickEvent) {
+        int slot = inventoryClickEvent.slot();
+        if (slot < 0 || slot >= slots.length) return;
+
+        ClickType click = switch (inventoryClickEvent.clickType()) {
+            case LEFT_CLICK -> ClickType.LEFT;
+            case RIGHT_CLICK -> ClickType.RIGHT;
+            case SHIFT_LEFT_CLICK -> ClickType.SHIFT_LEFT;
+            case SHIFT_RIGHT_CLICK -> ClickType.SHIFT_RIGHT;
+            case DOUBLE_CLICK -> ClickType.DOUBLE_CLICK;
+            default -> null;
+        };
+        if (click == null) return;
+
+        // the packets are received on the network thread
+        Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
+            if (isShowing()) MenuLib.onVirtualClick(this, slot, inventoryClickEvent.player(), click);
+        });
+    }
+
+    @Override
+    public void onInventoryClose(InventoryCloseEvent inventoryCloseEvent) {
+        Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
+                MenuLib.onVirtualClose(menu, inventoryCloseEvent.player()));
+    }
+
+    @Override
+    public boolean isCursorItemEnabled() {
+        return false;
+    }
+
+    private static InventoryType getInventoryType(InventorySize size) {
+        return switch (size) {
+            case SMALLEST -> InventoryType.GENERIC_9X1;
+            case SMALL -> InventoryType.GENERIC_9X2;
+            case NORMAL -> InventoryType.GENERIC_9X3;
+            case LARGE -> InventoryType.GENERIC_9X4;
+            case LARGER -> InventoryType.GENERIC_9X5;
+            case LARGEST -> InventoryType.GENERIC_9X6;
+        };
+    }
+
+    private static MenuType.Typed<InventoryView, ?> getMenuType(InventorySize size) {
+        return switch (size) {
+            case SMALLEST -> MenuType.GENERIC_9X1;
+            case SMALL -> MenuType.GENERIC_9X2;
+            case NORMAL -> MenuType.GENERIC_9X3;
+            case LARGE -> MenuType.GENERIC_9X4;
+            case LARGER -> MenuType.GENERIC_9X5;
+            case LARGEST -> MenuType.GENERIC_9X6;
+        };
+    }
+}
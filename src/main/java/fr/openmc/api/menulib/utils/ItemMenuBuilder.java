@@ -19,6 +19,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * The {@code ItemBuilder} class is a utility for creating and customizing {@link ItemStack} objects
@@ -34,6 +35,12 @@ public class ItemMenuBuilder extends ItemBuilder {
 	private boolean nextButton;
 	@Getter
 	private boolean backButton;
+	@Getter
+	private Consumer<InventoryClickEvent> clickHandler;
+	@Getter
+	private long refreshInterval;
+	@Getter
+	private Supplier<ItemMenuBuilder> refresher;
 
 	/**
 	 * Constructs an {@code ItemBuilder} with the specified {@link Menu} and {@link Material}.
@@ -241,6 +248,7 @@ public class ItemMenuBuilder extends ItemBuilder {
 	 */
 	public ItemMenuBuilder setOnClick(Consumer<InventoryClickEvent> e) {
 		try {
+			this.clickHandler = e;
 			MenuLib.setItemClickEvent(itemMenu, this, e);
 		} catch (Exception ex) {
 			OMCLogger.error("An error occurred while setting the click event: {}", ex.getMessage(), ex);
@@ -248,6 +256,37 @@ public class ItemMenuBuilder extends ItemBuilder {
 		return this;
 	}
 	
+	/**
+	 * Declares the item as dynamic: while the menu is open, the item is rebuilt with the given supplier
+	 * every {@code intervalTicks} ticks, and pushed to the inventory only if it changed.
+	 * The other items of the menu are never rebuilt by this refresh.
+	 *
+	 * @param intervalTicks The number of ticks between two rebuilds
+	 * @param refresher     A {@link Supplier} building the new item of the slot
+	 * @return The current instance of {@link ItemMenuBuilder}, allowing method chaining
+	 * for further customization of the item.
+	 */
+	public ItemMenuBuilder setRefresh(long intervalTicks, Supplier<ItemMenuBuilder> refresher) {
+		this.refreshInterval = Math.max(1L, intervalTicks);
+		this.refresher = refresher;
+		return this;
+	}
+
+	public boolean isDynamic() {
+		return refresher != null;
+	}
+
+	/**
+	 * Keeps the click handler of the item this one replaces, when it does not declare its own.
+	 * The handler is not registered again in the menu.
+	 *
+	 * @param previous The item previously shown in the slot
+	 */
+	public void inheritClickHandler(ItemMenuBuilder previous) {
+		if (this.clickHandler == null && previous != null)
+			this.clickHandler = previous.getClickHandler();
+	}
+
 	/**
 	 * Sets the item to act as a close button. When the item is clicked, it closes
 	 * the inventory of the menu owner.
@@ -257,7 +296,7 @@ public class ItemMenuBuilder extends ItemBuilder {
 	 */
 	public ItemMenuBuilder setCloseButton() {
 		try {
-			Consumer<InventoryClickEvent> clickEventConsumer = inventoryClickEvent -> itemMenu.getOwner().closeInventory();
+			Consumer<InventoryClickEvent> clickEventConsumer = inventoryClickEvent -> MenuLib.closeMenu(itemMenu.getOwner());
 			setOnClick(clickEventConsumer);
 			return this;
 		} catch (Exception e) {
@@ -1,13 +1,9 @@
 package fr.openmc.api.menulib.utils;
 
-import fr.openmc.api.menulib.Menu;
-import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.List;
 import java.util.Map;
-import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
 public class MenuUtils {
@@ -36,64 +32,6 @@ public class MenuUtils {
 		}
 	}
 
-	/**
-	 * Set an Item to be refreshed.
-	 * @param player The Player
-	 * @param menu The Menu
-	 * @param slot Slot of Item
-	 * @param itemSupplier Supplier of Item
-	 * @return The ItemBuilder with the name set
-	 */
-	public static BukkitRunnable runDynamicItem(Player player, Menu menu, int slot, Supplier<ItemMenuBuilder> itemSupplier) {
-		return new BukkitRunnable() {
-			@Override
-			public void run() {
-				try {
-					if (!menu.getInventory().getHolder().equals(player.getOpenInventory().getTopInventory().getHolder())) {
-						cancel();
-						return;
-					}
-
-					ItemStack item = itemSupplier.get();
-					player.getOpenInventory().getTopInventory().setItem(slot, item);
-				} catch (Exception e) {
-                    throw new RuntimeException(e);
-				}
-			}
-		};
-	}
-
-	/**
-	 * Set an ButtonItem to be refreshed.
-	 *
-	 * @param player       The Player
-	 * @param menu         The Menu
-	 * @param slots        Slot of Item
-	 * @param itemSupplier Supplier of Item
-	 * @return The ItemBuilder with the name set
-	 */
-	public static BukkitRunnable runDynamicButtonItem(Player player, Menu menu, int[] slots, Supplier<ItemMenuBuilder> itemSupplier) {
-		return new BukkitRunnable() {
-			@Override
-			public void run() {
-				try {
-					if (!menu.getInventory().getHolder().equals(player.getOpenInventory().getTopInventory().getHolder())) {
-						cancel();
-						return;
-					}
-
-					ItemMenuBuilder item = itemSupplier.get();
-
-					for (int slot : slots) {
-						player.getOpenInventory().getTopInventory().setItem(slot, item);
-					}
-				} catch (Exception e) {
-					throw new RuntimeException(e);
-				}
-			}
-		};
-	}
-
 	/**
 	 * Get the inventory item slots (from 54 to 89)
 	 *
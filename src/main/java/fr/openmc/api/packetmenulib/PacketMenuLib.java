@@ -12,13 +12,17 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class PacketMenuLib {
+    private static final ItemStack EMPTY = ItemStack.empty();
 
+    // the maps are read and written from the main thread and from the network threads
     @Getter
-    private static final Map<UUID, Menu> openMenus = new HashMap<>();
+    private static final Map<UUID, Menu> openMenus = new ConcurrentHashMap<>();
     @Getter
-    private static final Map<UUID, Integer> windowIds = new HashMap<>();
+    private static final Map<UUID, Integer> windowIds = new ConcurrentHashMap<>();
+    private static final Map<UUID, Integer> stateIds = new ConcurrentHashMap<>();
     @Getter
     private static PacketMenuListener packetListener;
 
@@ -26,6 +30,13 @@ public final class PacketMenuLib {
         packetListener = new PacketMenuListener(plugin);
     }
 
+    /**
+     * @return {@code true} if the menus can be sent through packets (ProtocolLib is loaded)
+     */
+    public static boolean isEnabled() {
+        return packetListener != null;
+    }
+
     /**
      * Opens the specified menu for the given player and initializes the necessary packet communication.
      *
@@ -50,11 +61,22 @@ public final class PacketMenuLib {
         if (windowId != null) {
             PacketUtils.sendCloseInventoryPacket(player, windowId);
         }
-        windowIds.remove(player.getUniqueId());
-        openMenus.remove(player.getUniqueId());
+        forget(player.getUniqueId());
         updateInv(player);
     }
 
+    /**
+     * Forgets the menu open for a player, without sending any packet.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the menu that was open, or {@code null}
+     */
+    static Menu forget(UUID playerUUID) {
+        windowIds.remove(playerUUID);
+        stateIds.remove(playerUUID);
+        return openMenus.remove(playerUUID);
+    }
+
     /**
      * Updates the menu for the specified player with the given state ID.
      *
@@ -70,11 +92,67 @@ public final class PacketMenuLib {
             openMenus.remove(playerUUID);
             return;
         }
+        stateIds.put(playerUUID, stateId);
         ItemStack cursorItem = menu.isCursorItemEnabled() ? getCursorItem() : null;
         List<ItemStack> items = createItemList(menu);
         PacketUtils.sendContainerContentPacket(player, windowId, stateId, items, cursorItem);
     }
 
+    /**
+     * Sends a single slot of the menu, instead of the whole content.
+     *
+     * @param menu   the Menu instance the slot belongs to
+     * @param player the Player whose menu is being updated
+     * @param slot   the slot of the window
+     * @param item   the new item of the slot, or {@code null} to empty it
+     */
+    public static void updateSlot(Menu menu, Player player, int slot, ItemStack item) {
+        UUID playerUUID = player.getUniqueId();
+        Integer windowId = windowIds.get(playerUUID);
+
+        if (windowId == null || openMenus.get(playerUUID) != menu) return;
+
+        PacketUtils.sendSetSlotPacket(player, windowId, stateIds.getOrDefault(playerUUID, 1), slot, item == null ? EMPTY : item);
+    }
+
+    /**
+     * Sends the cursor item of the menu, instead of the whole content.
+     *
+     * @param menu   the Menu instance the cursor belongs to
+     * @param player the Player whose cursor is being updated
+     */
+    public static void updateCursor(Menu menu, Player player) {
+        if (openMenus.get(player.getUniqueId()) != menu) return;
+
+        PacketUtils.sendSetCursorItemPacket(player, menu.isCursorItemEnabled() ? getCursorItem() : EMPTY);
+    }
+
+    /**
+     * Reverts what the client predicted for a click in the menu.
+     * <p>
+     * Only the clicked slot and the cursor are sent back. The whole content is sent instead when the
+     * state id of the click is not the last one sent, or when the click can change several slots.
+     *
+     * @param menu       the Menu instance that was clicked
+     * @param player     the Player who clicked
+     * @param stateId    the state ID sent with the click
+     * @param slot       the clicked slot of the window
+     * @param multiSlots {@code true} if the click can change other slots than the clicked one
+     */
+    static void resyncClick(Menu menu, Player player, int stateId, int slot, boolean multiSlots) {
+        UUID playerUUID = player.getUniqueId();
+        if (openMenus.get(playerUUID) != menu) return;
+
+        if (multiSlots || !Objects.equals(stateIds.get(playerUUID), stateId)) {
+            updateMenu(menu, player, stateId);
+            return;
+        }
+
+        if (slot >= 0 && slot < menu.getInventoryType().getSlots())
+            updateSlot(menu, player, slot, menu.getContent().get(slot));
+        updateCursor(menu, player);
+    }
+
     /**
      * Updates the inventory of the specified player by retrieving their current inventory contents
      * and sending an updated packet with the inventory data.
@@ -83,7 +161,7 @@ public final class PacketMenuLib {
      */
     public static void updateInv(Player player) {
         List<ItemStack> items = getPlayerItems(player);
-        PacketUtils.sendContainerContentPacket(player, 0, 1, items, new ItemStack(Material.AIR));
+        PacketUtils.sendContainerContentPacket(player, 0, 1, items, EMPTY);
     }
 
     /**
@@ -109,13 +187,12 @@ public final class PacketMenuLib {
      * @return a {@code List<ItemStack>} containing the items from the menu's inventory
      */
     private static List<ItemStack> createItemList(Menu menu) {
-        List<ItemStack> items = new ArrayList<>();
-        for (int i = 0; i < menu.getInventoryType().getSlots(); i++) {
-            if (menu.getContent().containsKey(i)) {
-                items.add(menu.getContent().get(i));
-            } else {
-                items.add(new ItemStack(Material.AIR));
-            }
+        Map<Integer, ItemStack> content = menu.getContent();
+        int slots = menu.getInventoryType().getSlots();
+        List<ItemStack> items = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            ItemStack item = content.get(i);
+            items.add(item == null ? EMPTY : item);
         }
         return items;
     }
@@ -127,7 +204,7 @@ public final class PacketMenuLib {
      * @return a list of {@code ItemStack} representing the player's inventory items
      */
     private static List<ItemStack> getPlayerItems(Player player) {
-        List<ItemStack> items = new ArrayList<>(Collections.nCopies(45, new ItemStack(Material.AIR)));
+        List<ItemStack> items = new ArrayList<>(Collections.nCopies(45, EMPTY));
         ItemStack[] contents = player.getInventory().getContents();
         // hotbar
         for (int i = 0; i < 9; i++) {
@@ -11,6 +11,7 @@ import fr.openmc.api.packetmenulib.menu.ClickType;
 import fr.openmc.api.packetmenulib.menu.Menu;
 import lombok.Getter;
 import net.minecraft.world.inventory.ContainerInput;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
@@ -35,10 +36,10 @@ public class PacketMenuListener extends PacketAdapter {
             Player player = event.getPlayer();
             UUID uuid = player.getUniqueId();
 
-            if (PacketMenuLib.getOpenMenus().containsKey(uuid) && PacketMenuLib.getWindowIds().get(uuid) != windowId) {
-                PacketMenuLib.getOpenMenus().get(uuid).onInventoryClose(new InventoryCloseEvent(player));
-                PacketMenuLib.getOpenMenus().remove(uuid);
-                PacketMenuLib.getWindowIds().remove(uuid);
+            Integer packetMenuWindowId = PacketMenuLib.getWindowIds().get(uuid);
+            if (packetMenuWindowId != null && packetMenuWindowId != windowId) {
+                Menu menu = PacketMenuLib.forget(uuid);
+                if (menu != null) menu.onInventoryClose(new InventoryCloseEvent(player));
                 PacketMenuLib.updateInv(Objects.requireNonNull(player));
             }
         } else if (event.getPacketType() == PacketType.Play.Server.SET_SLOT && PacketMenuLib.getOpenMenus().containsKey(event.getPlayer().getUniqueId())) {
@@ -85,7 +86,12 @@ public class PacketMenuListener extends PacketAdapter {
                             default -> ClickType.OTHER;
                         };
 
-                        PacketMenuLib.updateMenu(menu, player, stateId);
+                        // double clicks and drags can change several slots, the other clicks only the clicked one
+                        boolean multiSlots = mode == 5 || mode == 6;
+
+                        // the content of the menu is read on the main thread, where the menu is changed
+                        Bukkit.getScheduler().runTask(plugin,
+                                () -> PacketMenuLib.resyncClick(menu, player, stateId, slot, multiSlots));
                         menu.onInventoryClick(new InventoryClickEvent(clickType, slot, player));
                     }
                 }
@@ -94,10 +100,9 @@ public class PacketMenuListener extends PacketAdapter {
             Player player = event.getPlayer();
             UUID uuid = player.getUniqueId();
 
-            if (PacketMenuLib.getOpenMenus().containsKey(uuid)) {
-                PacketMenuLib.getOpenMenus().get(uuid).onInventoryClose(new InventoryCloseEvent(player));
-                PacketMenuLib.getOpenMenus().remove(uuid);
-                PacketMenuLib.getWindowIds().remove(uuid);
+            Menu menu = PacketMenuLib.forget(uuid);
+            if (menu != null) {
+                menu.onInventoryClose(new InventoryCloseEvent(player));
                 PacketMenuLib.updateInv(Objects.requireNonNull(player));
             } // We don't verify if it is a good window id because if we do, the player can close the inventory without a packet and the event will never be called
         }
@@ -8,7 +8,6 @@ import fr.openmc.core.bootstrap.integration.OMCLogger;
 import io.papermc.paper.adventure.PaperAdventure;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.inventory.MenuType;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
@@ -38,7 +37,7 @@ public class PacketUtils {
 
             for (int i = 0; i < items.size(); i++) {
                 if (items.get(i) == null) {
-                    items.set(i, new ItemStack(Material.AIR));
+                    items.set(i, ItemStack.empty());
                 }
             }
 
@@ -54,6 +53,35 @@ public class PacketUtils {
         }
     }
 
+    public static void sendSetSlotPacket(Player player, int containerId, int stateId, int slot, ItemStack item) {
+        try {
+            PacketContainer packet = manager.createPacket(PacketType.Play.Server.SET_SLOT);
+
+            packet.getIntegers().write(0, containerId); // Window ID
+            packet.getIntegers().write(1, stateId); // State ID
+            packet.getIntegers().write(2, slot); // Slot
+
+            packet.getItemModifier().write(0, item);
+
+            // without the filters, the packet is not cancelled by our own listener while the menu is open
+            manager.sendServerPacket(player, packet, false);
+        } catch (Exception e) {
+            OMCLogger.warn("An error occurred while sending the set slot packet to {}: {}", player.getName(), e.getMessage(), e);
+        }
+    }
+
+    public static void sendSetCursorItemPacket(Player player, ItemStack item) {
+        try {
+            PacketContainer packet = manager.createPacket(PacketType.Play.Server.SET_CURSOR_ITEM);
+
+            packet.getItemModifier().write(0, item);
+
+            manager.sendServerPacket(player, packet);
+        } catch (Exception e) {
+            OMCLogger.warn("An error occurred while sending the set cursor item packet to {}: {}", player.getName(), e.getMessage(), e);
+        }
+    }
+
     public static void sendCloseInventoryPacket(Player player, int containerId) {
         try {
             PacketContainer packet = manager.createPacket(PacketType.Play.Server.CLOSE_WINDOW);
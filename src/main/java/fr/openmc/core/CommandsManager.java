@@ -6,6 +6,7 @@ import fr.openmc.api.entity.player.OMCPlayerParameterType;
 import fr.openmc.api.entity.player.OMCPlayerSenderResolver;
 import fr.openmc.core.commands.debug.ChronometerCommand;
 import fr.openmc.core.commands.debug.CustomItemCommand;
+import fr.openmc.core.commands.debug.DatabaseCommand;
 import fr.openmc.core.commands.debug.ToastCommand;
 import fr.openmc.core.commands.fun.Diceroll;
 import fr.openmc.core.commands.fun.Playtime;
@@ -57,6 +58,7 @@ public class CommandsManager {
                 new Restart(),
                 new CreditsCommand(),
                 new CustomItemCommand(),
+                new DatabaseCommand(),
                 new CustomAmbientCommands(),
                 new CustomMobsCommands(),
                 new ToastCommand(),
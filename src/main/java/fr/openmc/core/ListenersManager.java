@@ -20,6 +20,7 @@ public class ListenersManager {
                 OMCPlayerCacheListener::new,
                 HappyGhastListener::new,
                 SessionsListener::new,
+                PlayerDataListener::new,
                 JoinQuitMessageListener::new,
                 ClockInfos::new,
                 ChronometerListener::new,
@@ -30,8 +31,8 @@ public class ListenersManager {
                 () -> new AsyncChatListener(OMCPlugin.getInstance()),
                 NoMoreRabbit::new,
                 ArmorListener::new,
+                MovementDispatcher::new,
                 () -> new EntityGlowNMS(),
-                () -> new RegionTrackingListener(),
                 () -> new SpawnerExtractorListener(),
                 () -> new ItemsAddersListener()
         );
@@ -9,6 +9,7 @@ import fr.openmc.core.bootstrap.features.FeatureFactory;
 import fr.openmc.core.bootstrap.features.FeatureLoadingType;
 import fr.openmc.core.bootstrap.hooks.Hooks;
 import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader;
 import fr.openmc.core.bootstrap.integration.ErrorReporter;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
 import fr.openmc.core.bootstrap.listeners.ListenerFactory;
@@ -45,6 +46,7 @@ import fr.openmc.core.features.leaderboards.LeaderboardManager;
 import fr.openmc.core.features.mailboxes.MailboxManager;
 import fr.openmc.core.features.mainmenu.MainMenu;
 import fr.openmc.core.features.milestones.MilestonesManager;
+import fr.openmc.core.features.playtime.PlaytimeManager;
 import fr.openmc.core.features.privatemessage.PrivateMessageManager;
 import fr.openmc.core.features.privatemessage.SocialSpyManager;
 import fr.openmc.core.features.profile.ProfileManager;
@@ -104,6 +106,7 @@ public class OMCPlugin extends JavaPlugin {
             FreezeManager::new,
             TransactionsManager::new,
             AnalyticsManager::new,
+            PlaytimeManager::new,
             FriendManager::new,
             () -> new TabList(),
             AdminShopManager::new,
@@ -168,6 +171,7 @@ public class OMCPlugin extends JavaPlugin {
         configs = this.getConfig();
         OMCLogger.setRuntimeLogger(this.getSLF4JLogger());
         DatabaseManager.init();
+        PlayerDataLoader.init();
 
         /* EXTERNALS */
         MenuLib.init(this);
@@ -250,6 +254,10 @@ public class OMCPlugin extends JavaPlugin {
             feature.startSave();
         }
 
+        /* DATABASE */
+        PlayerDataLoader.close();
+        DatabaseManager.close();
+
         /* REGISTRIES */
         OMCRegistry.stopAll();
 
@@ -4,7 +4,9 @@ import com.j256.ormlite.support.ConnectionSource;
 import fr.openmc.core.CommandsManager;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.bootstrap.features.types.*;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader;
 import fr.openmc.core.bootstrap.listeners.ListenerFactory;
 
 import java.sql.SQLException;
@@ -45,6 +47,10 @@ public abstract class Feature {
                         CommandsManager.getHandler().register(command);
                     }
                 }
+            // Charge les données des joueurs à chaque connexion
+            if (this instanceof HasPlayerData hasPlayerData) {
+                PlayerDataLoader.register(hasPlayerData);
+            }
 
             initialize = true;
             OMCLogger.successFormatted("Feature " + this.getClass().getSimpleName() + " initialisée correctement.");
@@ -81,6 +87,8 @@ public abstract class Feature {
         if (this instanceof NotLoadInUnitTest && OMCPlugin.isUnitTestVersion()) return;
 
         try {
+            // Les écritures différées doivent arriver avant la sauvegarde complète de la feature
+            DatabaseManager.drainWriteQueue();
             save();
             OMCLogger.successFormatted("Feature " + this.getClass().getSimpleName() + " sauvegardée correctement.");
         } catch (Exception e) {
@@ -0,0 +1,33 @@
+package fr.openmc.core.bootstrap.features.types;
+
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader.Session;
+
+import java.util.UUID;
+
+/**
+ * Interface permettant aux features de charger les données d'un joueur avant qu'il ne rejoigne le serveur,
+ * et de les retirer de la mémoire quand il part.
+ */
+public interface HasPlayerData {
+    /**
+     * Charge les données du joueur. Appelé sur un thread du pool pendant l'AsyncPlayerPreLoginEvent,
+     * en même temps que les autres features : peut bloquer, mais ne doit pas toucher au monde.
+     *
+     * Les données lues doivent être appliquées en mémoire par {@link Session#apply(Runnable)} :
+     * un chargement qui se termine après la déconnexion du joueur est ainsi ignoré.
+     *
+     * @param playerUUID L'UUID du joueur
+     * @param session    La connexion pour laquelle les données sont chargées
+     * @throws Exception Si le chargement échoue, la feature doit alors charger les données plus tard
+     */
+    void loadPlayerData(UUID playerUUID, Session session) throws Exception;
+
+    /**
+     * Retire les données du joueur de la mémoire, sur le thread principal, à sa déconnexion.
+     *
+     * @param playerUUID L'UUID du joueur
+     */
+    default void unloadPlayerData(UUID playerUUID) {
+        // doit etre @Override dans les features qui gardent des données par joueur
+    }
+}
@@ -1,9 +1,7 @@
 package fr.openmc.core.bootstrap.integration;
 
-import com.j256.ormlite.jdbc.JdbcPooledConnectionSource;
 import com.j256.ormlite.logger.Level;
 import com.j256.ormlite.logger.LocalLogBackend;
-import com.j256.ormlite.support.ConnectionSource;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.bootstrap.features.Feature;
 import lombok.Getter;
@@ -17,7 +15,9 @@ import java.sql.SQLException;
  */
 public class DatabaseManager {
     @Getter
-    private static ConnectionSource connectionSource;
+    private static MonitoredConnectionSource connectionSource;
+    @Getter
+    private static DatabaseWriteQueue writeQueue;
 
     /**
      * Initialise le driver, la connexion pool et les features de type DB.
@@ -42,7 +42,11 @@ public class DatabaseManager {
             String databaseUrl = config.getString("database.url");
             String username = config.getString("database.username");
             String password = config.getString("database.password");
-            connectionSource = new JdbcPooledConnectionSource(databaseUrl, username, password);
+            connectionSource = createConnectionSource(config, databaseUrl, username, password);
+            writeQueue = new DatabaseWriteQueue(connectionSource,
+                    config.getLong("database.write-queue.flush-interval", 1000L),
+                    config.getInt("database.write-queue.batch-size", 200),
+                    config.getInt("database.write-queue.max-pending", 5000));
 
             OMCPlugin.getInstance().REGISTRY_HOOKS
                     .forEach(h -> {
@@ -85,6 +89,89 @@ public class DatabaseManager {
         }
     }
 
+    /**
+     * Crée la connexion pool à partir de la section {@code database.pool} de la configuration.
+     *
+     * @param config      Configuration du plugin
+     * @param databaseUrl URL JDBC
+     * @param username    Utilisateur
+     * @param password    Mot de passe
+     * @return La connexion pool configurée
+     * @throws SQLException Si la connexion échoue
+     */
+    private static MonitoredConnectionSource createConnectionSource(FileConfiguration config, String databaseUrl,
+                                                                    String username, String password) throws SQLException {
+        int statementCacheSize = config.getInt("database.pool.statement-cache-size", 250);
+        if (statementCacheSize > 0 && databaseUrl != null && databaseUrl.startsWith("jdbc:mysql") && !databaseUrl.contains("cachePrepStmts")) {
+            databaseUrl += (databaseUrl.contains("?") ? "&" : "?")
+                    + "cachePrepStmts=true&useServerPrepStmts=true&prepStmtCacheSize=" + statementCacheSize;
+        }
+
+        MonitoredConnectionSource source = new MonitoredConnectionSource(databaseUrl, username, password);
+        source.setMaxConnections(config.getInt("database.pool.max-connections", 10));
+        source.setMaxConnectionsFree(config.getInt("database.pool.max-idle-connections", 5));
+        source.setMaxConnectionAgeMillis(config.getLong("database.pool.max-connection-age", 1800000L));
+        source.setCheckConnectionsEveryMillis(config.getLong("database.pool.check-interval", 30000L));
+        source.setValidationQuery(config.getString("database.pool.validation-query", ""));
+        source.setValidationIntervalMillis(config.getLong("database.pool.validation-interval", 30000L));
+
+        int minConnections = config.getInt("database.pool.min-connections", 0);
+        if (minConnections > 0) source.warmUp(minConnections);
+
+        return source;
+    }
+
+    /**
+     * Ajoute une écriture à la file différée partagée.
+     *
+     * @param key  Clé de la ligne modifiée, les mutations d'une même clé sont fusionnées
+     * @param type Type de mutation
+     * @param task L'opération base de données
+     */
+    public static void queue(Object key, DatabaseWriteQueue.MutationType type, DatabaseWriteQueue.SqlTask task) {
+        writeQueue.submit(key, type, task);
+    }
+
+    /**
+     * Ajoute une écriture sans clé à la file différée partagée.
+     *
+     * @param task L'opération base de données
+     */
+    public static void queue(DatabaseWriteQueue.SqlTask task) {
+        writeQueue.submit(task);
+    }
+
+    /**
+     * Ecrit immédiatement toutes les mutations en attente.
+     */
+    public static void drainWriteQueue() {
+        if (writeQueue != null) writeQueue.drain();
+    }
+
+    /**
+     * Ecrit immédiatement les mutations en attente dont la clé contient {@code keyPart}.
+     *
+     * @param keyPart       Une des valeurs de la clé, ex : l'UUID d'un joueur
+     * @param timeoutMillis Délai d'attente maximum, en millisecondes
+     * @return true si les mutations ont été écrites dans le délai
+     */
+    public static boolean drainWriteQueue(Object keyPart, long timeoutMillis) {
+        return writeQueue == null || writeQueue.drain(keyPart, timeoutMillis);
+    }
+
+    /**
+     * Vide la file d'écriture et ferme la connexion pool.
+     */
+    public static void close() {
+        if (writeQueue != null) writeQueue.close();
+
+        try {
+            if (connectionSource != null) connectionSource.close();
+        } catch (Exception e) {
+            OMCLogger.error("Failed to close the database connection.", e);
+        }
+    }
+
     /**
      * Filtre les logs OrmLite trop verbeux lors du demarrage.
      */
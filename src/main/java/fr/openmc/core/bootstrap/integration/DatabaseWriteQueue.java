@@ -0,0 +1,356 @@
+package fr.openmc.core.bootstrap.integration;
+
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.support.ConnectionSource;
+import org.bukkit.Bukkit;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * File d'écriture différée (write-behind) partagée par les features.
+ * <p>
+ * Les mutations sont regroupées par clé : une mutation plus récente sur la même clé remplace
+ * l'ancienne (ex : un claim puis un unclaim du même chunk ne font qu'une requête).
+ * Les mutations en attente sont appliquées par lots, chaque lot dans une seule transaction,
+ * sur un unique thread dédié.
+ */
+public class DatabaseWriteQueue {
+
+    /**
+     * Une opération base de données à exécuter plus tard.
+     */
+    @FunctionalInterface
+    public interface SqlTask {
+        void run() throws SQLException;
+    }
+
+    /**
+     * Type d'une mutation, utilisé pour fusionner les mutations d'une même clé.
+     */
+    public enum MutationType {
+        /**
+         * Insère une ligne, s'exécute après une éventuelle suppression en attente sur la même clé
+         */
+        CREATE,
+        /**
+         * Ecrit l'état complet d'une ligne, remplace toute mutation en attente sur la même clé
+         */
+        UPSERT,
+        /**
+         * Supprime une ou plusieurs lignes, remplace toute mutation en attente sur la même clé
+         */
+        DELETE
+    }
+
+    private static final class PendingMutation {
+        private SqlTask delete;
+        private SqlTask write;
+
+        private void merge(MutationType type, SqlTask task) {
+            switch (type) {
+                case DELETE -> {
+                    delete = task;
+                    write = null;
+                }
+                case UPSERT -> {
+                    delete = null;
+                    write = task;
+                }
+                case CREATE -> write = task;
+            }
+        }
+
+        private void apply() throws SQLException {
+            if (delete != null) delete.run();
+            if (write != null) write.run();
+        }
+    }
+
+    private final ConnectionSource connectionSource;
+    private final int batchSize;
+    private final int maxPending;
+    private final long flushIntervalMs;
+
+    private final Map<Object, PendingMutation> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+    private final AtomicLong flushedMutations = new AtomicLong();
+    private final AtomicLong mergedMutations = new AtomicLong();
+    private boolean closed = false;
+
+    /**
+     * Crée la file et planifie les flushs périodiques.
+     *
+     * @param connectionSource Source de connexion ORMLite
+     * @param flushIntervalMs  Délai entre deux flushs, en millisecondes
+     * @param batchSize        Nombre maximum de mutations par transaction
+     * @param maxPending       Nombre de mutations en attente au-delà duquel les threads asynchrones sont bloqués
+     */
+    public DatabaseWriteQueue(ConnectionSource connectionSource, long flushIntervalMs, int batchSize, int maxPending) {
+        this.connectionSource = connectionSource;
+        this.flushIntervalMs = flushIntervalMs;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPending = Math.max(this.batchSize, maxPending);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "OpenMC-DatabaseWriteQueue");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Construit une clé de mutation à partir de plusieurs valeurs (ex : nom de table et identifiant).
+     *
+     * @param parts Les valeurs composant la clé
+     * @return La clé
+     */
+    public static Object key(Object... parts) {
+        return List.of(parts);
+    }
+
+    /**
+     * Ajoute une mutation sans clé : elle ne sera jamais fusionnée avec une autre.
+     *
+     * @param task L'opération à exécuter
+     */
+    public void submit(SqlTask task) {
+        submit(new Object(), MutationType.CREATE, task);
+    }
+
+    /**
+     * Ajoute une mutation à la file, en la fusionnant avec celle en attente sur la même clé.
+     *
+     * @param key  Clé identifiant la ligne modifiée (doit implémenter equals/hashCode)
+     * @param type Type de mutation
+     * @param task L'opération à exécuter
+     */
+    public void submit(Object key, MutationType type, SqlTask task) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(task, "task");
+
+        int size;
+        synchronized (pending) {
+            if (closed) {
+                runNow(task);
+                return;
+            }
+
+            PendingMutation mutation = pending.remove(key);
+            if (mutation == null) {
+                mutation = new PendingMutation();
+            } else {
+                mergedMutations.incrementAndGet();
+            }
+            mutation.merge(type, task);
+            pending.put(key, mutation);
+            size = pending.size();
+        }
+
+        if (size >= batchSize) requestFlush();
+        if (size >= maxPending) awaitCapacity();
+    }
+
+    /**
+     * Vide la file de manière synchrone. A appeler lors des sauvegardes et de l'arrêt du plugin.
+     */
+    public void drain() {
+        if (executor.isShutdown()) {
+            flushSafely();
+            return;
+        }
+
+        try {
+            executor.submit(this::flushSafely).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            OMCLogger.error("Failed to drain the database write queue", e);
+        }
+    }
+
+    /**
+     * Ecrit de manière synchrone les mutations en attente dont la clé contient {@code keyPart}
+     * (ex : l'UUID d'un joueur), sans écrire celles des autres clés.
+     *
+     * @param keyPart       Une des valeurs passées à {@link #key(Object...)}
+     * @param timeoutMillis Délai d'attente maximum, en millisecondes
+     * @return true si les mutations ont été écrites dans le délai
+     */
+    public boolean drain(Object keyPart, long timeoutMillis) {
+        if (executor.isShutdown()) {
+            flushMatching(keyPart);
+            return true;
+        }
+
+        try {
+            executor.submit(() -> flushMatching(keyPart)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            OMCLogger.error("Failed to drain the database write queue for {}", keyPart, e);
+            return false;
+        }
+    }
+
+    /**
+     * Vide la file puis arrête le thread d'écriture. Les mutations soumises ensuite sont exécutées immédiatement.
+     */
+    public void close() {
+        drain();
+        synchronized (pending) {
+            closed = true;
+        }
+        executor.shutdown();
+        flushSafely();
+    }
+
+    /**
+     * @return Le nombre de mutations en attente
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * @return Le nombre de mutations écrites depuis le démarrage
+     */
+    public long getFlushedCount() {
+        return flushedMutations.get();
+    }
+
+    /**
+     * @return Le nombre de mutations fusionnées avec une mutation en attente
+     */
+    public long getMergedCount() {
+        return mergedMutations.get();
+    }
+
+    private void requestFlush() {
+        if (executor.isShutdown() || !flushRequested.compareAndSet(false, true)) return;
+
+        executor.execute(() -> {
+            flushRequested.set(false);
+            flushSafely();
+        });
+    }
+
+    /**
+     * Back-pressure : bloque les threads asynchrones tant que la file est pleine.
+     * Le thread principal n'est jamais bloqué, un flush immédiat est simplement demandé.
+     */
+    private void awaitCapacity() {
+        if (Bukkit.isPrimaryThread()) {
+            OMCLogger.warn("Database write queue is full ({} pending mutations)", maxPending);
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + Math.max(flushIntervalMs, 1000L) * 10;
+        synchronized (pending) {
+            while (pending.size() >= maxPending && System.currentTimeMillis() < deadline) {
+                try {
+                    pending.wait(flushIntervalMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            OMCLogger.error("Failed to flush the database write queue", e);
+        }
+    }
+
+    private void flush() {
+        while (true) {
+            List<PendingMutation> batch = new ArrayList<>(batchSize);
+            synchronized (pending) {
+                Iterator<PendingMutation> iterator = pending.values().iterator();
+                while (iterator.hasNext() && batch.size() < batchSize) {
+                    batch.add(iterator.next());
+                    iterator.remove();
+                }
+                pending.notifyAll();
+            }
+
+            if (batch.isEmpty()) return;
+
+            applyBatch(batch);
+            flushedMutations.addAndGet(batch.size());
+        }
+    }
+
+    private void flushMatching(Object keyPart) {
+        List<PendingMutation> batch = new ArrayList<>();
+        synchronized (pending) {
+            Iterator<Map.Entry<Object, PendingMutation>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Object, PendingMutation> entry = iterator.next();
+                if (entry.getKey() instanceof List<?> parts && parts.contains(keyPart)) {
+                    batch.add(entry.getValue());
+                    iterator.remove();
+                }
+            }
+            pending.notifyAll();
+        }
+
+        if (batch.isEmpty()) return;
+
+        applyBatch(batch);
+        flushedMutations.addAndGet(batch.size());
+    }
+
+    private void applyBatch(List<PendingMutation> batch) {
+        try {
+            TransactionManager.callInTransaction(connectionSource, () -> {
+                for (PendingMutation mutation : batch) {
+                    mutation.apply();
+                }
+                return null;
+            });
+        } catch (SQLException e) {
+            // La transaction a été annulée : on rejoue une à une pour ne perdre que les mutations fautives
+            OMCLogger.warn("Batched database write failed, retrying {} mutations one by one", batch.size(), e);
+            for (PendingMutation mutation : batch) {
+                try {
+                    mutation.apply();
+                } catch (SQLException ex) {
+                    OMCLogger.error("Failed to apply a database mutation", ex);
+                }
+            }
+        }
+    }
+
+    private void runNow(SqlTask task) {
+        try {
+            task.run();
+        } catch (SQLException e) {
+            OMCLogger.error("Failed to apply a database mutation", e);
+        }
+    }
+}
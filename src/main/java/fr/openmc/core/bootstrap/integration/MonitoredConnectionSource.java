@@ -0,0 +1,262 @@
+package fr.openmc.core.bootstrap.integration;
+
+import com.j256.ormlite.jdbc.JdbcPooledConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de connexions ORMLite instrumenté.
+ * <p>
+ * Mesure le temps d'attente pour obtenir une connexion et la durée d'utilisation
+ * de chaque connexion par table (histogramme de latence par DAO).
+ * Peut aussi valider les connexions avec une requête personnalisée avant de les donner.
+ * <p>
+ * Le pool ORMLite ouvre autant de connexions que demandé : le nombre de threads qui en utilisent
+ * une en même temps est donc limité ici. Un thread qui emprunte déjà une connexion (transaction,
+ * requête imbriquée) n'attend jamais une deuxième place, pour ne pas se bloquer lui-même.
+ */
+public class MonitoredConnectionSource extends JdbcPooledConnectionSource {
+    /**
+     * Bornes supérieures (en ms) des tranches de l'histogramme de latence. La dernière tranche n'a pas de borne.
+     */
+    public static final long[] LATENCY_BUCKETS_MS = {1, 5, 20, 100, 500};
+    private static final long MAX_WAIT_MILLIS = 30_000L;
+
+    private record Borrow(String table, long startNanos) {}
+
+    private final ThreadLocal<ArrayDeque<Borrow>> borrows = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<String, TableMetrics> tableMetrics = new ConcurrentHashMap<>();
+    private final Map<DatabaseConnection, Long> lastValidation = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder waitTotalNanos = new LongAdder();
+    private final AtomicLong waitMaxNanos = new AtomicLong();
+    private final LongAdder validationFailures = new LongAdder();
+
+    private Semaphore slots;
+    @Getter
+    private int maxConnections;
+    @Setter
+    private String validationQuery;
+    @Setter
+    private long validationIntervalMillis;
+
+    public MonitoredConnectionSource(String url, String username, String password) throws SQLException {
+        super(url, username, password);
+    }
+
+    /**
+     * Limite le nombre de threads qui utilisent une connexion en même temps.
+     * A appeler avant la première utilisation du pool.
+     *
+     * @param maxConnections Nombre maximum, 0 ou moins pour ne pas limiter
+     */
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = Math.max(0, maxConnections);
+        this.slots = this.maxConnections > 0 ? new Semaphore(this.maxConnections, true) : null;
+    }
+
+    @Override
+    public DatabaseConnection getReadWriteConnection(String tableName) throws SQLException {
+        long start = System.nanoTime();
+        ArrayDeque<Borrow> threadBorrows = borrows.get();
+        boolean acquired = threadBorrows.isEmpty() && acquireSlot();
+
+        DatabaseConnection connection;
+        try {
+            connection = super.getReadWriteConnection(tableName);
+
+            if (!isValid(connection)) {
+                validationFailures.increment();
+                connection.closeQuietly();
+                super.releaseConnection(connection);
+                connection = super.getReadWriteConnection(tableName);
+            }
+        } catch (SQLException | RuntimeException e) {
+            if (acquired) slots.release();
+            throw e;
+        }
+
+        long now = System.nanoTime();
+        recordWait(now - start);
+        threadBorrows.push(new Borrow(tableName == null ? "?" : tableName, now));
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(DatabaseConnection connection) throws SQLException {
+        ArrayDeque<Borrow> threadBorrows = borrows.get();
+        Borrow borrow = threadBorrows.poll();
+        if (borrow != null) {
+            tableMetrics.computeIfAbsent(borrow.table(), table -> new TableMetrics())
+                    .record(System.nanoTime() - borrow.startNanos());
+        }
+
+        try {
+            super.releaseConnection(connection);
+        } finally {
+            if (borrow != null && threadBorrows.isEmpty() && slots != null) slots.release();
+        }
+    }
+
+    /**
+     * @return true si une place a été prise, false si le nombre de connexions n'est pas limité
+     */
+    private boolean acquireSlot() throws SQLException {
+        if (slots == null) return false;
+
+        try {
+            if (slots.tryAcquire(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        throw new SQLException("No database connection available after " + MAX_WAIT_MILLIS + " ms ("
+                + maxConnections + " max)");
+    }
+
+    /**
+     * Ouvre des connexions à l'avance pour que le pool en garde au moins {@code count} prêtes.
+     *
+     * @param count Nombre de connexions à ouvrir
+     */
+    public void warmUp(int count) throws SQLException {
+        if (maxConnections > 0) count = Math.min(count, maxConnections);
+
+        List<DatabaseConnection> connections = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                connections.add(super.getReadWriteConnection(null));
+            }
+        } finally {
+            for (DatabaseConnection connection : connections) {
+                super.releaseConnection(connection);
+            }
+        }
+    }
+
+    private boolean isValid(DatabaseConnection connection) {
+        if (validationQuery == null || validationQuery.isBlank()) return true;
+        // la connexion d'une transaction en cours ne doit jamais être fermée
+        if (isSavedConnection(connection)) return true;
+
+        long now = System.currentTimeMillis();
+        Long last = lastValidation.get(connection);
+        if (last != null && now - last < validationIntervalMillis) return true;
+
+        try {
+            connection.executeStatement(validationQuery, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            lastValidation.put(connection, now);
+            return true;
+        } catch (SQLException e) {
+            lastValidation.remove(connection);
+            return false;
+        }
+    }
+
+    private void recordWait(long nanos) {
+        waitCount.increment();
+        waitTotalNanos.add(nanos);
+        waitMaxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * @return Le nombre de connexions actuellement utilisées
+     */
+    public int getActiveConnections() {
+        return Math.max(0, getCurrentConnectionsManaged() - getCurrentConnectionsFree());
+    }
+
+    /**
+     * @return Le temps d'attente moyen pour obtenir une connexion, en millisecondes
+     */
+    public double getAverageWaitMillis() {
+        long count = waitCount.sum();
+        return count == 0 ? 0 : waitTotalNanos.sum() / (count * 1_000_000.0);
+    }
+
+    /**
+     * @return Le temps d'attente maximal pour obtenir une connexion, en millisecondes
+     */
+    public double getMaxWaitMillis() {
+        return waitMaxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * @return Le nombre de connexions rejetées par la requête de validation
+     */
+    public long getValidationFailures() {
+        return validationFailures.sum();
+    }
+
+    /**
+     * @return Les métriques de latence par table
+     */
+    public Map<String, TableMetrics> getTableMetrics() {
+        return Collections.unmodifiableMap(tableMetrics);
+    }
+
+    /**
+     * Remet à zéro les métriques de temps d'attente et de latence.
+     */
+    public void resetMetrics() {
+        tableMetrics.clear();
+        waitCount.reset();
+        waitTotalNanos.reset();
+        waitMaxNanos.set(0);
+        validationFailures.reset();
+    }
+
+    /**
+     * Histogramme de latence des requêtes d'une table.
+     */
+    public static class TableMetrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(LATENCY_BUCKETS_MS.length + 1);
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+
+            long millis = nanos / 1_000_000L;
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKETS_MS.length && millis >= LATENCY_BUCKETS_MS[bucket]) bucket++;
+            buckets.incrementAndGet(bucket);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getAverageMillis() {
+            long total = count.sum();
+            return total == 0 ? 0 : totalNanos.sum() / (total * 1_000_000.0);
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        public long getBucket(int index) {
+            return buckets.get(index);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package fr.openmc.core.bootstrap.integration;
+
+import fr.openmc.core.OMCPlugin;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Chargeur de tables en deux étapes, utilisé au démarrage des features.
+ * <p>
+ * Les requêtes indépendantes ({@link #fetch}) sont lancées en même temps sur un pool de threads,
+ * puis leurs résultats sont appliqués aux index en mémoire ({@link #apply}) sur le thread appelant,
+ * dans l'ordre voulu. Le temps de requête et d'indexation de chaque étape est mesuré.
+ */
+public class ParallelTableLoader implements AutoCloseable {
+
+    /**
+     * Une requête exécutée sur un thread du pool.
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+        T run() throws SQLException;
+    }
+
+    /**
+     * Le résultat à venir d'une requête lancée par {@link #fetch}.
+     */
+    public static final class Stage<T> {
+        private final String name;
+        private CompletableFuture<T> future;
+        private long queryNanos;
+
+        private Stage(String name) {
+            this.name = name;
+        }
+    }
+
+    private record Timing(String name, int rows, long queryMillis, long applyMillis) {}
+
+    private final String name;
+    private final ExecutorService executor;
+    private final List<Timing> timings = new ArrayList<>();
+    private final long start = System.nanoTime();
+
+    /**
+     * @param name    Nom du chargement, utilisé dans les logs
+     * @param threads Nombre de requêtes exécutées en même temps
+     */
+    public ParallelTableLoader(String name, int threads) {
+        this.name = name;
+
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "OpenMC-Loader-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Crée un chargeur dont le nombre de threads est lu dans {@code database.loader-threads}.
+     *
+     * @param name Nom du chargement, utilisé dans les logs
+     */
+    public ParallelTableLoader(String name) {
+        this(name, OMCPlugin.getConfigs().getInt("database.loader-threads", 4));
+    }
+
+    /**
+     * Lance une requête sur le pool.
+     *
+     * @param name  Nom de l'étape
+     * @param query La requête, qui ne doit pas toucher aux index en mémoire
+     * @return L'étape, à passer à {@link #apply}
+     */
+    public <T> Stage<T> fetch(String name, Query<T> query) {
+        Stage<T> stage = new Stage<>(name);
+        stage.future = CompletableFuture.supplyAsync(() -> {
+            long queryStart = System.nanoTime();
+            try {
+                return query.run();
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            } finally {
+                stage.queryNanos = System.nanoTime() - queryStart;
+            }
+        }, executor);
+        return stage;
+    }
+
+    /**
+     * Attend le résultat d'une étape puis l'applique sur le thread appelant.
+     *
+     * @param stage  L'étape lancée par {@link #fetch}
+     * @param action L'indexation du résultat
+     * @throws RuntimeException Si la requête a échoué
+     */
+    public <T> void apply(Stage<T> stage, Consumer<T> action) {
+        T result;
+        try {
+            result = stage.future.join();
+        } catch (CompletionException e) {
+            throw new RuntimeException("Erreur du chargement de " + stage.name, e.getCause());
+        }
+
+        long applyStart = System.nanoTime();
+        action.accept(result);
+        long applyNanos = System.nanoTime() - applyStart;
+
+        int rows = result instanceof Collection<?> collection ? collection.size() : 1;
+        timings.add(new Timing(stage.name, rows, stage.queryNanos / 1_000_000L, applyNanos / 1_000_000L));
+    }
+
+    /**
+     * Log le temps total et le détail de chaque étape.
+     */
+    public void logTimings() {
+        StringBuilder details = new StringBuilder();
+        for (Timing timing : timings) {
+            if (!details.isEmpty()) details.append(", ");
+            details.append(timing.name()).append(" : ").append(timing.rows())
+                    .append(" (requête ").append(timing.queryMillis())
+                    .append(" ms, indexation ").append(timing.applyMillis()).append(" ms)");
+        }
+
+        OMCLogger.infoFormatted("Chargement des {} en {} ms - {}",
+                name, (System.nanoTime() - start) / 1_000_000L, details);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,152 @@
+package fr.openmc.core.bootstrap.integration;
+
+import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.bootstrap.features.types.HasPlayerData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Chargement des données d'un joueur pendant sa connexion.
+ * <p>
+ * Les features {@link HasPlayerData} sont chargées en même temps sur un pool de threads pendant
+ * l'AsyncPlayerPreLoginEvent : leurs données sont prêtes avant le PlayerJoinEvent, sans requête
+ * sur le thread principal. A la déconnexion, chaque feature retire les données du joueur de la mémoire.
+ * <p>
+ * Un chargement trop lent n'est pas annulé : il applique ses données par sa {@link Session},
+ * qui les ignore une fois le joueur déconnecté.
+ */
+public class PlayerDataLoader {
+    private static final List<HasPlayerData> features = new CopyOnWriteArrayList<>();
+    private static final Map<UUID, Session> sessions = new ConcurrentHashMap<>();
+
+    private static ExecutorService executor;
+    private static long timeoutMillis;
+
+    /**
+     * Une connexion d'un joueur. Les données lues pour une session ne sont plus appliquées
+     * après la déconnexion du joueur, même si la lecture se termine après le délai de connexion.
+     */
+    public static final class Session {
+        private boolean active = true;
+
+        /**
+         * Applique des données lues, si le joueur ne s'est pas déconnecté depuis le début du chargement.
+         * La déconnexion attend la fin d'une application en cours.
+         *
+         * @param action L'application des données en mémoire
+         * @return true si les données ont été appliquées
+         */
+        public synchronized boolean apply(Runnable action) {
+            if (!active) return false;
+            action.run();
+            return true;
+        }
+
+        private synchronized void end() {
+            active = false;
+        }
+    }
+
+    /**
+     * Crée le pool de threads, dont la taille est lue dans {@code database.loader-threads}.
+     */
+    public static void init() {
+        timeoutMillis = OMCPlugin.getConfigs().getLong("database.player-data-timeout", 5000L);
+        int threads = Math.max(1, OMCPlugin.getConfigs().getInt("database.loader-threads", 4));
+
+        AtomicInteger counter = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "OpenMC-PlayerData-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Arrête le pool de threads.
+     */
+    public static void close() {
+        if (executor != null) executor.shutdownNow();
+        features.clear();
+    }
+
+    /**
+     * @param feature La feature dont les données sont chargées à chaque connexion
+     */
+    public static void register(HasPlayerData feature) {
+        features.add(feature);
+    }
+
+    /**
+     * Charge les données du joueur dans toutes les features, et attend la fin des chargements.
+     * Une feature en erreur ou trop lente est loggée : elle charge alors ses données à l'arrivée du joueur.
+     *
+     * @param playerUUID L'UUID du joueur
+     */
+    public static void load(UUID playerUUID) {
+        if (features.isEmpty() || executor == null) return;
+
+        Session session = new Session();
+        Session previous = sessions.put(playerUUID, session);
+        if (previous != null) previous.end();
+
+        long start = System.nanoTime();
+        // les écritures de la déconnexion précédente doivent être en base avant de relire
+        if (!DatabaseManager.drainWriteQueue(playerUUID, timeoutMillis)) {
+            OMCLogger.warn("Pending writes of {} not written after {} ms", playerUUID, timeoutMillis);
+        }
+
+        List<CompletableFuture<Void>> loads = new ArrayList<>(features.size());
+        for (HasPlayerData feature : features) {
+            loads.add(CompletableFuture.runAsync(() -> {
+                try {
+                    feature.loadPlayerData(playerUUID, session);
+                } catch (Exception e) {
+                    OMCLogger.error("Failed to load {} data for player {}", feature.getClass().getSimpleName(), playerUUID, e);
+                }
+            }, executor));
+        }
+
+        long remainingMillis = Math.max(0L, timeoutMillis - (System.nanoTime() - start) / 1_000_000L);
+        try {
+            CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).get(remainingMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            OMCLogger.warn("Player data of {} still loading after {} ms", playerUUID, timeoutMillis);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            OMCLogger.error("Failed to load the data of player {}", playerUUID, e);
+            return;
+        }
+
+        long millis = (System.nanoTime() - start) / 1_000_000L;
+        if (millis > timeoutMillis / 5) {
+            OMCLogger.warn("Player data of {} loaded in {} ms", playerUUID, millis);
+        }
+    }
+
+    /**
+     * Retire les données du joueur de toutes les features.
+     *
+     * @param playerUUID L'UUID du joueur
+     */
+    public static void unload(UUID playerUUID) {
+        Session session = sessions.remove(playerUUID);
+        if (session != null) session.end();
+
+        for (HasPlayerData feature : features) {
+            try {
+                feature.unloadPlayerData(playerUUID);
+            } catch (Exception e) {
+                OMCLogger.error("Failed to unload {} data for player {}", feature.getClass().getSimpleName(), playerUUID, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package fr.openmc.core.commands.debug;
+
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.MonitoredConnectionSource;
+import fr.openmc.core.bootstrap.integration.MonitoredConnectionSource.TableMetrics;
+import fr.openmc.core.utils.text.messages.MessageType;
+import fr.openmc.core.utils.text.messages.MessagesManager;
+import fr.openmc.core.utils.text.messages.Prefix;
+import fr.openmc.core.utils.text.messages.TranslationManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.command.CommandSender;
+import revxrsal.commands.annotation.Command;
+import revxrsal.commands.annotation.Description;
+import revxrsal.commands.annotation.Subcommand;
+import revxrsal.commands.bukkit.annotation.CommandPermission;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@Command("debug database")
+@CommandPermission("omc.debug.database")
+public class DatabaseCommand {
+    private static final int MAX_TABLES = 10;
+
+    @Subcommand("stats")
+    @Description("Affiche l'état de la connexion pool et la latence des requêtes par table")
+    public void stats(CommandSender sender) {
+        MonitoredConnectionSource source = DatabaseManager.getConnectionSource();
+        DatabaseWriteQueue queue = DatabaseManager.getWriteQueue();
+
+        MessagesManager.sendMessage(sender, TranslationManager.translation("command.debug.database.pool",
+                Component.text(source.getActiveConnections()),
+                Component.text(source.getCurrentConnectionsFree()),
+                Component.text(source.getMaxConnectionsEverUsed()),
+                Component.text(source.getCreateCount())
+        ), Prefix.STAFF, MessageType.INFO, false);
+
+        MessagesManager.sendMessage(sender, TranslationManager.translation("command.debug.database.wait",
+                Component.text(format(source.getAverageWaitMillis())),
+                Component.text(format(source.getMaxWaitMillis())),
+                Component.text(source.getValidationFailures())
+        ), Prefix.STAFF, MessageType.INFO, false);
+
+        MessagesManager.sendMessage(sender, TranslationManager.translation("command.debug.database.queue",
+                Component.text(queue.getPendingCount()),
+                Component.text(queue.getFlushedCount()),
+                Component.text(queue.getMergedCount())
+        ), Prefix.STAFF, MessageType.INFO, false);
+
+        source.getTableMetrics().entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, TableMetrics> entry) ->
+                        entry.getValue().getAverageMillis() * entry.getValue().getCount()).reversed())
+                .limit(MAX_TABLES)
+                .forEach(entry -> {
+                    TableMetrics metrics = entry.getValue();
+                    MessagesManager.sendMessage(sender, TranslationManager.translation("command.debug.database.table",
+                            Component.text(entry.getKey()),
+                            Component.text(metrics.getCount()),
+                            Component.text(format(metrics.getAverageMillis())),
+                            Component.text(format(metrics.getMaxMillis())),
+                            Component.text(histogram(metrics))
+                    ), Prefix.STAFF, MessageType.INFO, false);
+                });
+    }
+
+    @Subcommand("reset")
+    @Description("Remet à zéro les métriques de la base de données")
+    public void reset(CommandSender sender) {
+        DatabaseManager.getConnectionSource().resetMetrics();
+        MessagesManager.sendMessage(sender, TranslationManager.translation("command.debug.database.reset"),
+                Prefix.STAFF, MessageType.SUCCESS, false);
+    }
+
+    private static String histogram(TableMetrics metrics) {
+        long[] bounds = MonitoredConnectionSource.LATENCY_BUCKETS_MS;
+        StringJoiner joiner = new StringJoiner(" ");
+        for (int i = 0; i < bounds.length; i++) {
+            joiner.add("<" + bounds[i] + "ms:" + metrics.getBucket(i));
+        }
+        joiner.add(">=" + bounds[bounds.length - 1] + "ms:" + metrics.getBucket(bounds.length));
+        return joiner.toString();
+    }
+
+    private static String format(double millis) {
+        return String.format("%.2f", millis);
+    }
+}
@@ -0,0 +1,42 @@
+package fr.openmc.core.events;
+
+import lombok.Getter;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Appelé par {@link fr.openmc.core.listeners.MovementDispatcher} quand un joueur change de biome.
+ */
+@Getter
+public class PlayerBiomeChangeEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+    private final World world;
+    private final Biome from;
+    private final Biome to;
+
+    /**
+     * @param player Le joueur
+     * @param world  Monde du nouveau biome (le joueur peut encore être dans l'ancien pendant une téléportation)
+     * @param from   Biome précédent, null à la connexion
+     * @param to     Nouveau biome
+     */
+    public PlayerBiomeChangeEvent(Player player, World world, Biome from, Biome to) {
+        super(player);
+        this.world = world;
+        this.from = from;
+        this.to = to;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,74 @@
+package fr.openmc.core.events;
+
+import lombok.Getter;
+import org.bukkit.Location;
+import org.bukkit.block.Biome;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Appelé par {@link fr.openmc.core.listeners.MovementDispatcher} quand un joueur change de bloc
+ * (déplacement, téléportation ou respawn, voir {@link #getCause()}).
+ */
+@Getter
+public class PlayerBlockChangeEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+    private final Location from;
+    private final Location to;
+    private final Biome biome;
+    private final Cause cause;
+
+    /**
+     * Origine du changement de bloc.
+     */
+    public enum Cause {
+        /** Le joueur s'est déplacé ({@link org.bukkit.event.player.PlayerMoveEvent}) */
+        MOVE,
+        /** Le joueur a été téléporté */
+        TELEPORT,
+        /** Le joueur a réapparu après sa mort */
+        RESPAWN
+    }
+
+    /**
+     * @param player Le joueur
+     * @param from   Position précédente, null à la connexion
+     * @param to     Nouvelle position
+     * @param biome  Biome à la nouvelle position
+     * @param cause  Origine du changement
+     */
+    public PlayerBlockChangeEvent(Player player, Location from, Location to, Biome biome, Cause cause) {
+        super(player);
+        this.from = from;
+        this.to = to;
+        this.biome = biome;
+        this.cause = cause;
+    }
+
+    /**
+     * @return true si le changement vient d'un déplacement du joueur, et pas d'une téléportation ou d'un respawn
+     */
+    public boolean isMove() {
+        return cause == Cause.MOVE;
+    }
+
+    /**
+     * @return true si le joueur a changé de colonne (X ou Z), et pas seulement de hauteur
+     */
+    public boolean isHorizontal() {
+        return from == null
+                || from.getBlockX() != to.getBlockX()
+                || from.getBlockZ() != to.getBlockZ();
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -0,0 +1,39 @@
+package fr.openmc.core.events;
+
+import fr.openmc.core.features.city.City;
+import lombok.Getter;
+import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.player.PlayerEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Appelé par {@link fr.openmc.core.listeners.MovementDispatcher} quand un joueur entre dans une ville,
+ * en sort, ou passe directement d'une ville à une autre.
+ */
+@Getter
+public class PlayerCityChangeEvent extends PlayerEvent {
+    private static final HandlerList HANDLERS = new HandlerList();
+    private final City from;
+    private final City to;
+
+    /**
+     * @param player Le joueur
+     * @param from   Ville quittée, ou null
+     * @param to     Ville où se trouve maintenant le joueur, ou null
+     */
+    public PlayerCityChangeEvent(Player player, City from, City to) {
+        super(player);
+        this.from = from;
+        this.to = to;
+    }
+
+    public static HandlerList getHandlerList() {
+        return HANDLERS;
+    }
+
+    @Override
+    public @NotNull HandlerList getHandlers() {
+        return HANDLERS;
+    }
+}
@@ -127,12 +127,11 @@ public class ChallengeListener implements Listener {
 
     @EventHandler
     public void onPlayerMove(PlayerMoveEvent event) {
-        if (event.getFrom().distanceSquared(event.getTo()) == 0) return;
-
         ChatAnimation animation = ChatAnimationManager.getActive();
         if (animation == null) return;
         if (!(animation instanceof WalkDistanceChallenge challenge)) return;
         if (animation.isFinished()) return;
+        if (!event.hasChangedPosition()) return;
 
         Player player = event.getPlayer();
         double distance = event.getFrom().distance(event.getTo());
@@ -48,8 +48,6 @@ public class City {
     @Getter
     private String name;
     @Getter private final UUID uniqueId;
-    private Set<UUID> members;
-    private Set<ChunkPos> chunks; // Liste des chunks claims par la ville
     private HashMap<UUID, Set<CityPermission>> permissions;
     private Set<DBCityRank> cityRanks;
     private HashMap<Integer, ItemStack[]> chestContent;
@@ -77,16 +75,12 @@ public class City {
         this.freeClaims = FREE_CLAIMS;
         this.level = 1;
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
 
         CityManager.registerCity(this);
 
-        this.members = new HashSet<>();
         this.permissions = new HashMap<>();
         this.cityRanks = new HashSet<>();
-        this.chunks = new HashSet<>();
         this.chestContent = new HashMap<>();
       
         addChunk(chunk.getX(), chunk.getZ());
@@ -112,6 +106,8 @@ public class City {
         this.powerPoints = power;
         this.type = CityType.valueOf(type.toUpperCase());
         this.level = level;
+        this.permissions = new HashMap<>();
+        this.chestContent = new HashMap<>();
 
         CityManager.registerCity(this);
     }
@@ -123,26 +119,34 @@ public class City {
         return new DBCity(uniqueId, name, balance, type.name(), powerPoints, freeClaims, level);
     }
 
+    /**
+     * Adds a permission read from the database, without saving it again
+     */
+    void loadPermission(UUID player, CityPermission permission) {
+        permissions.computeIfAbsent(player, uuid -> new HashSet<>()).add(permission);
+    }
+
+    /**
+     * Adds a chest page read from the database, without saving it again
+     */
+    void loadChestPage(int page, ItemStack[] content) {
+        chestContent.put(page, content);
+    }
+
     // ==================== Global Methods ====================
 
     /**
      * Gets all the member of this city
      */
     public Set<UUID> getMembers() {
-        if (this.members == null)
-            this.members = CityManager.getCityMembers(this);
-
-        return this.members;
+        return CityManager.getCityMembers(this);
     }
 
     /**
-     * Gets all the member of this city
+     * Gets all the chunks claimed by this city
      */
     public Set<ChunkPos> getChunks() {
-        if (this.chunks == null)
-            this.chunks = CityManager.getCityChunks(this);
-
-        return this.chunks;
+        return CityManager.getCityChunks(this);
     }
 
     public void rename(String newName) {
@@ -152,18 +156,14 @@ public class City {
 
         this.name = newName;
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
     }
 
     public void changeType() {
         if (this.type == CityType.WAR) this.type = CityType.PEACE;
         else if (this.type == CityType.PEACE) this.type = CityType.WAR;
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
     }
 
     // ==================== Members Methods ====================
@@ -197,10 +197,6 @@ public class City {
      * @param player The UUID of the player to add.
      */
     public void addPlayer(UUID player) {
-        if (this.members == null)
-            this.members = CityManager.getCityMembers(this);
-
-        members.add(player);
         Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
                 Bukkit.getPluginManager().callEvent(new MemberJoinEvent(CacheOfflinePlayer.getOfflinePlayer(player), this))
         );
@@ -214,15 +210,11 @@ public class City {
      * @param playerUUID The UUID of the player leaving the city.
      */
     public void removePlayer(UUID playerUUID) {
-        if (this.members == null)
-            this.members = CityManager.getCityMembers(this);
-
         OfflinePlayer offlinePlayer = CacheOfflinePlayer.getOfflinePlayer(playerUUID);
 
         if (offlinePlayer.isOnline() && offlinePlayer instanceof Player player)
             player.closeInventory();
 
-        members.remove(playerUUID);
         permissions.remove(playerUUID);
         Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
             Bukkit.getPluginManager()
@@ -248,9 +240,7 @@ public class City {
      */
     public void updateFreeClaims(int diff) {
         freeClaims += diff;
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
     }
 
     // ==================== Chest Methods ====================
@@ -262,9 +252,6 @@ public class City {
      * @return The content of the chest page as an array of ItemStack.
      */
     public ItemStack[] getChestContent(int page) {
-        if (this.chestContent == null)
-            this.chestContent = CityManager.getCityChestContent(this);
-
         if (page > getChestPages())
             page = getChestPages();
 
@@ -278,14 +265,9 @@ public class City {
      * @param content The content to save as an array of ItemStack.
      */
     public void saveChestContent(int page, ItemStack[] content) {
-        if (this.chestContent == null)
-            this.chestContent = CityManager.getCityChestContent(this);
-
         chestContent.put(page, content);
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveChestPage(this, page, content)
-        );
+        CityManager.saveChestPage(this, page, content);
     }
 
     /**
@@ -294,9 +276,6 @@ public class City {
      * @return The number of pages for the city's chest.
      */
     public @NotNull Integer getChestPages() {
-        if (this.chestContent == null)
-            this.chestContent = CityManager.getCityChestContent(this);
-
         if (this.chestContent.isEmpty())
             saveChestContent(1, null);
 
@@ -313,15 +292,10 @@ public class City {
      * @param z The chunk Z to be added.
      */
     public void addChunk(int x, int z) {
-        if (this.chunks == null)
-            this.chunks = CityManager.getCityChunks(this);
-
-        ChunkPos chunkPos = new ChunkPos(x, z);
-        if (chunks.contains(chunkPos))
+        if (hasChunk(x, z))
             return;
-        chunks.add(chunkPos);
 
-        CityManager.claimChunk(this, chunkPos);
+        CityManager.claimChunk(this, new ChunkPos(x, z));
     }
 
     /**
@@ -332,13 +306,7 @@ public class City {
      * @param chunkZ The Z coordinate of the chunk to be removed.
      */
     public void removeChunk(int chunkX, int chunkZ) {
-        if (this.chunks == null)
-            this.chunks = CityManager.getCityChunks(this);
-
-        ChunkPos chunkPos = new ChunkPos(chunkX, chunkZ);
-        chunks.remove(chunkPos);
-
-        CityManager.unclaimChunk(this, chunkPos);
+        CityManager.unclaimChunk(this, new ChunkPos(chunkX, chunkZ));
     }
 
     /**
@@ -349,10 +317,7 @@ public class City {
      * @return True if the chunk is claimed, false otherwise.
      */
     public boolean hasChunk(int x, int z) {
-        if (this.chunks == null)
-            this.chunks = CityManager.getCityChunks(this);
-
-        return chunks.contains(new ChunkPos(x, z));
+        return CityManager.getCityFromChunk(x, z) == this;
     }
 
     // ==================== Economy Methods ====================
@@ -366,11 +331,10 @@ public class City {
     public void setBalance(double value) {
         double before = this.balance;
         this.balance = value;
+        CityManager.getBalanceIndex().update(uniqueId, value);
 
         // Sauvegarde async
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
 
         // Event sync
         Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
@@ -435,9 +399,6 @@ public class City {
      * @return The UUID of the player with the permission, or null if not found.
      */
     public UUID getPlayerWithPermission(CityPermission permission) {
-        if (this.permissions == null)
-            this.permissions = CityManager.getCityPermissions(this);
-
         for (UUID player : permissions.keySet()) {
             if (permissions.get(player).contains(permission)) {
                 return player;
@@ -453,9 +414,6 @@ public class City {
      * @return A set of permissions for the player.
      */
     public Set<CityPermission> getPermissions(UUID player) {
-        if (this.permissions == null)
-            this.permissions = CityManager.getCityPermissions(this);
-
         return permissions.get(player);
     }
 
@@ -467,10 +425,7 @@ public class City {
      * @return True if the player has the permission, false otherwise.
      */
     public boolean hasPermission(UUID uuid, CityPermission permission) {
-        if (this.permissions == null)
-            this.permissions = CityManager.getCityPermissions(this);
-
-        Set<CityPermission> playerPerms = permissions.getOrDefault(uuid, new HashSet<>());
+        Set<CityPermission> playerPerms = permissions.getOrDefault(uuid, Set.of());
         
         if (playerPerms.contains(CityPermission.OWNER)) {
             return true;
@@ -487,9 +442,6 @@ public class City {
      * @param permission The permission to add.
      */
     public void addPermission(UUID playerUUID, CityPermission permission) {
-        if (this.permissions == null)
-            this.permissions = CityManager.getCityPermissions(this);
-
         Set<CityPermission> playerPerms = permissions.getOrDefault(playerUUID, new HashSet<>());
 
         if (playerPerms.contains(permission))
@@ -498,9 +450,7 @@ public class City {
         playerPerms.add(permission);
         permissions.put(playerUUID, playerPerms);
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.addPlayerPermission(this, playerUUID, permission)
-        );
+        CityManager.addPlayerPermission(this, playerUUID, permission);
 
         Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
             Bukkit.getPluginManager().callEvent(
@@ -516,8 +466,6 @@ public class City {
      * @param permission The permission to remove.
      */
     public void removePermission(UUID playerUUID, CityPermission permission) {
-        if (this.permissions == null) this.permissions = CityManager.getCityPermissions(this);
-
         Set<CityPermission> playerPerms = permissions.get(playerUUID);
         
         if (playerPerms == null) return;
@@ -527,8 +475,7 @@ public class City {
         playerPerms.remove(permission);
         permissions.put(playerUUID, playerPerms);
         
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.removePlayerPermission(this, playerUUID, permission));
+        CityManager.removePlayerPermission(this, playerUUID, permission);
         Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
                 Bukkit.getPluginManager().callEvent(new CityPermissionChangeEvent(this,
                         CacheOfflinePlayer.getOfflinePlayer(playerUUID), permission, false)));
@@ -623,9 +570,7 @@ public class City {
      */
     public void updatePowerPoints(int diff) {
         powerPoints += diff;
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
     }
     
     /* =================== RANKS =================== */
@@ -872,8 +817,6 @@ public class City {
 
     public void setLevel(int newLevel) {
         this.level = newLevel;
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
-                CityManager.saveCity(this)
-        );
+        CityManager.saveCity(this);
     }
 }
@@ -3,7 +3,6 @@ package fr.openmc.core.features.city;
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.stmt.DeleteBuilder;
-import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
 import fr.openmc.api.chronometer.Chronometer;
@@ -15,6 +14,10 @@ import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
 import fr.openmc.core.bootstrap.features.types.HasListeners;
 import fr.openmc.core.bootstrap.features.types.LoadAfterItemsAdder;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
+import fr.openmc.core.bootstrap.integration.ParallelTableLoader;
 import fr.openmc.core.bootstrap.listeners.ListenerFactory;
 import fr.openmc.core.features.city.commands.*;
 import fr.openmc.core.features.city.events.CityDeleteEvent;
@@ -32,7 +35,10 @@ import fr.openmc.core.features.city.sub.rank.CityRankManager;
 import fr.openmc.core.features.city.sub.statistics.CityStatisticsManager;
 import fr.openmc.core.features.city.sub.war.WarManager;
 import fr.openmc.core.features.city.view.CityViewManager;
+import fr.openmc.core.listeners.MovementDispatcher;
 import fr.openmc.core.utils.cache.CacheOfflinePlayer;
+import fr.openmc.core.utils.types.RankedIndex;
+import fr.openmc.core.utils.world.chunk.ChunkIndex;
 import fr.openmc.core.utils.world.chunk.ChunkPos;
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
@@ -48,7 +54,10 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
     private static final Map<UUID, City> cities = new HashMap<>();
     public static final Map<String, City> citiesByName = new HashMap<>();
     public static final Map<UUID, City> playerCities = new HashMap<>();
-    private static final Map<ChunkPos, City> claimedChunks = new HashMap<>();
+    private static final ChunkIndex<City> claimedChunks = new ChunkIndex<>();
+    private static final Map<UUID, Set<ChunkPos>> chunksByCity = new HashMap<>();
+    private static final Map<UUID, Set<UUID>> membersByCity = new HashMap<>();
+    private static final RankedIndex<UUID> balanceIndex = new RankedIndex<>();
 
     @Override
     public void init() {
@@ -59,9 +68,7 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
         ProtectionsManager.init();
         WarManager.init();
         CityBankManager.init();
-        CityStatisticsManager.init();
         NotationManager.init();
-        CityRankManager.init();
         CityMilestoneManager.init();
     }
 
@@ -138,43 +145,101 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
 
     // ==================== Database Methods ====================
 
+    /**
+     * Loads the cities and the data of every city sub-feature.
+     * <p>
+     * The table queries run in parallel on a {@link ParallelTableLoader}, then the results are indexed
+     * on the calling thread in dependency order: cities first, then everything that references a city.
+     */
     private static void loadCities() {
-        try {
-            cities.clear();
-            for (DBCity dbCity : citiesDao.queryForAll()) {
-                cities.put(dbCity.getUniqueId(), dbCity.deserialize());
-            }
+        try (ParallelTableLoader loader = new ParallelTableLoader("villes")) {
+            var dbCities = loader.fetch("villes", citiesDao::queryForAll);
+            var dbMembers = loader.fetch("membres", membersDao::queryForAll);
+            var dbClaims = loader.fetch("claims", claimsDao::queryForAll);
+            var dbPermissions = loader.fetch("permissions", permissionsDao::queryForAll);
+            var dbChestPages = loader.fetch("pages de coffre", chestsDao::queryForAll);
+            var dbRanks = loader.fetch("grades", CityRankManager::fetchRanks);
+            var mayorConstant = loader.fetch("phase des maires", MayorManager::fetchMayorConstant);
+            var mayors = loader.fetch("maires", MayorManager::fetchCityMayors);
+            var candidates = loader.fetch("candidats", MayorManager::fetchMayorCandidates);
+            var votes = loader.fetch("votes", MayorManager::fetchPlayersVote);
+            var laws = loader.fetch("lois", MayorManager::fetchCityLaws);
+            var warHistories = loader.fetch("historiques de guerre", WarManager::fetchWarHistories);
+            var statistics = loader.fetch("statistiques", CityStatisticsManager::fetchCityStatistics);
+            var notations = loader.fetch("notations", NotationManager::fetchNotations);
+            var activities = loader.fetch("activités", NotationManager::fetchActivityTimePlayed);
+
+            loader.apply(dbCities, rows -> {
+                cities.clear();
+                citiesByName.clear();
+                balanceIndex.clear();
+                for (DBCity dbCity : rows) {
+                    City city = dbCity.deserialize();
+                    cities.put(city.getUniqueId(), city);
+                    citiesByName.put(city.getName(), city);
+                    balanceIndex.update(city.getUniqueId(), city.getBalance());
+                }
+                cities.values().forEach(City::initializeRanks);
+            });
 
-            citiesByName.clear();
-            for (DBCity dbCity : citiesDao.queryForAll()) {
-                City city = getCity(dbCity.getUniqueId());
-                if (city != null) citiesByName.put(city.getName(), city);
-            }
+            loader.apply(dbMembers, rows -> {
+                playerCities.clear();
+                membersByCity.clear();
+                for (DBCityMember member : rows) {
+                    City city = getCity(member.getCityUUID());
+                    if (city == null) continue;
 
-            playerCities.clear();
-            for (DBCityMember member : membersDao.queryForAll()) {
-                City city = getCity(member.getCityUUID());
-                if (city != null) playerCities.put(member.getPlayerUUID(), city);
-            }
+                    playerCities.put(member.getPlayerUUID(), city);
+                    membersOf(city).add(member.getPlayerUUID());
+                }
+            });
 
-            claimedChunks.clear();
-            for (DBCityClaim claim : claimsDao.queryForAll()) {
-                City city = getCity(claim.getCityUUID());
-                if (city != null) claimedChunks.put(claim.getChunkPos(), city);
-            }
+            loader.apply(dbClaims, rows -> {
+                claimedChunks.clear();
+                chunksByCity.clear();
+                for (DBCityClaim claim : rows) {
+                    City city = getCity(claim.getCityUUID());
+                    if (city == null) continue;
+
+                    claimedChunks.put(claim.getX(), claim.getZ(), city);
+                    chunksOf(city).add(claim.getChunkPos());
+                }
+            });
+
+            loader.apply(dbPermissions, rows -> {
+                for (DBCityPermission dbPermission : rows) {
+                    City city = getCity(dbPermission.getCityUUID());
+                    if (city != null) city.loadPermission(dbPermission.getPlayer(), dbPermission.getPermission());
+                }
+            });
+
+            loader.apply(dbChestPages, rows -> {
+                for (DBCityChest page : rows) {
+                    City city = getCity(page.getCityUUID());
+                    if (city != null) city.loadChestPage(page.getPage(), page.getContent());
+                }
+            });
 
-            cities.values().forEach(City::initializeRanks);
-        } catch (SQLException e) {
-            throw new RuntimeException("Erreur du chargement des villes ", e);
+            loader.apply(dbRanks, CityRankManager::loadRanks);
+            loader.apply(mayorConstant, MayorManager::loadMayorConstant);
+            loader.apply(mayors, MayorManager::loadCityMayors);
+            loader.apply(candidates, MayorManager::loadMayorCandidates);
+            loader.apply(votes, MayorManager::loadPlayersVote);
+            loader.apply(laws, MayorManager::loadCityLaws);
+            loader.apply(warHistories, WarManager::loadWarHistories);
+            loader.apply(statistics, CityStatisticsManager::loadCityStatistics);
+            loader.apply(notations, NotationManager::loadNotations);
+            loader.apply(activities, NotationManager::loadActivityTimePlayed);
+
+            loader.logTimings();
         }
     }
 
     public static void saveCity(City city) {
-        try {
-            citiesDao.createOrUpdate(city.serialize());
-        } catch (SQLException e) {
-            throw new RuntimeException("Erreur de la sauvegarde des villes ", e);
-        }
+        // Sérialisée ici : le thread d'écriture ne doit pas lire la ville pendant qu'elle est modifiée
+        DBCity snapshot = city.serialize();
+        DatabaseManager.queue(DatabaseWriteQueue.key("cities", city.getUniqueId()), MutationType.UPSERT,
+                () -> citiesDao.createOrUpdate(snapshot));
     }
 
     /**
@@ -186,16 +251,14 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
     public static void addPlayerToCity(City city, UUID playerUUID) {
         if (city == null || playerUUID == null) return;
 
-        playerCities.put(playerUUID, city);
+        City previous = playerCities.put(playerUUID, city);
+        if (previous != null && previous != city)
+            removeFrom(membersByCity, previous, playerUUID);
+        membersOf(city).add(playerUUID);
         CityViewManager.updateView(playerUUID);
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
-            try {
-                membersDao.create(new DBCityMember(playerUUID, city.getUniqueId()));
-            } catch (SQLException e) {
-                throw new RuntimeException("Erreur d'ajout de membre dans une ville '", e);
-            }
-        });
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_members", city.getUniqueId(), playerUUID), MutationType.CREATE,
+                () -> membersDao.create(new DBCityMember(playerUUID, city.getUniqueId())));
     }
 
     /**
@@ -207,118 +270,70 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
     public static void removePlayerFromCity(City city, UUID playerUUID) {
         if (city == null || playerUUID == null) return;
 
-        playerCities.remove(playerUUID);
+        playerCities.remove(playerUUID, city);
+        removeFrom(membersByCity, city, playerUUID);
         CityViewManager.updateView(playerUUID);
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
-            try {
-                membersDao.delete(new DBCityMember(playerUUID, city.getUniqueId()));
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
-        });
-    }
-
-    public static HashMap<UUID, Set<CityPermission>> getCityPermissions(City city) {
-        HashMap<UUID, Set<CityPermission>> permissions = new HashMap<>();
-
-        try {
-            QueryBuilder<DBCityPermission, String> query = permissionsDao.queryBuilder();
-            query.where().eq("city_uuid", city.getUniqueId());
-            List<DBCityPermission> dbPermissions = permissionsDao.query(query.prepare());
-
-            dbPermissions.forEach(dbPermission -> {
-                Set<CityPermission> playerPermissions = permissions.getOrDefault(dbPermission.getPlayer(),
-                        new HashSet<>());
-                playerPermissions.add(dbPermission.getPermission());
-                permissions.put(dbPermission.getPlayer(), playerPermissions);
-            });
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return permissions;
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_members", city.getUniqueId(), playerUUID), MutationType.DELETE,
+                () -> membersDao.delete(new DBCityMember(playerUUID, city.getUniqueId())));
     }
 
     public static void addPlayerPermission(City city, UUID playerUUID, CityPermission permission) {
-        try {
-            permissionsDao.create(new DBCityPermission(city.getUniqueId(), playerUUID, permission.name()));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_permissions", city.getUniqueId(), playerUUID, permission),
+                MutationType.CREATE,
+                () -> permissionsDao.create(new DBCityPermission(city.getUniqueId(), playerUUID, permission.name())));
     }
 
     public static void removePlayerPermission(City city, UUID playerUUID, CityPermission permission) {
-        try {
-            DeleteBuilder<DBCityPermission, String> delete = permissionsDao.deleteBuilder();
-            delete.where()
-                    .eq("city_uuid", city.getUniqueId())
-                    .and()
-                    .eq("player", playerUUID)
-                    .and()
-                    .eq("permission", permission.name());
-            permissionsDao.delete(delete.prepare());
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public static HashMap<Integer, ItemStack[]> getCityChestContent(City city) {
-        HashMap<Integer, ItemStack[]> pages = new HashMap<>();
-
-        try {
-            QueryBuilder<DBCityChest, String> query = chestsDao.queryBuilder();
-            query.where().eq("city_uuid", city.getUniqueId());
-            List<DBCityChest> dbChestPages = chestsDao.query(query.prepare());
-
-            dbChestPages.forEach(page -> pages.put(page.getPage(), page.getContent()));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
-
-        return pages;
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_permissions", city.getUniqueId(), playerUUID, permission),
+                MutationType.DELETE, () -> {
+                    DeleteBuilder<DBCityPermission, String> delete = permissionsDao.deleteBuilder();
+                    delete.where()
+                            .eq("city_uuid", city.getUniqueId())
+                            .and()
+                            .eq("player", playerUUID)
+                            .and()
+                            .eq("permission", permission.name());
+                    permissionsDao.delete(delete.prepare());
+                });
     }
 
     public static void saveChestPage(City city, int page, ItemStack[] content) {
-        try {
+        DBCityChest snapshot = new DBCityChest(city.getUniqueId(), page, content);
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_chests", city.getUniqueId(), page), MutationType.UPSERT, () -> {
             DeleteBuilder<DBCityChest, String> delete = chestsDao.deleteBuilder();
             delete.where().eq("city_uuid", city.getUniqueId()).and().eq("page", page);
             chestsDao.delete(delete.prepare());
 
-            chestsDao.create(new DBCityChest(city.getUniqueId(), page, content));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+            chestsDao.create(snapshot);
+        });
     }
 
     public static void claimChunk(City city, ChunkPos chunkPos) {
-        claimedChunks.put(chunkPos, city);
+        City previous = claimedChunks.put(chunkPos.x(), chunkPos.z(), city);
+        if (previous != null && previous != city)
+            removeFrom(chunksByCity, previous, chunkPos);
+        chunksOf(city).add(chunkPos);
         CityViewManager.updateAllViews();
+        MovementDispatcher.refreshCities();
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
-            try {
-                claimsDao.create(new DBCityClaim(chunkPos, city.getUniqueId()));
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
-        });
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_regions", city.getUniqueId(), chunkPos), MutationType.CREATE,
+                () -> claimsDao.create(new DBCityClaim(chunkPos, city.getUniqueId())));
     }
 
     public static void unclaimChunk(City city, ChunkPos chunkPos) {
-        claimedChunks.remove(chunkPos);
+        claimedChunks.remove(chunkPos.x(), chunkPos.z(), city);
+        removeFrom(chunksByCity, city, chunkPos);
         CityViewManager.updateAllViews();
+        MovementDispatcher.refreshCities();
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
-            try {
-                DeleteBuilder<DBCityClaim, String> delete = claimsDao.deleteBuilder();
-                delete.where().eq("city_uuid", city.getUniqueId())
-                        .and().eq("x", chunkPos.x())
-                        .and().eq("z", chunkPos.z());
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_regions", city.getUniqueId(), chunkPos), MutationType.DELETE, () -> {
+            DeleteBuilder<DBCityClaim, String> delete = claimsDao.deleteBuilder();
+            delete.where().eq("city_uuid", city.getUniqueId())
+                    .and().eq("x", chunkPos.x())
+                    .and().eq("z", chunkPos.z());
 
-                claimsDao.delete(delete.prepare());
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
+            claimsDao.delete(delete.prepare());
         });
     }
 
@@ -333,6 +348,15 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
         return cities.values();
     }
 
+    /**
+     * Get the cities ranked by balance, kept up to date on every balance change
+     *
+     * @return The ranking of city UUIDs by balance
+     */
+    public static RankedIndex<UUID> getBalanceIndex() {
+        return balanceIndex;
+    }
+
     /**
      * Get all UUIDs of cities
      *
@@ -352,7 +376,7 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
      * @return true if the chunk is claimed, false otherwise
      */
     public static boolean isChunkClaimed(int x, int z) {
-        return getCityFromChunk(x, z) != null;
+        return claimedChunks.contains(x, z);
     }
     
     
@@ -363,7 +387,7 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
      * @return true if the chunk is claimed, false otherwise
      */
     public static boolean isChunkClaimed(Chunk chunk) {
-        return getCityFromChunk(chunk) != null;
+        return claimedChunks.contains(chunk.getX(), chunk.getZ());
     }
 
     /**
@@ -374,14 +398,19 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
      * @return true if the chunk is claimed, false otherwise
      */
     public static boolean isChunkClaimedInRadius(Chunk chunk, int radius) {
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                if (CityManager.isChunkClaimed(chunk.getX() + x, chunk.getZ() + z)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return claimedChunks.containsInRadius(chunk.getX(), chunk.getZ(), radius);
+    }
+
+    /**
+     * Check if a chunk touches (north, south, east or west) a chunk claimed by a city
+     *
+     * @param city The city
+     * @param x    The x coordinate of the chunk
+     * @param z    The z coordinate of the chunk
+     * @return true if one of the adjacent chunks belongs to the city, false otherwise
+     */
+    public static boolean isAdjacentToCity(City city, int x, int z) {
+        return claimedChunks.isAdjacentTo(x, z, city);
     }
 
     /**
@@ -407,36 +436,37 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
     /**
      * Get a cities claimed chunks
      *
-     * @param inCity The cities whose chunks are requested
-     * @return The cities claimed chunks
+     * @param city The cities whose chunks are requested
+     * @return A read-only view of the cities claimed chunks
      */
-    public static Set<ChunkPos> getCityChunks(City inCity) {
-        Set<ChunkPos> chunks = new HashSet<>();
-
-        claimedChunks.forEach((chunk, city) -> {
-            if (city == null) return;
-            if (city.getUniqueId().equals(inCity.getUniqueId()))
-                chunks.add(chunk);
-        });
-
-        return chunks;
+    public static Set<ChunkPos> getCityChunks(City city) {
+        return Collections.unmodifiableSet(chunksByCity.getOrDefault(city.getUniqueId(), Set.of()));
     }
 
     /**
      * Get a city member
      *
-     * @param inCity The cities whose members are requested
-     * @return The city members
+     * @param city The cities whose members are requested
+     * @return A read-only view of the city members
      */
-    public static Set<UUID> getCityMembers(City inCity) {
-        Set<UUID> members = new HashSet<>();
+    public static Set<UUID> getCityMembers(City city) {
+        return Collections.unmodifiableSet(membersByCity.getOrDefault(city.getUniqueId(), Set.of()));
+    }
 
-        playerCities.forEach((player, city) -> {
-            if (city.getUniqueId().equals(inCity.getUniqueId()))
-                members.add(player);
-        });
+    private static Set<ChunkPos> chunksOf(City city) {
+        return chunksByCity.computeIfAbsent(city.getUniqueId(), uuid -> new HashSet<>());
+    }
 
-        return members;
+    private static Set<UUID> membersOf(City city) {
+        return membersByCity.computeIfAbsent(city.getUniqueId(), uuid -> new HashSet<>());
+    }
+
+    /**
+     * Retire une valeur de l'index d'une ville sans créer d'entrée vide pour une ville inconnue
+     */
+    private static <T> void removeFrom(Map<UUID, Set<T>> index, City city, T value) {
+        Set<T> values = index.get(city.getUniqueId());
+        if (values != null) values.remove(value);
     }
 
     /**
@@ -458,7 +488,7 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
      */
     @Nullable
     public static City getCityFromChunk(int x, int z) {
-        return claimedChunks.get(new ChunkPos(x, z));
+        return claimedChunks.get(x, z);
     }
 
     /**
@@ -469,7 +499,7 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
      */
     @Nullable
     public static City getCityFromChunk(Chunk chunk) {
-        return claimedChunks.get(new ChunkPos(chunk.getX(), chunk.getZ()));
+        return claimedChunks.get(chunk.getX(), chunk.getZ());
     }
 
     /**
@@ -491,6 +521,7 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
     public static void registerCity(City city) {
         cities.put(city.getUniqueId(), city);
         citiesByName.put(city.getName(), city);
+        balanceIndex.update(city.getUniqueId(), city.getBalance());
     }
 
     /**
@@ -530,23 +561,14 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
             }
         }
 
-        Iterator<ChunkPos> iterator = claimedChunks.keySet().iterator();
-        while (iterator.hasNext()) {
-            ChunkPos chunkPos = iterator.next();
-            City claimedCity = claimedChunks.get(chunkPos);
-            if (claimedCity != null && claimedCity.equals(city)) {
-                iterator.remove();
-            }
-        }
+        Set<ChunkPos> chunks = chunksByCity.remove(city.getUniqueId());
+        if (chunks != null)
+            chunks.forEach(chunkPos -> claimedChunks.remove(chunkPos.x(), chunkPos.z(), city));
+        MovementDispatcher.refreshCities();
 
-        Iterator<UUID> playerIterator = playerCities.keySet().iterator();
-        while (playerIterator.hasNext()) {
-            UUID uuid = playerIterator.next();
-            City playerCity = playerCities.get(uuid);
-            if (playerCity != null && playerCity.equals(city)) {
-                playerIterator.remove();
-            }
-        }
+        Set<UUID> members = membersByCity.remove(city.getUniqueId());
+        if (members != null)
+            members.forEach(member -> playerCities.remove(member, city));
 
         if (DynamicCooldownManager.isReady(city.getUniqueId(), "city:type")) {
             DynamicCooldownManager.clear(city.getUniqueId(), "city:type", false);
@@ -555,36 +577,35 @@ public class CityManager extends Feature implements HasDatabase, LoadAfterItemsA
         MascotsManager.removeMascotsFromCity(city);
         NPCManager.removeNPCS(city.getUniqueId());
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
-            try {
-                citiesDao.delete(city.serialize());
+        DBCity snapshot = city.serialize();
+        DatabaseManager.queue(DatabaseWriteQueue.key("cities", city.getUniqueId()), MutationType.DELETE,
+                () -> citiesDao.delete(snapshot));
 
-                DeleteBuilder<DBCityMember, String> membersDelete = membersDao.deleteBuilder();
-                membersDelete.where().eq("city_uuid", city.getUniqueId());
-                membersDao.delete(membersDelete.prepare());
+        DatabaseManager.queue(DatabaseWriteQueue.key("city_delete", city.getUniqueId()), MutationType.DELETE, () -> {
+            DeleteBuilder<DBCityMember, String> membersDelete = membersDao.deleteBuilder();
+            membersDelete.where().eq("city_uuid", city.getUniqueId());
+            membersDao.delete(membersDelete.prepare());
 
-                DeleteBuilder<DBCityPermission, String> permissionsDelete = permissionsDao.deleteBuilder();
-                permissionsDelete.where().eq("city_uuid", city.getUniqueId());
-                permissionsDao.delete(permissionsDelete.prepare());
+            DeleteBuilder<DBCityPermission, String> permissionsDelete = permissionsDao.deleteBuilder();
+            permissionsDelete.where().eq("city_uuid", city.getUniqueId());
+            permissionsDao.delete(permissionsDelete.prepare());
 
-                CityRankManager.removeRanks(city);
+            CityRankManager.removeRanks(city);
 
-                DeleteBuilder<DBCityClaim, String> claimsDelete = claimsDao.deleteBuilder();
-                claimsDelete.where().eq("city_uuid", city.getUniqueId());
-                claimsDao.delete(claimsDelete.prepare());
+            DeleteBuilder<DBCityClaim, String> claimsDelete = claimsDao.deleteBuilder();
+            claimsDelete.where().eq("city_uuid", city.getUniqueId());
+            claimsDao.delete(claimsDelete.prepare());
 
-                DeleteBuilder<DBCityChest, String> chestsDelete = chestsDao.deleteBuilder();
-                chestsDelete.where().eq("city_uuid", city.getUniqueId());
-                chestsDao.delete(chestsDelete.prepare());
+            DeleteBuilder<DBCityChest, String> chestsDelete = chestsDao.deleteBuilder();
+            chestsDelete.where().eq("city_uuid", city.getUniqueId());
+            chestsDao.delete(chestsDelete.prepare());
 
-                MayorManager.removeCity(city);
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
-            }
+            MayorManager.removeCity(city);
         });
 
         cities.remove(city.getUniqueId());
         citiesByName.remove(city.getName());
+        balanceIndex.remove(city.getUniqueId());
 
         Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
             Bukkit.getPluginManager().callEvent(new CityDeleteEvent(city));
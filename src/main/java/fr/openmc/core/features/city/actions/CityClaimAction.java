@@ -10,17 +10,11 @@ import fr.openmc.core.utils.text.messages.MessageType;
 import fr.openmc.core.utils.text.messages.MessagesManager;
 import fr.openmc.core.utils.text.messages.Prefix;
 import fr.openmc.core.utils.text.messages.TranslationManager;
-import fr.openmc.core.utils.world.chunk.ChunkPos;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Chunk;
 import org.bukkit.entity.Player;
-import org.jetbrains.annotations.NotNull;
-
-import java.util.Set;
-
 
 public class CityClaimAction {
-    private static final int[][] CARDINAL_OFFSETS = new int[][]{{0, -1}, {1, 0}, {0, 1}, {-1, 0}};
 
     public static int calculatePrice(int chunkCount) {
         double maxValue = 40000;
@@ -45,9 +39,7 @@ public class CityClaimAction {
 
         if (!CityClaimCondition.canCityClaim(city, sender)) return;
 
-        ChunkPos chunkVec2 = new ChunkPos(chunkX, chunkZ);
-
-        if (!isAdjacentToOwnCity(chunkVec2, city.getChunks())) {
+        if (!CityManager.isAdjacentToCity(city, chunkX, chunkZ)) {
             MessagesManager.sendMessage(sender, TranslationManager.translation("feature.city.claim.isnt_adjacent"),
                     Prefix.CITY, MessageType.ERROR, false);
             return;
@@ -91,18 +83,4 @@ public class CityClaimAction {
         MessagesManager.sendMessage(sender, TranslationManager.translation("feature.city.claim.claim_success"),
                 Prefix.CITY, MessageType.SUCCESS, false);
     }
-
-    private static boolean isAdjacentToOwnCity(@NotNull ChunkPos newClaim, Set<ChunkPos> cityClaims) {
-        for (int[] offset : CARDINAL_OFFSETS) {
-            ChunkPos adjacentClaim = new ChunkPos(
-                    newClaim.x() + offset[0],
-                    newClaim.z() + offset[1]
-            );
-
-            if (cityClaims.contains(adjacentClaim))
-                return true;
-        }
-
-        return false;
-    }
 }
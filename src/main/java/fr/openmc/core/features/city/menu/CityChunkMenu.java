@@ -23,7 +23,6 @@ import fr.openmc.core.utils.world.chunk.ChunkPos;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
@@ -122,8 +121,7 @@ public class CityChunkMenu extends Menu {
                         ChunkPos pos = new ChunkPos(chunkX, chunkZ);
 
                         if (!newChunkInfoMap.containsKey(pos)) {
-                            Chunk chunk = player.getWorld().getChunkAt(chunkX, chunkZ);
-                            boolean isProtected = WorldGuardHook.doesChunkContainWGRegion(chunk);
+                            boolean isProtected = WorldGuardHook.doesChunkContainWGRegion(player.getWorld(), chunkX, chunkZ);
                             if (isProtected) {
                                 newChunkInfoMap.put(pos, new ChunkInfo(null, true));
                             } else {
@@ -5,8 +5,6 @@ import fr.openmc.api.input.dialog.DialogInput;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
 import fr.openmc.core.features.city.CityPermission;
@@ -160,8 +158,7 @@ public class CityModifyMenu extends Menu {
             };
 
             if (!DynamicCooldownManager.isReady(player.getUniqueId(), "city:big")) {
-                MenuUtils.runDynamicItem(player, this, 15, deleteItemSupplier)
-                        .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+                inventory.put(15, deleteItemSupplier.get().setRefresh(20L, deleteItemSupplier));
             } else {
                 inventory.put(15, deleteItemSupplier.get());
             }
@@ -11,9 +11,12 @@ import fr.openmc.core.features.city.sub.milestone.rewards.FeaturesRewards;
 import fr.openmc.core.features.city.sub.milestone.rewards.MemberLimitRewards;
 import fr.openmc.core.features.economy.EconomyManager;
 import fr.openmc.core.features.leaderboards.LeaderboardManager;
+import fr.openmc.core.utils.bukkit.ItemBuilder;
 import fr.openmc.core.utils.bukkit.SkullUtils;
 import fr.openmc.core.utils.cache.PlayerNameCache;
+import fr.openmc.core.utils.cache.VersionedCache;
 import fr.openmc.core.utils.text.messages.TranslationManager;
+import fr.openmc.core.utils.types.RankedIndex;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -26,7 +29,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 public class CityTopMenu extends PaginatedMenu {
@@ -36,9 +38,18 @@ public class CityTopMenu extends PaginatedMenu {
     private static final Component SELECTED_PREFIX = TranslationManager.translation("feature.city.menus.top.sort.selected_prefix");
     private static final Component UNSELECTED_PREFIX = TranslationManager.translation("feature.city.menus.top.sort.unselected_prefix");
 
+    private static final VersionedCache<UUID, ItemStack> CITY_ITEMS = new VersionedCache<>();
+
     private final List<City> cities;
     private SortType sortType;
 
+    /**
+     * Données affichées par l'item d'une ville : l'item est reconstruit quand l'une d'elles change.
+     */
+    private record CityItemVersion(int rank, String name, UUID owner, Component ownerName, Component mayor,
+                                   int level, int members, int area, double balance, int power) {
+    }
+
     /**
      * Constructor for CityListMenu.
      *
@@ -58,6 +69,11 @@ public class CityTopMenu extends PaginatedMenu {
         super(owner);
         this.cities = new ArrayList<>(CityManager.getCities());
         setSortType(sortType);
+        this.cities.removeIf(city -> city.getPlayerWithPermission(CityPermission.OWNER) == null);
+        // les items des villes supprimées ne sont pas gardés en cache
+        Set<UUID> cityIds = new HashSet<>();
+        for (City city : this.cities) cityIds.add(city.getUniqueId());
+        CITY_ITEMS.retainKeys(cityIds);
     }
 
     @Override
@@ -76,79 +92,103 @@ public class CityTopMenu extends PaginatedMenu {
 
     @Override
     public List<ItemStack> getItems() {
-        List<ItemStack> items = new ArrayList<>();
-        AtomicInteger rank = new AtomicInteger(1);
-
-        cities.forEach(city -> {
-            UUID ownerUUID = city.getPlayerWithPermission(CityPermission.OWNER);
-
-            if (ownerUUID != null) {
-                List<Component> cityLore = new ArrayList<>();
-
-                Component ownerComponent = PlayerNameCache.name(ownerUUID).color(NamedTextColor.GRAY);
-                Component levelComponent = Component.text(city.getLevel()).color(NamedTextColor.DARK_AQUA);
-                Component membersCurrent = Component.text(city.getMembers().size()).color(NamedTextColor.GREEN);
-                Component membersLimit = Component.text(MemberLimitRewards.getMemberLimit(city.getLevel())).color(NamedTextColor.GREEN);
-                Component areaComponent = Component.text(city.getChunks().size()).color(NamedTextColor.GOLD);
-                Component wealthComponent = Component.text(EconomyManager.getFormattedSimplifiedNumber(city.getBalance())).color(NamedTextColor.GOLD);
-                Component wealthIcon = Component.text(EconomyManager.getEconomyIcon()).color(NamedTextColor.GOLD);
-                Component powerComponent = Component.text(city.getPowerPoints()).color(NamedTextColor.RED);
-
-                if (MayorManager.phaseMayor == 2 && FeaturesRewards.hasUnlockFeature(city, FeaturesRewards.Feature.MAYOR)) {
-                    Component mayorName = city.getMayor() == null
-                            ? TranslationManager.translation("messages.menus.none")
-                            : city.getMayor().getName();
-                    NamedTextColor mayorColor = (city.getMayor() == null || city.getMayor().getMayorColor() == null)
-                            ? NamedTextColor.WHITE
-                            : city.getMayor().getMayorColor();
-                    Component mayorComponent = mayorName.color(mayorColor).decoration(TextDecoration.ITALIC, false);
-                    cityLore.addAll(TranslationManager.translationLore(
-                            "feature.city.menus.top.item.lore.with_mayor",
-                            ownerComponent,
-                            mayorComponent,
-                            levelComponent,
-                            membersCurrent,
-                            membersLimit,
-                            areaComponent,
-                            wealthComponent,
-                            wealthIcon,
-                            powerComponent
-                    ));
-                } else {
-                    cityLore.addAll(TranslationManager.translationLore(
-                            "feature.city.menus.top.item.lore",
-                            ownerComponent,
-                            levelComponent,
-                            membersCurrent,
-                            membersLimit,
-                            areaComponent,
-                            wealthComponent,
-                            wealthIcon,
-                            powerComponent
-                    ));
-                }
-
-                int currentRank = rank.getAndIncrement();
-
-                items.add(new ItemMenuBuilder(this, SkullUtils.getPlayerSkull(ownerUUID), itemMeta -> {
-                    itemMeta.displayName(TranslationManager.translation(
-                            "feature.city.menus.top.item.title",
-                            Component.text(currentRank).color(LeaderboardManager.getRankColor(currentRank)),
-                            Component.text(city.getName())
-                    ).color(LeaderboardManager.getRankColor(currentRank)).decoration(TextDecoration.ITALIC, false));
-                    itemMeta.lore(cityLore);
-                }));
-            }
-        });
+        return getItems(0, cities.size());
+    }
 
+    @Override
+    public List<ItemStack> getItems(int fromIndex, int toIndex) {
+        List<ItemStack> items = new ArrayList<>(toIndex - fromIndex);
+        for (int index = fromIndex; index < toIndex; index++) {
+            items.add(new ItemMenuBuilder(this, getCityItem(cities.get(index), index + 1)));
+        }
         return items;
     }
 
+    /**
+     * Récupère l'item d'une ville, reconstruit seulement si son rang ou les données affichées ont changé.
+     *
+     * @param city La ville
+     * @param rank Le rang de la ville dans le classement
+     * @return L'item de la ville
+     */
+    private static ItemStack getCityItem(City city, int rank) {
+        UUID ownerUUID = city.getPlayerWithPermission(CityPermission.OWNER);
+        Component ownerComponent = PlayerNameCache.name(ownerUUID).color(NamedTextColor.GRAY);
+        Component mayorComponent = null;
+        if (MayorManager.phaseMayor == 2 && FeaturesRewards.hasUnlockFeature(city, FeaturesRewards.Feature.MAYOR)) {
+            Component mayorName = city.getMayor() == null
+                    ? TranslationManager.translation("messages.menus.none")
+                    : city.getMayor().getName();
+            NamedTextColor mayorColor = (city.getMayor() == null || city.getMayor().getMayorColor() == null)
+                    ? NamedTextColor.WHITE
+                    : city.getMayor().getMayorColor();
+            mayorComponent = mayorName.color(mayorColor).decoration(TextDecoration.ITALIC, false);
+        }
+
+        CityItemVersion version = new CityItemVersion(rank, city.getName(), ownerUUID, ownerComponent, mayorComponent,
+                city.getLevel(), city.getMembers().size(), city.getChunks().size(), city.getBalance(), city.getPowerPoints());
+        return CITY_ITEMS.getOrCompute(city.getUniqueId(), version, uuid -> buildCityItem(version));
+    }
+
+    private static ItemStack buildCityItem(CityItemVersion version) {
+        List<Component> cityLore = new ArrayList<>();
+
+        Component levelComponent = Component.text(version.level()).color(NamedTextColor.DARK_AQUA);
+        Component membersCurrent = Component.text(version.members()).color(NamedTextColor.GREEN);
+        Component membersLimit = Component.text(MemberLimitRewards.getMemberLimit(version.level())).color(NamedTextColor.GREEN);
+        Component areaComponent = Component.text(version.area()).color(NamedTextColor.GOLD);
+        Component wealthComponent = Component.text(EconomyManager.getFormattedSimplifiedNumber(version.balance())).color(NamedTextColor.GOLD);
+        Component wealthIcon = Component.text(EconomyManager.getEconomyIcon()).color(NamedTextColor.GOLD);
+        Component powerComponent = Component.text(version.power()).color(NamedTextColor.RED);
+
+        if (version.mayor() != null) {
+            cityLore.addAll(TranslationManager.translationLore(
+                    "feature.city.menus.top.item.lore.with_mayor",
+                    version.ownerName(),
+                    version.mayor(),
+                    levelComponent,
+                    membersCurrent,
+                    membersLimit,
+                    areaComponent,
+                    wealthComponent,
+                    wealthIcon,
+                    powerComponent
+            ));
+        } else {
+            cityLore.addAll(TranslationManager.translationLore(
+                    "feature.city.menus.top.item.lore",
+                    version.ownerName(),
+                    levelComponent,
+                    membersCurrent,
+                    membersLimit,
+                    areaComponent,
+                    wealthComponent,
+                    wealthIcon,
+                    powerComponent
+            ));
+        }
+
+        int rank = version.rank();
+        return new ItemBuilder(SkullUtils.getPlayerSkull(version.owner()), itemMeta -> {
+            itemMeta.displayName(TranslationManager.translation(
+                    "feature.city.menus.top.item.title",
+                    Component.text(rank).color(LeaderboardManager.getRankColor(rank)),
+                    Component.text(version.name())
+            ).color(LeaderboardManager.getRankColor(rank)).decoration(TextDecoration.ITALIC, false));
+            itemMeta.lore(cityLore);
+        });
+    }
+
     @Override
     public List<Integer> getTakableSlot() {
         return List.of();
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public @NotNull InventorySize getInventorySize() {
         return InventorySize.LARGEST;
@@ -156,7 +196,7 @@ public class CityTopMenu extends PaginatedMenu {
 
     @Override
     public int getSizeOfItems() {
-        return getItems().size();
+        return cities.size();
     }
 
     @Override
@@ -256,13 +296,18 @@ public class CityTopMenu extends PaginatedMenu {
 
 
     /**
-     * Sorts the cities by their money.
+     * Sorts the cities by their money, using the live balance ranking of {@link CityManager}.
      *
      * @param cities The list of cities to sort.
      */
     private void sortByMoney(List<City> cities) {
         if (cities.size() <= 1) return;
-        cities.sort((o1, o2) -> Double.compare(o2.getBalance(), o1.getBalance()));
+
+        cities.clear();
+        for (RankedIndex.Entry<UUID> entry : CityManager.getBalanceIndex().top(CityManager.getBalanceIndex().size())) {
+            City city = CityManager.getCity(entry.key());
+            if (city != null) cities.add(city);
+        }
     }
 
     /**
@@ -5,8 +5,6 @@ import fr.openmc.api.input.dialog.DialogInput;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.actions.CityCreateAction;
 import fr.openmc.core.features.city.commands.CityInviteCommands;
 import fr.openmc.core.features.city.conditions.CityCreateConditions;
@@ -123,8 +121,7 @@ public class NoCityMenu extends Menu {
             };
 
             if (!DynamicCooldownManager.isReady(player.getUniqueId(), "city:big")) {
-                MenuUtils.runDynamicItem(player, this, 11, createItemSupplier)
-                        .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+                inventory.put(11, createItemSupplier.get().setRefresh(20L, createItemSupplier));
             } else {
                 inventory.put(11, createItemSupplier.get());
             }
@@ -14,8 +14,10 @@ import fr.openmc.core.features.city.sub.mayor.managers.MayorManager;
 import fr.openmc.core.features.city.sub.milestone.rewards.FeaturesRewards;
 import fr.openmc.core.features.city.sub.milestone.rewards.MemberLimitRewards;
 import fr.openmc.core.features.economy.EconomyManager;
+import fr.openmc.core.utils.bukkit.ItemBuilder;
 import fr.openmc.core.utils.bukkit.SkullUtils;
 import fr.openmc.core.utils.cache.PlayerNameCache;
+import fr.openmc.core.utils.cache.VersionedCache;
 import fr.openmc.core.utils.text.messages.TranslationManager;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -37,8 +39,17 @@ public class CityListMenu extends PaginatedMenu {
 	private static final Component SELECTED_PREFIX = TranslationManager.translation("feature.city.menus.list.sort.selected_prefix");
 	private static final Component UNSELECTED_PREFIX = TranslationManager.translation("feature.city.menus.list.sort.unselected_prefix");
 	
+	private static final VersionedCache<UUID, ItemStack> CITY_ITEMS = new VersionedCache<>();
+
 	private final List<City> cities;
 	private SortType sortType;
+
+	/**
+	 * Données affichées par l'item d'une ville : l'item est reconstruit quand l'une d'elles change.
+	 */
+	private record CityItemVersion(String name, UUID owner, Component ownerName, Component mayor,
+	                               int level, int members, CityType type, double balance) {
+	}
 	
 	/**
 	 * Constructor for CityListMenu.
@@ -58,7 +69,12 @@ public class CityListMenu extends PaginatedMenu {
 	public CityListMenu(Player owner, SortType sortType) {
 		super(owner);
 		this.cities = new ArrayList<>(CityManager.getCities());
+		this.cities.removeIf(city -> city.getPlayerWithPermission(CityPermission.OWNER) == null);
 		setSortType(sortType);
+		// les items des villes supprimées ne sont pas gardés en cache
+		Set<UUID> cityIds = new HashSet<>();
+		for (City city : this.cities) cityIds.add(city.getUniqueId());
+		CITY_ITEMS.retainKeys(cityIds);
 	}
 	
 	@Override
@@ -73,66 +89,87 @@ public class CityListMenu extends PaginatedMenu {
 	
 	@Override
     public List<ItemStack> getItems() {
-		List<ItemStack> items = new ArrayList<>();
-		for (City city : cities) {
-			UUID ownerUUID = city.getPlayerWithPermission(CityPermission.OWNER);
+		return getItems(0, cities.size());
+	}
 
-			if (ownerUUID == null) continue;
+	@Override
+	public List<ItemStack> getItems(int fromIndex, int toIndex) {
+		List<ItemStack> items = new ArrayList<>(toIndex - fromIndex);
+		for (City city : cities.subList(fromIndex, toIndex)) {
+			items.add(new ItemMenuBuilder(this, getCityItem(city)).setOnClick(inventoryClickEvent ->
+					new CityListDetailsMenu(getOwner(), city).open()
+			));
+		}
+		return items;
+	}
 
-			List<Component> cityLore = new ArrayList<>();
+	/**
+	 * Récupère l'item d'une ville, reconstruit seulement si les données affichées ont changé.
+	 *
+	 * @param city La ville
+	 * @return L'item de la ville
+	 */
+	private static ItemStack getCityItem(City city) {
+		UUID ownerUUID = city.getPlayerWithPermission(CityPermission.OWNER);
+		Component ownerComponent = PlayerNameCache.name(ownerUUID).color(NamedTextColor.GRAY);
+		Component mayorComponent = null;
+		if (MayorManager.phaseMayor == 2 && FeaturesRewards.hasUnlockFeature(city, FeaturesRewards.Feature.MAYOR)) {
+			Component mayorCity = city.getMayor() == null
+					? TranslationManager.translation("messages.menus.none")
+					: city.getMayor().getName();
+			NamedTextColor mayorColor = (city.getMayor() == null || city.getMayor().getMayorColor() == null) ? NamedTextColor.WHITE : city.getMayor().getMayorColor();
+			mayorComponent = mayorCity.color(mayorColor).decoration(TextDecoration.ITALIC, false);
+		}
 
-			Component ownerComponent = PlayerNameCache.name(ownerUUID).color(NamedTextColor.GRAY);
-			Component levelComponent = Component.text(city.getLevel()).color(NamedTextColor.DARK_AQUA);
-			Component membersCurrent = Component.text(city.getMembers().size()).color(NamedTextColor.GREEN);
-			Component membersLimit = Component.text(MemberLimitRewards.getMemberLimit(city.getLevel())).color(NamedTextColor.GREEN);
-			Component membersSuffix = Component.text(city.getMembers().size() > 1 ? "s" : "");
-			Component typeComponent = city.getType().getDisplayName();
-			Component wealthComponent = Component.text(EconomyManager.getFormattedSimplifiedNumber(city.getBalance())).color(NamedTextColor.GOLD);
-			Component wealthIcon = Component.text(EconomyManager.getEconomyIcon()).color(NamedTextColor.GOLD);
-			if (MayorManager.phaseMayor == 2 && FeaturesRewards.hasUnlockFeature(city, FeaturesRewards.Feature.MAYOR)) {
-				Component mayorCity = city.getMayor() == null
-						? TranslationManager.translation("messages.menus.none")
-						: city.getMayor().getName();
-				NamedTextColor mayorColor = (city.getMayor() == null || city.getMayor().getMayorColor() == null) ? NamedTextColor.WHITE : city.getMayor().getMayorColor();
-				Component mayorComponent = mayorCity.color(mayorColor).decoration(TextDecoration.ITALIC, false);
-				cityLore.addAll(TranslationManager.translationLore(
-						"feature.city.menus.list.item.lore.with_mayor",
-						ownerComponent,
-						mayorComponent,
-						levelComponent,
-						membersCurrent,
-						membersLimit,
-						membersSuffix,
-						typeComponent,
-						wealthComponent,
-						wealthIcon
-				));
-			} else {
-				cityLore.addAll(TranslationManager.translationLore(
-						"feature.city.menus.list.item.lore",
-						ownerComponent,
-						levelComponent,
-						membersCurrent,
-						membersLimit,
-						membersSuffix,
-						typeComponent,
-						wealthComponent,
-						wealthIcon
-				));
-			}
+		CityItemVersion version = new CityItemVersion(city.getName(), ownerUUID, ownerComponent, mayorComponent,
+				city.getLevel(), city.getMembers().size(), city.getType(), city.getBalance());
+		return CITY_ITEMS.getOrCompute(city.getUniqueId(), version, uuid -> buildCityItem(city, version));
+	}
 
+	private static ItemStack buildCityItem(City city, CityItemVersion version) {
+		List<Component> cityLore = new ArrayList<>();
 
-			items.add(new ItemMenuBuilder(this, SkullUtils.getPlayerSkull(ownerUUID), itemMeta -> {
-				itemMeta.displayName(TranslationManager.translation(
-						"feature.city.menus.list.item.title",
-						Component.text(city.getName()).color(NamedTextColor.GREEN)
-				));
-				itemMeta.lore(cityLore);
-			}).setOnClick(inventoryClickEvent ->
-					new CityListDetailsMenu(getOwner(), city).open()
-			).hide(ItemUtils.getDataComponentType()));
+		Component levelComponent = Component.text(version.level()).color(NamedTextColor.DARK_AQUA);
+		Component membersCurrent = Component.text(version.members()).color(NamedTextColor.GREEN);
+		Component membersLimit = Component.text(MemberLimitRewards.getMemberLimit(version.level())).color(NamedTextColor.GREEN);
+		Component membersSuffix = Component.text(version.members() > 1 ? "s" : "");
+		Component typeComponent = version.type().getDisplayName();
+		Component wealthComponent = Component.text(EconomyManager.getFormattedSimplifiedNumber(version.balance())).color(NamedTextColor.GOLD);
+		Component wealthIcon = Component.text(EconomyManager.getEconomyIcon()).color(NamedTextColor.GOLD);
+		if (version.mayor() != null) {
+			cityLore.addAll(TranslationManager.translationLore(
+					"feature.city.menus.list.item.lore.with_mayor",
+					version.ownerName(),
+					version.mayor(),
+					levelComponent,
+					membersCurrent,
+					membersLimit,
+					membersSuffix,
+					typeComponent,
+					wealthComponent,
+					wealthIcon
+			));
+		} else {
+			cityLore.addAll(TranslationManager.translationLore(
+					"feature.city.menus.list.item.lore",
+					version.ownerName(),
+					levelComponent,
+					membersCurrent,
+					membersLimit,
+					membersSuffix,
+					typeComponent,
+					wealthComponent,
+					wealthIcon
+			));
 		}
-		return items;
+
+		return new ItemBuilder(SkullUtils.getPlayerSkull(version.owner()), itemMeta -> {
+			itemMeta.displayName(TranslationManager.translation(
+					"feature.city.menus.list.item.title",
+					Component.text(city.getName()).color(NamedTextColor.GREEN)
+			));
+			itemMeta.lore(cityLore);
+		}).hide(ItemUtils.getDataComponentType());
 	}
 
 	@Override
@@ -140,6 +177,11 @@ public class CityListMenu extends PaginatedMenu {
 		return List.of();
 	}
 
+	@Override
+	public boolean isReadOnly() {
+		return true;
+	}
+
 	@Override
 	public @NotNull InventorySize getInventorySize() {
 		return InventorySize.LARGEST;
@@ -147,7 +189,7 @@ public class CityListMenu extends PaginatedMenu {
 
 	@Override
 	public int getSizeOfItems() {
-		return getItems().size();
+		return cities.size();
 	}
 
 	@Override
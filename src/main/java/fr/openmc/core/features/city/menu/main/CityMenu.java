@@ -81,7 +81,7 @@ public class CityMenu extends Menu {
         MembersButton.init(this, inventory, city, MEMBERS_SLOT);
 
         // ** Mayor Button
-        MayorButton.init(this, city, MAYOR_SLOTS);
+        MayorButton.init(this, inventory, city, MAYOR_SLOTS);
 
         // ** Type Button
         TypeButton.init(this, inventory, city, TYPE_SLOTS);
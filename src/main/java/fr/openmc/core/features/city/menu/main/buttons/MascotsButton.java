@@ -4,7 +4,6 @@ import fr.openmc.api.cooldown.DynamicCooldownManager;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.sub.mascots.menu.MascotMenu;
 import fr.openmc.core.features.city.sub.mascots.menu.MascotsDeadMenu;
@@ -35,8 +34,8 @@ public class MascotsButton {
         }
 
         if (mascot != null && !mascot.isAlive()) {
-            MenuUtils.runDynamicButtonItem(player, menu, slots, getItemSupplier(menu, city, mascot, mob, player))
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            Supplier<ItemMenuBuilder> itemSupplier = getItemSupplier(menu, city, mascot, mob, player);
+            MenuUtils.createButtonItem(contents, slots, itemSupplier.get().setRefresh(20L, itemSupplier));
         } else {
             MenuUtils.createButtonItem(
                     contents,
@@ -3,7 +3,6 @@ package fr.openmc.core.features.city.menu.main.buttons;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityPermission;
 import fr.openmc.core.features.city.sub.mayor.ElectionType;
@@ -20,18 +19,18 @@ import org.bukkit.NamespacedKey;
 import org.bukkit.entity.Player;
 
 import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import static fr.openmc.core.features.city.sub.mayor.managers.MayorManager.PHASE_1_DAY;
 import static fr.openmc.core.features.city.sub.mayor.managers.MayorManager.PHASE_2_DAY;
 
 public class MayorButton {
-    public static void init(Menu menu, City city, int[] slots) {
+    public static void init(Menu menu, Map<Integer, ItemMenuBuilder> contents, City city, int[] slots) {
         Player player = menu.getOwner();
 
-        MenuUtils.runDynamicButtonItem(player, menu, slots, getItemSupplier(menu, city, player))
-                .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L * 60);
-
+        Supplier<ItemMenuBuilder> itemSupplier = getItemSupplier(menu, city, player);
+        MenuUtils.createButtonItem(contents, slots, itemSupplier.get().setRefresh(20L * 60, itemSupplier));
     }
 
     private static Supplier<ItemMenuBuilder> getItemSupplier(Menu menu, City city, Player player) {
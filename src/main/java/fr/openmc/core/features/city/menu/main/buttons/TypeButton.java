@@ -4,7 +4,6 @@ import fr.openmc.api.cooldown.DynamicCooldownManager;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityPermission;
 import fr.openmc.core.features.city.CityType;
@@ -28,8 +27,8 @@ public class TypeButton {
         Player player = menu.getOwner();
 
         if (!DynamicCooldownManager.isReady(city.getUniqueId(), "city:type")) {
-            MenuUtils.runDynamicButtonItem(player, menu, slots, getItemSupplier(menu, city, player))
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            Supplier<ItemMenuBuilder> itemSupplier = getItemSupplier(menu, city, player);
+            MenuUtils.createButtonItem(contents, slots, itemSupplier.get().setRefresh(20L, itemSupplier));
         } else {
             MenuUtils.createButtonItem(
                     contents,
@@ -12,6 +12,7 @@ import java.util.UUID;
 @DatabaseTable(tableName = "city_chests")
 public class DBCityChest {
     @DatabaseField(columnName = "city_uuid", canBeNull = false)
+    @Getter
     private UUID cityUUID;
     @DatabaseField(canBeNull = false)
     @Getter
@@ -13,8 +13,10 @@ public class DBCityClaim {
     @Getter
     private UUID cityUUID;
     @DatabaseField(canBeNull = false)
+    @Getter
     private int x;
     @DatabaseField(canBeNull = false)
+    @Getter
     private int z;
 
     DBCityClaim() {
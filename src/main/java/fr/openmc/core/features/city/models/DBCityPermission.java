@@ -10,6 +10,7 @@ import java.util.UUID;
 @DatabaseTable(tableName = "city_permissions")
 public class DBCityPermission {
     @DatabaseField(columnName = "city_uuid", canBeNull = false)
+    @Getter
     private UUID cityUUID;
     @DatabaseField(canBeNull = false, uniqueCombo = true)
     @Getter
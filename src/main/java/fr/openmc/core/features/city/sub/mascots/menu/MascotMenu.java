@@ -5,8 +5,6 @@ import fr.openmc.api.input.location.ItemInteraction;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.OMCRegistry;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
@@ -203,8 +201,7 @@ public class MascotMenu extends Menu {
                     });
         };
         if (!DynamicCooldownManager.isReady(this.mascot.getMascotUUID(), "mascots:move")) {
-            MenuUtils.runDynamicItem(player, this, 13, moveMascotItemSupplier)
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            map.put(13, moveMascotItemSupplier.get().setRefresh(20L, moveMascotItemSupplier));
         } else {
             map.put(13, new ItemMenuBuilder(this, moveMascotItemSupplier.get()));
         }
@@ -301,8 +298,7 @@ public class MascotMenu extends Menu {
                 });
             };
 
-            MenuUtils.runDynamicItem(player, this, 26, immunityItemSupplier)
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            map.put(26, immunityItemSupplier.get().setRefresh(20L, immunityItemSupplier));
         }
 
         return map;
@@ -4,8 +4,6 @@ import fr.openmc.api.cooldown.DynamicCooldownManager;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
 import fr.openmc.core.utils.bukkit.ItemUtils;
@@ -94,8 +92,7 @@ public class MascotsDeadMenu extends Menu {
                         Prefix.CITY, MessageType.SUCCESS, false);
             });
         };
-        MenuUtils.runDynamicItem(player, this, 13, reduceItemSupplier)
-                .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+        map.put(13, reduceItemSupplier.get().setRefresh(20L, reduceItemSupplier));
 
         map.put(18, new ItemMenuBuilder(this, Material.ARROW, true));
 
@@ -103,12 +103,6 @@ public class MayorManager {
                 new MayorCommands(),
                 new AdminMayorCommands()
         );
-
-        loadMayorConstant();
-        loadCityMayors();
-        loadMayorCandidates();
-        loadPlayersVote();
-        loadCityLaws();
     }
 
     private static Dao<Mayor, String> mayorsDao;
@@ -137,22 +131,20 @@ public class MayorManager {
     }
 
     // Load and Save Data Methods
-    public static void loadMayorConstant() {
-        try {
-            MayorConstant constant = constantsDao.queryForFirst();
-            if (constant == null) {
-                constant = new MayorConstant(1);
-                constantsDao.create(constant);
-            }
-
-            if (constant.getPhase() != 1 && constant.getPhase() != 2) {
-                phaseMayor = 1;
-            } else {
-                phaseMayor = constant.getPhase();
-            }
+    public static MayorConstant fetchMayorConstant() throws SQLException {
+        MayorConstant constant = constantsDao.queryForFirst();
+        if (constant == null) {
+            constant = new MayorConstant(1);
+            constantsDao.create(constant);
+        }
+        return constant;
+    }
 
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    public static void loadMayorConstant(MayorConstant constant) {
+        if (constant.getPhase() != 1 && constant.getPhase() != 2) {
+            phaseMayor = 1;
+        } else {
+            phaseMayor = constant.getPhase();
         }
     }
 
@@ -168,14 +160,12 @@ public class MayorManager {
         }
     }
 
-    public static void loadCityMayors() {
-        try {
-            List<Mayor> mayors = mayorsDao.queryForAll();
+    public static List<Mayor> fetchCityMayors() throws SQLException {
+        return mayorsDao.queryForAll();
+    }
 
-            mayors.forEach(mayor -> cityMayor.put(mayor.getCityUUID(), mayor));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+    public static void loadCityMayors(List<Mayor> mayors) {
+        mayors.forEach(mayor -> cityMayor.put(mayor.getCityUUID(), mayor));
     }
 
     public static void saveCityMayors() {
@@ -188,16 +178,14 @@ public class MayorManager {
         });
     }
 
-    public static void loadMayorCandidates() {
-        try {
-            List<MayorCandidate> candidates = candidatesDao.queryForAll();
+    public static List<MayorCandidate> fetchMayorCandidates() throws SQLException {
+        return candidatesDao.queryForAll();
+    }
 
-            candidates.forEach(candidate -> {
-                cityElections.computeIfAbsent(candidate.getCityUUID(), k -> new ArrayList<>()).add(candidate);
-            });
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+    public static void loadMayorCandidates(List<MayorCandidate> candidates) {
+        candidates.forEach(candidate -> {
+            cityElections.computeIfAbsent(candidate.getCityUUID(), k -> new ArrayList<>()).add(candidate);
+        });
     }
 
     public static void saveMayorCandidates() {
@@ -211,13 +199,13 @@ public class MayorManager {
                 }));
     }
 
-    public static void loadPlayersVote() {
-        try {
-            votesDao.queryForAll().forEach(
-                    vote -> playerVote.computeIfAbsent(vote.getCity().getUniqueId(), k -> new ArrayList<>()).add(vote));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+    public static List<MayorVote> fetchPlayersVote() throws SQLException {
+        return votesDao.queryForAll();
+    }
+
+    public static void loadPlayersVote(List<MayorVote> votes) {
+        votes.forEach(
+                vote -> playerVote.computeIfAbsent(vote.getCity().getUniqueId(), k -> new ArrayList<>()).add(vote));
     }
 
     public static void savePlayersVote() {
@@ -230,14 +218,12 @@ public class MayorManager {
         }));
     }
 
-    public static void loadCityLaws() {
-        try {
-            List<CityLaw> laws = lawsDao.queryForAll();
+    public static List<CityLaw> fetchCityLaws() throws SQLException {
+        return lawsDao.queryForAll();
+    }
 
-            laws.forEach(law -> cityLaws.put(law.getCityUUID(), law));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+    public static void loadCityLaws(List<CityLaw> laws) {
+        laws.forEach(law -> cityLaws.put(law.getCityUUID(), law));
     }
 
     public static void saveCityLaws() {
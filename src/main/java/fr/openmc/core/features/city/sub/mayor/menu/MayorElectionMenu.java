@@ -4,7 +4,6 @@ import dev.lone.itemsadder.api.FontImages.FontImageWrapper;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
@@ -108,8 +107,7 @@ public class MayorElectionMenu extends Menu {
             });
         };
 
-        MenuUtils.runDynamicItem(player, this, 29, electionItemSupplier)
-                .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+        inventory.put(29, electionItemSupplier.get().setRefresh(20L, electionItemSupplier));
 
         List<Component> loreCandidature;
         if (MayorManager.hasCandidated(player)) {
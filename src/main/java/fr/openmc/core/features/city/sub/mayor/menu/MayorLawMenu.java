@@ -6,7 +6,6 @@ import fr.openmc.api.input.ChatInput;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
@@ -143,8 +142,7 @@ public class MayorLawMenu extends Menu {
         };
 
         if (!DynamicCooldownManager.isReady(mayor.getMayorUUID(), "mayor:law-pvp")) {
-            MenuUtils.runDynamicItem(player, this, 19, pvpItemSupplier)
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            inventory.put(19, pvpItemSupplier.get().setRefresh(20L, pvpItemSupplier));
         } else {
             inventory.put(19, pvpItemSupplier.get());
         }
@@ -205,8 +203,7 @@ public class MayorLawMenu extends Menu {
         if (law.getWarp() == null) {
             inventory.put(21, warpItemSupplier.get());
         } else {
-            MenuUtils.runDynamicItem(player, this, 21, warpItemSupplier)
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            inventory.put(21, warpItemSupplier.get().setRefresh(20L, warpItemSupplier));
         }
 
         Supplier<ItemMenuBuilder> announceItemSupplier = () -> {
@@ -270,8 +267,7 @@ public class MayorLawMenu extends Menu {
             });
         };
 
-        MenuUtils.runDynamicItem(player, this, 23, announceItemSupplier)
-                .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+        inventory.put(23, announceItemSupplier.get().setRefresh(20L, announceItemSupplier));
 
         Perks perkEvent = PerkManager.getPerkEvent(mayor);
         if (PerkManager.getPerkEvent(mayor) != null) {
@@ -410,8 +406,7 @@ public class MayorLawMenu extends Menu {
                         });
             };
 
-            MenuUtils.runDynamicItem(player, this, 25, perkEventItemSupplier)
-                    .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+            inventory.put(25, perkEventItemSupplier.get().setRefresh(20L, perkEventItemSupplier));
         }
 
         inventory.put(46, new ItemMenuBuilder(this, Material.ARROW, true));
@@ -1,7 +1,7 @@
 package fr.openmc.core.features.city.sub.mayor.perks.basic;
 
+import fr.openmc.core.events.PlayerCityChangeEvent;
 import fr.openmc.core.features.city.City;
-import fr.openmc.core.features.city.CityManager;
 import fr.openmc.core.features.city.sub.mayor.managers.MayorManager;
 import fr.openmc.core.features.city.sub.mayor.managers.PerkManager;
 import fr.openmc.core.features.city.sub.mayor.models.Mayor;
@@ -12,42 +12,20 @@ import fr.openmc.core.utils.text.messages.Prefix;
 import fr.openmc.core.utils.text.messages.TranslationManager;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Chunk;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.UUID;
-
 public class GPSTrackerPerk implements Listener {
 
-    private final Map<UUID, City> lastCityMap = new HashMap<>();
-
     @EventHandler
-    public void onMove(PlayerMoveEvent event) {
+    public void onCityChange(PlayerCityChangeEvent event) {
         if (MayorManager.phaseMayor != 2) return;
 
         Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
-
-        Chunk newChunk = event.getTo().getChunk();
-        if (event.getFrom().getChunk().equals(newChunk)) return;
-
-        City newCity = CityManager.getCityFromChunk(
-                newChunk.getX(),
-                newChunk.getZ()
-        );
-
-        City oldCity = lastCityMap.get(uuid);
-
-        if (Objects.equals(oldCity, newCity)) return;
-
-        lastCityMap.put(uuid, newCity);
+        City oldCity = event.getFrom();
+        City newCity = event.getTo();
 
         if (oldCity != null && hasGpsTrackerPerk(oldCity) && !oldCity.isMember(player)) {
             removeGlowing(player);
@@ -85,8 +63,6 @@ public class GPSTrackerPerk implements Listener {
 
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        Player player = event.getPlayer();
-        lastCityMap.remove(player.getUniqueId());
-        removeGlowing(player);
+        removeGlowing(event.getPlayer());
     }
 }
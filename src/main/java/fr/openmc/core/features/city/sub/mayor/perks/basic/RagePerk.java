@@ -1,5 +1,6 @@
 package fr.openmc.core.features.city.sub.mayor.perks.basic;
 
+import fr.openmc.core.events.PlayerCityChangeEvent;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
 import fr.openmc.core.features.city.sub.mayor.managers.MayorManager;
@@ -10,7 +11,6 @@ import fr.openmc.core.features.homes.models.Home;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -20,26 +20,18 @@ import java.util.UUID;
 public class RagePerk implements Listener {
 
     @EventHandler
-    public void onMove(PlayerMoveEvent event) {
+    public void onCityChange(PlayerCityChangeEvent event) {
         if (MayorManager.phaseMayor != 2) return;
 
         Player player = event.getPlayer();
         UUID uuid = player.getUniqueId();
-        
-        // ça sert à rien de lancer ça si on ne change pas de chunk
-        if (event.getFrom().getChunk().equals(event.getTo().getChunk())) return;
 
         City playerCity = CityManager.getPlayerCity(uuid);
         if (playerCity == null) return;
 
         if (!PerkManager.hasPerk(playerCity.getMayor(), Perks.FOU_DE_RAGE.getId())) return;
 
-        City currentCity = CityManager.getCityFromChunk(
-                event.getTo().getChunk().getX(),
-                event.getTo().getChunk().getZ()
-        );
-
-        updateEffect(currentCity, player);
+        updateEffect(event.getTo(), player);
     }
 
     @EventHandler
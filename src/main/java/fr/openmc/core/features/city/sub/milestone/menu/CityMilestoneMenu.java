@@ -4,8 +4,6 @@ import fr.openmc.api.cooldown.DynamicCooldownManager;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.sub.milestone.CityLevels;
 import fr.openmc.core.features.city.sub.milestone.CityRequirement;
@@ -100,8 +98,7 @@ public class CityMilestoneMenu extends Menu {
                     });
 
             if (!DynamicCooldownManager.isReady(city.getUniqueId(), "city:upgrade-level") && active) {
-                MenuUtils.runDynamicItem(player, this, slot, upgradeItemSupplier)
-                        .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+                inventory.put(slot, upgradeItemSupplier.get().setRefresh(20L, upgradeItemSupplier));
             } else {
                 inventory.put(slot, new ItemMenuBuilder(this, upgradeItemSupplier.get()));
             }
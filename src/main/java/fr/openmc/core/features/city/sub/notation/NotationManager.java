@@ -15,11 +15,9 @@ import fr.openmc.core.features.city.sub.notation.models.ActivityTimePlayed;
 import fr.openmc.core.features.city.sub.notation.models.CityNotation;
 import fr.openmc.core.features.economy.BankManager;
 import fr.openmc.core.features.economy.EconomyManager;
-import fr.openmc.core.utils.cache.CacheOfflinePlayer;
+import fr.openmc.core.features.playtime.PlaytimeManager;
 import fr.openmc.core.utils.text.DateUtils;
 import org.bukkit.Bukkit;
-import org.bukkit.OfflinePlayer;
-import org.bukkit.Statistic;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -81,7 +79,6 @@ public class NotationManager {
      * <p>Charge les notations, enregistre les commandes et les listeners, et planifie la tâche nocturne.</p>
      */
     public static void init() {
-        loadNotations();
         CommandsManager.getHandler().register(
                 new NotationCommands(),
                 new AdminNotationCommands()
@@ -105,30 +102,54 @@ public class NotationManager {
 
         TableUtils.createTableIfNotExists(connectionSource, ActivityTimePlayed.class);
         activityTimePlayedDao = DaoManager.createDao(connectionSource, ActivityTimePlayed.class);
-        activityTimePlayedDao.queryForAll()
-                .forEach(activityTimePlayed -> activityNotation.put(
-                        UUID.fromString(activityTimePlayed.getPlayerUUID()),
-                        activityTimePlayed.getTimeOnWeekStart()
-                ));
     }
 
     /**
-     * Charge les notations depuis la base de données et les répartit dans les maps.
+     * Récupère les temps de jeu de début de semaine depuis la base de données.
+     *
+     * @return la liste des temps de jeu
+     * @throws SQLException en cas d'erreur SQL
      */
-    public static void loadNotations() {
-        try {
-            List<CityNotation> notations = notationDao.queryForAll();
-            for (CityNotation notation : notations) {
-                UUID cityUUID = notation.getCityUUID();
-                City city = CityManager.getCity(cityUUID);
-                if (city == null) continue;
-
-                String weekStr = notation.getWeekStr();
-                cityNotations.computeIfAbsent(cityUUID, k -> new ArrayList<>()).add(notation);
-                notationPerWeek.computeIfAbsent(weekStr, k -> new ArrayList<>()).add(notation);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
+    public static List<ActivityTimePlayed> fetchActivityTimePlayed() throws SQLException {
+        return activityTimePlayedDao.queryForAll();
+    }
+
+    /**
+     * Charge les temps de jeu de début de semaine dans la map.
+     *
+     * @param activities les temps de jeu récupérés par {@link #fetchActivityTimePlayed()}
+     */
+    public static void loadActivityTimePlayed(List<ActivityTimePlayed> activities) {
+        activities.forEach(activityTimePlayed -> activityNotation.put(
+                UUID.fromString(activityTimePlayed.getPlayerUUID()),
+                activityTimePlayed.getTimeOnWeekStart()
+        ));
+    }
+
+    /**
+     * Récupère les notations depuis la base de données.
+     *
+     * @return la liste des notations
+     * @throws SQLException en cas d'erreur SQL
+     */
+    public static List<CityNotation> fetchNotations() throws SQLException {
+        return notationDao.queryForAll();
+    }
+
+    /**
+     * Répartit les notations dans les maps. Les villes doivent déjà être chargées.
+     *
+     * @param notations les notations récupérées par {@link #fetchNotations()}
+     */
+    public static void loadNotations(List<CityNotation> notations) {
+        for (CityNotation notation : notations) {
+            UUID cityUUID = notation.getCityUUID();
+            City city = CityManager.getCity(cityUUID);
+            if (city == null) continue;
+
+            String weekStr = notation.getWeekStr();
+            cityNotations.computeIfAbsent(cityUUID, k -> new ArrayList<>()).add(notation);
+            notationPerWeek.computeIfAbsent(weekStr, k -> new ArrayList<>()).add(notation);
         }
     }
 
@@ -221,8 +242,7 @@ public class NotationManager {
         double totalScore = 0;
         int playerCount = 0;
         for (UUID playerUUID : city.getMembers()) {
-            OfflinePlayer player = CacheOfflinePlayer.getOfflinePlayer(playerUUID);
-            long currentPlaytime = player.getStatistic(Statistic.PLAY_ONE_MINUTE);
+            long currentPlaytime = PlaytimeManager.getPlaytime(playerUUID);
             long savedPlaytime = activityNotation.containsKey(playerUUID) ? activityNotation.get(playerUUID) : 0;
             long weeklyPlaytimeTicks = currentPlaytime - savedPlaytime;
             if (weeklyPlaytimeTicks > 0) {
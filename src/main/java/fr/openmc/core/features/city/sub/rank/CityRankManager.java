@@ -17,10 +17,6 @@ public class CityRankManager {
 	
 	private static Dao<DBCityRank, String> ranksDao;
 
-	public static void init() {
-		loadRanks();
-	}
-	
 	/**
 	 * Initialize the database table for city ranks and set up the DAO.
 	 *
@@ -117,15 +113,14 @@ public class CityRankManager {
 	/**
 	 * Load all city ranks from the database and associate them with their respective cities.
 	 */
-	public static void loadRanks() {
-		try {
-			for (DBCityRank rank : ranksDao.queryForAll()) {
-				City city = CityManager.getCity(rank.getCityUUID());
-				if (city != null) city.getRanks().add(rank);
-			}
-			
-		} catch (SQLException e) {
-			throw new RuntimeException(e);
+	public static List<DBCityRank> fetchRanks() throws SQLException {
+		return ranksDao.queryForAll();
+	}
+	
+	public static void loadRanks(List<DBCityRank> ranks) {
+		for (DBCityRank rank : ranks) {
+			City city = CityManager.getCity(rank.getCityUUID());
+			if (city != null) city.getRanks().add(rank);
 		}
 	}
 }
@@ -27,13 +27,6 @@ public class CityStatisticsManager {
 
     private static Dao<CityStatistics, String> statisticsDao;
 
-    /**
-     * Initialise le gestionnaire des statistiques des villes en chargeant les statistiques depuis la base de données.
-     */
-    public static void init() {
-        loadCityStatistics();
-    }
-
     /**
      * Initialise la base de données pour les statistiques des villes.
      *
@@ -46,15 +39,22 @@ public class CityStatisticsManager {
     }
 
     /**
-     * Charge toutes les statistiques depuis la base de données.
+     * Récupère toutes les statistiques depuis la base de données.
+     *
+     * @return la liste des statistiques
+     * @throws SQLException en cas d'erreur SQL
+     */
+    public static List<CityStatistics> fetchCityStatistics() throws SQLException {
+        return statisticsDao.queryForAll();
+    }
+
+    /**
+     * Charge les statistiques dans la map.
+     *
+     * @param statistics les statistiques récupérées par {@link #fetchCityStatistics()}
      */
-    public static void loadCityStatistics() {
-        try {
-            List<CityStatistics> statistics = statisticsDao.queryForAll();
-            statistics.forEach(statistic -> cityStatistics.computeIfAbsent(statistic.getCityUUID(), k -> new HashSet<>()).add(statistic));
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+    public static void loadCityStatistics(List<CityStatistics> statistics) {
+        statistics.forEach(statistic -> cityStatistics.computeIfAbsent(statistic.getCityUUID(), k -> new HashSet<>()).add(statistic));
     }
 
     /**
@@ -57,31 +57,23 @@ public class WarManager {
         OMCPlugin.registerEvents(
                 WarKillListener::new
         );
-
-        loadWarHistories();
     }
 
     public static void initDB(ConnectionSource connectionSource) throws SQLException {
         TableUtils.createTableIfNotExists(connectionSource, WarHistory.class);
         warHistoryDeo = DaoManager.createDao(connectionSource, WarHistory.class);
-
-        for (WarHistory history : warHistoryDeo.queryForAll()) {
-            warHistory.put(history.getCityUUID(), history);
-        }
     }
 
-    public static void loadWarHistories() {
-        try {
-            List<WarHistory> warHistories = warHistoryDeo.queryForAll();
+    public static List<WarHistory> fetchWarHistories() throws SQLException {
+        return warHistoryDeo.queryForAll();
+    }
 
-            warHistories.forEach(war -> {
-                UUID cityUUID = war.getCityUUID();
+    public static void loadWarHistories(List<WarHistory> warHistories) {
+        warHistories.forEach(war -> {
+            UUID cityUUID = war.getCityUUID();
 
-                warHistory.computeIfAbsent(cityUUID, k -> war);
-            });
-        } catch (SQLException e) {
-            throw new RuntimeException(e);
-        }
+            warHistory.computeIfAbsent(cityUUID, k -> war);
+        });
     }
 
     public static void saveWarHistories() {
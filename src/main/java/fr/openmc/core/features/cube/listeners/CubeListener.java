@@ -1,5 +1,6 @@
 package fr.openmc.core.features.cube.listeners;
 
+import fr.openmc.core.events.PlayerBlockChangeEvent;
 import fr.openmc.core.features.cube.Cube;
 import fr.openmc.core.features.cube.events.CubeDisableBubbleEvent;
 import fr.openmc.core.features.cube.events.CubeEnableBubbleEvent;
@@ -17,7 +18,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
@@ -62,22 +62,19 @@ public class CubeListener implements Listener {
     }
 
     @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
+    public void onBlockChange(PlayerBlockChangeEvent event) {
         Player player = event.getPlayer();
+        Location belowPlayer = event.getTo().clone().subtract(0, 1, 0);
 
         for (MultiBlock mb : MultiBlockManager.getMultiBlocks()) {
             if (!(mb instanceof Cube cube)) continue;
 
-            Location belowPlayer = player.getLocation().clone().subtract(0, 1, 0);
             if (cube.isPartOf(belowPlayer)) {
-                cube.repulsePlayer(event.getPlayer(), true);
+                cube.repulsePlayer(player, true);
             }
         }
-    }
 
-    @EventHandler
-    public void onPlayerEnterAndLeaveCubeZone(PlayerMoveEvent event) {
-        updatePlayerBubbleState(event.getPlayer());
+        updatePlayerBubbleState(player);
     }
 
     @EventHandler
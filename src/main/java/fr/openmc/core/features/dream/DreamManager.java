@@ -4,13 +4,19 @@ import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
+import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.bootstrap.features.Feature;
 import fr.openmc.core.bootstrap.features.annotations.Credit;
 import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
 import fr.openmc.core.bootstrap.features.types.HasListeners;
+import fr.openmc.core.bootstrap.features.types.HasPlayerData;
 import fr.openmc.core.bootstrap.features.types.LoadAfterItemsAdder;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader.Session;
 import fr.openmc.core.bootstrap.listeners.ListenerFactory;
 import fr.openmc.core.commands.utils.SpawnManager;
 import fr.openmc.core.features.city.City;
@@ -34,6 +40,8 @@ import fr.openmc.core.features.dream.mecanism.sfx.clone.PlayerCloneNpc;
 import fr.openmc.core.features.dream.mecanism.sfx.ghost.DreamGhostManager;
 import fr.openmc.core.features.dream.mecanism.singularity.SingularityCraftListener;
 import fr.openmc.core.features.dream.mecanism.singularity.SingularityManager;
+import fr.openmc.core.features.dream.mecanism.tracker.DreamStructureIndex;
+import fr.openmc.core.features.dream.mecanism.tracker.DreamTracker;
 import fr.openmc.core.features.dream.mecanism.tradernpc.GlaciteNpcManager;
 import fr.openmc.core.features.dream.models.db.DBDreamPlayer;
 import fr.openmc.core.features.dream.models.db.DBPlayerSave;
@@ -53,25 +61,33 @@ import org.bukkit.inventory.PlayerInventory;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Credit(developers = {"iambibi_", "gab400"}, graphist = {"Tfloa"}, builders = {"Mcross_bow"})
-public class DreamManager extends Feature implements HasDatabase, LoadAfterItemsAdder, HasCommands, HasListeners {
+public class DreamManager extends Feature implements HasDatabase, LoadAfterItemsAdder, HasCommands, HasListeners, HasPlayerData {
     // ** CONSTANTS **
     public static final Long BASE_DREAM_TIME = 300L;
 
     private static final HashMap<UUID, DBPlayerSave> playerSaveData = new HashMap<>();
     private static final HashMap<UUID, DreamPlayer> dreamPlayerData = new HashMap<>();
-    public static final HashMap<UUID, DBDreamPlayer> cacheDreamPlayer = new HashMap<>();
+    // données des joueurs connectés, chargées à la connexion
+    public static final Map<UUID, DBDreamPlayer> cacheDreamPlayer = new ConcurrentHashMap<>();
+    // joueurs dont la ligne a été lue (même absente) : eux seuls peuvent recevoir une nouvelle ligne
+    private static final Set<UUID> loadedDreamPlayers = ConcurrentHashMap.newKeySet();
+    private static final Map<UUID, CompletableFuture<Void>> loading = new HashMap<>();
 
-    private static Dao<DBDreamPlayer, String> dreamPlayerDao;
+    private static Dao<DBDreamPlayer, UUID> dreamPlayerDao;
     private static Dao<DBPlayerSave, String> savePlayerDao;
 
     @Override
     public void init() {
         // ** MANAGERS **
         DreamDimensionManager.init();
+        DreamStructureIndex.init();
         GlaciteNpcManager.init();
         PlayerCloneNpc.init();
         DreamItemRegistry.init();
@@ -86,7 +102,7 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
         DreamGhostManager.init();
 
         // ** LOAD DATAS **
-        loadAllDreamPlayerData();
+        loadOnlineDreamPlayerData();
         loadAllPlayerSaveData();
     }
 
@@ -120,6 +136,7 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
                 DreamItemEquipListener::new,
                 SingularityCraftListener::new,
                 PlayerDreamStructureListener::new,
+                DreamTracker::new,
                 PlayerFoodChangeListener::new,
                 DreamLootListener::new,
                 PlayerPickupListener::new
@@ -174,25 +191,103 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
     }
 
 
-    private static void loadAllDreamPlayerData() {
-        try {
-            dreamPlayerData.clear();
-            dreamPlayerDao.queryForAll().forEach(playerData ->
-                    cacheDreamPlayer.put(playerData.getPlayerUUID(), playerData)
-            );
-        } catch (SQLException e) {
-            OMCLogger.error("Cannot load dream player data", e);
+    private static void loadOnlineDreamPlayerData() {
+        cacheDreamPlayer.clear();
+        loadedDreamPlayers.clear();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            try {
+                loadDreamPlayerData(player.getUniqueId());
+            } catch (SQLException e) {
+                OMCLogger.error("Cannot load dream player data for player {}", player.getUniqueId(), e);
+            }
         }
     }
 
-    public static void saveAllDreamPlayerData() {
-        cacheDreamPlayer.forEach((uuid, dbDreamPlayer) -> {
+    private static void loadDreamPlayerData(UUID playerUUID) throws SQLException {
+        DBDreamPlayer playerData = dreamPlayerDao.queryForId(playerUUID);
+        if (playerData != null) cacheDreamPlayer.putIfAbsent(playerUUID, playerData);
+        loadedDreamPlayers.add(playerUUID);
+    }
+
+    @Override
+    public void loadPlayerData(UUID playerUUID, Session session) throws SQLException {
+        DBDreamPlayer playerData = dreamPlayerDao.queryForId(playerUUID);
+        session.apply(() -> {
+            if (playerData != null) cacheDreamPlayer.putIfAbsent(playerUUID, playerData);
+            loadedDreamPlayers.add(playerUUID);
+        });
+    }
+
+    @Override
+    public void unloadPlayerData(UUID playerUUID) {
+        loading.remove(playerUUID);
+        loadedDreamPlayers.remove(playerUUID);
+        DBDreamPlayer dbDreamPlayer = cacheDreamPlayer.remove(playerUUID);
+        if (dbDreamPlayer != null) queueSave(dbDreamPlayer);
+    }
+
+    /**
+     * @param playerUUID UUID du joueur
+     * @return true si la ligne du joueur a été lue depuis sa connexion
+     */
+    public static boolean isLoaded(UUID playerUUID) {
+        return loadedDreamPlayers.contains(playerUUID);
+    }
+
+    /**
+     * Charge les données d'un joueur qui n'ont pas été chargées pendant sa connexion (chargement lent ou en échec).
+     * <p>
+     * La ligne est lue en async et appliquée sur le thread principal, si le joueur est toujours connecté.
+     *
+     * @param playerUUID UUID du joueur
+     * @return un future complété sur le thread principal une fois les données chargées
+     */
+    public static CompletableFuture<Void> load(UUID playerUUID) {
+        if (isLoaded(playerUUID)) return CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> pending = loading.get(playerUUID);
+        if (pending != null) return pending;
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        loading.put(playerUUID, future);
+
+        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
+            DBDreamPlayer playerData;
             try {
-                dreamPlayerDao.createOrUpdate(dbDreamPlayer);
+                playerData = dreamPlayerDao.queryForId(playerUUID);
             } catch (SQLException e) {
-                OMCLogger.error("Cannot save dream player data", e);
+                OMCLogger.error("Cannot load dream player data for player {}", playerUUID, e);
+                Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
+                    loading.remove(playerUUID, future);
+                    future.completeExceptionally(e);
+                });
+                return;
             }
+
+            Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
+                // le joueur est parti pendant la lecture : sa sauvegarde de déconnexion peut être plus récente
+                if (!loading.remove(playerUUID, future)) {
+                    future.cancel(false);
+                    return;
+                }
+
+                if (playerData != null) cacheDreamPlayer.putIfAbsent(playerUUID, playerData);
+                loadedDreamPlayers.add(playerUUID);
+                future.complete(null);
+            });
         });
+
+        return future;
+    }
+
+    private static void queueSave(DBDreamPlayer dbDreamPlayer) {
+        DBDreamPlayer snapshot = dbDreamPlayer.snapshot();
+        DatabaseManager.queue(DatabaseWriteQueue.key("dream_player", snapshot.getPlayerUUID()), MutationType.UPSERT,
+                () -> dreamPlayerDao.createOrUpdate(snapshot));
+    }
+
+    public static void saveAllDreamPlayerData() {
+        cacheDreamPlayer.values().forEach(DreamManager::queueSave);
     }
 
     public static void saveDreamPlayerData(DreamPlayer dreamPlayer) {
@@ -200,17 +295,13 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
     }
 
     public static void saveDreamPlayerData(DBDreamPlayer dbDreamPlayer) {
-        try {
-            dreamPlayerDao.createOrUpdate(dbDreamPlayer);
-            if (cacheDreamPlayer.containsKey(dbDreamPlayer.getPlayerUUID())) {
-                cacheDreamPlayer.replace(dbDreamPlayer.getPlayerUUID(), dbDreamPlayer);
-            } else {
-                cacheDreamPlayer.put(dbDreamPlayer.getPlayerUUID(), dbDreamPlayer);
-            }
-
-        } catch (SQLException e) {
-            OMCLogger.error("Cannot save player save data", e);
+        if (!isLoaded(dbDreamPlayer.getPlayerUUID())) {
+            OMCLogger.warn("Dream player data of {} not loaded yet, save refused", dbDreamPlayer.getPlayerUUID());
+            return;
         }
+
+        queueSave(dbDreamPlayer);
+        cacheDreamPlayer.put(dbDreamPlayer.getPlayerUUID(), dbDreamPlayer);
     }
 
     public static DBDreamPlayer getCacheDreamPlayer(Player player) {
@@ -277,7 +368,7 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
             cacheDreamPlayer.setDreamX(dreamLocation.getX());
             cacheDreamPlayer.setDreamY(dreamLocation.getY());
             cacheDreamPlayer.setDreamZ(dreamLocation.getZ());
-        } else {
+        } else if (isLoaded(player.getUniqueId())) {
             addCacheDreamPlayer(player, new DBDreamPlayer(
                     player.getUniqueId(),
                     dreamPlayer.getMaxDreamTime(),
@@ -287,11 +378,15 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
                     dreamLocation.getZ(),
                     0
             ));
+        } else {
+            OMCLogger.warn("Dream player data of {}({}) not loaded, dream inventory not saved", player.getName(), player.getUniqueId());
         }
 
         player.getInventory().setContents(oldInventory);
         player.updateInventory();
-        saveDreamPlayerData(cacheDreamPlayer);
+
+        DBDreamPlayer saved = getCacheDreamPlayer(player);
+        if (saved != null) saveDreamPlayerData(saved);
     }
 
     public static void preloadSavePlayer(Player player, Location dreamLocation) throws IOException {
@@ -302,6 +397,13 @@ public class DreamManager extends Feature implements HasDatabase, LoadAfterItems
             OMCLogger.warn("Nothing to load from {}({})", player.getName(), player.getUniqueId());
             return;
         }
+        if (!isLoaded(player.getUniqueId())) {
+            // la ligne enregistrée serait écrasée par un joueur vierge
+            playerSaveData.put(player.getUniqueId(), playerSave);
+            OMCLogger.warn("Dream player data of {}({}) not loaded, save restore postponed", player.getName(), player.getUniqueId());
+            return;
+        }
+
         PlayerInventory dreamInventory = player.getInventory();
         String serializedDreamInventory = BukkitSerializer.playerInventoryToBase64(dreamInventory);
 
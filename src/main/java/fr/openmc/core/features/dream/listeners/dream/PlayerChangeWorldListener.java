@@ -32,6 +32,13 @@ public class PlayerChangeWorldListener implements Listener {
 
         if (!DimensionAccessListener.checkAccess(player, DreamDimensionManager.DIMENSION_NAME, event)) return;
 
+        // sans sa ligne, le joueur entrerait avec un inventaire de rêve vide
+        if (!DreamManager.isLoaded(player.getUniqueId())) {
+            event.setCancelled(true);
+            DreamManager.load(player.getUniqueId());
+            return;
+        }
+
         try {
             DreamManager.addDreamPlayer(player, event.getFrom());
         } catch (IOException e) {
@@ -2,7 +2,6 @@ package fr.openmc.core.features.dream.listeners.dream;
 
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.dream.DreamManager;
-import fr.openmc.core.features.dream.DreamUtils;
 import fr.openmc.core.features.dream.events.PlayerEnterBiomeEvent;
 import fr.openmc.core.features.dream.models.db.DBDreamPlayer;
 import fr.openmc.core.features.dream.registries.DreamBiome;
@@ -18,7 +17,6 @@ import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitTask;
@@ -49,17 +47,12 @@ public class PlayerEnteredBiome implements Listener {
     private final Map<UUID, BukkitTask> activeTasks = new HashMap<>();
 
     @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
+    public void onEnterBiome(PlayerEnterBiomeEvent event) {
         Player player = event.getPlayer();
 
-        if (!DreamUtils.isInDream(player)) return;
-
-        Biome biome = player.getLocation().getBlock().getBiome();
-        int index = BIOME_ORDER.indexOf(biome);
+        int index = BIOME_ORDER.indexOf(event.getBiome());
         if (index == -1) return;
-        
-        Bukkit.getServer().getPluginManager().callEvent(new PlayerEnterBiomeEvent(player, biome));
-        
+
         DBDreamPlayer cacheData = DreamManager.getCacheDreamPlayer(player);
         int unlocked = cacheData == null ? 0 : cacheData.getProgressionOrb();
 
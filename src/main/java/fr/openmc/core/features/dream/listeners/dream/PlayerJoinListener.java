@@ -11,7 +11,8 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import java.io.IOException;
 
 /*
-  Protection si le joueur se reco dans la dimension des reves.
+  Charge les données de rêve si elles ne l'ont pas été pendant la connexion,
+  et protection si le joueur se reco dans la dimension des reves.
  */
 public class PlayerJoinListener implements Listener {
 
@@ -19,12 +20,14 @@ public class PlayerJoinListener implements Listener {
     public void onPlayerJoinInDream(PlayerJoinEvent event) {
         Player player = event.getPlayer();
 
-        if (!DreamUtils.isInDreamWorld(player)) return;
+        DreamManager.load(player.getUniqueId()).thenRun(() -> {
+            if (!player.isOnline() || !DreamUtils.isInDreamWorld(player)) return;
 
-        try {
-            DreamManager.preloadSavePlayer(player, player.getLocation());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+            try {
+                DreamManager.preloadSavePlayer(player, player.getLocation());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
     }
 }
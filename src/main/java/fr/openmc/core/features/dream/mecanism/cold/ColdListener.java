@@ -1,5 +1,6 @@
 package fr.openmc.core.features.dream.mecanism.cold;
 
+import fr.openmc.core.events.PlayerBlockChangeEvent;
 import fr.openmc.core.features.dream.DreamManager;
 import fr.openmc.core.features.dream.DreamUtils;
 import fr.openmc.core.features.dream.models.db.DreamPlayer;
@@ -10,23 +11,22 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockFadeEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 
 public class ColdListener implements Listener {
-    @EventHandler(ignoreCancelled = true)
-    public void onGlaciteGrottoEntered(PlayerMoveEvent event) {
+    @EventHandler
+    public void onGlaciteGrottoEntered(PlayerBlockChangeEvent event) {
+        if (event.getBiome() != DreamBiome.GLACITE_GROTTO.getBiome()) return;
+
         Player player = event.getPlayer();
 		if (!player.getGameMode().equals(GameMode.SURVIVAL)) return;
 
-        if (DreamBiome.isInDreamBiome(player, DreamBiome.GLACITE_GROTTO)) {
-            DreamPlayer dreamPlayer = DreamManager.getDreamPlayer(player);
-            if (dreamPlayer == null) return;
+        DreamPlayer dreamPlayer = DreamManager.getDreamPlayer(player);
+        if (dreamPlayer == null) return;
 
-            if (dreamPlayer.getColdTask() != null) return;
+        if (dreamPlayer.getColdTask() != null) return;
 
-            dreamPlayer.scheduleColdTask();
-        }
+        dreamPlayer.scheduleColdTask();
     }
 
     @EventHandler(ignoreCancelled = true)
@@ -1,6 +1,7 @@
 package fr.openmc.core.features.dream.mecanism.metaldetector;
 
 import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.events.PlayerBlockChangeEvent;
 import fr.openmc.core.features.dream.registries.DreamBiome;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -8,7 +9,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryCloseEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.util.Random;
@@ -18,17 +18,15 @@ import static fr.openmc.core.features.dream.mecanism.metaldetector.MetalDetector
 
 public class MetalDetectorListener implements Listener {
     @EventHandler
-    public void onMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        Location loc = player.getLocation();
+    public void onBlockChange(PlayerBlockChangeEvent event) {
+        if (event.getBiome() != DreamBiome.MUD_BEACH.getBiome()) return;
 
-        if (DreamBiome.isInDreamBiome(player, DreamBiome.MUD_BEACH)) {
-            if (!hiddenChests.containsKey(player.getUniqueId())) {
-                Location chestLoc = findRandomChestLocation(loc);
-                MetalDetectorTask task = new MetalDetectorTask(player, chestLoc);
-                task.runTaskTimer(OMCPlugin.getInstance(), 0L, 5L);
-                hiddenChests.put(player.getUniqueId(), task);
-            }
+        Player player = event.getPlayer();
+        if (!hiddenChests.containsKey(player.getUniqueId())) {
+            Location chestLoc = findRandomChestLocation(player.getLocation());
+            MetalDetectorTask task = new MetalDetectorTask(player, chestLoc);
+            task.runTaskTimer(OMCPlugin.getInstance(), 0L, 5L);
+            hiddenChests.put(player.getUniqueId(), task);
         }
     }
 
@@ -0,0 +1,100 @@
+package fr.openmc.core.features.dream.mecanism.tracker;
+
+import fr.openmc.core.features.dream.DreamDimensionManager;
+import fr.openmc.core.features.dream.DreamUtils;
+import fr.openmc.core.features.dream.registries.DreamStructure;
+import fr.openmc.core.utils.world.chunk.ChunkIndex;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.generator.structure.GeneratedStructure;
+import org.bukkit.util.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Index chunk -> structures de la dimension des rêves.
+ * <p>
+ * La seed de la dimension ne change pas pendant que le serveur tourne : les structures d'un chunk
+ * sont donc lues une seule fois, quand il est chargé, et gardées même après son déchargement.
+ * Savoir dans quelle structure se trouve une position ne demande plus d'appel à {@code getStructures}.
+ */
+public class DreamStructureIndex {
+
+    /**
+     * Une structure générée qui touche un chunk.
+     */
+    public record Entry(DreamStructure structure, GeneratedStructure generated) {
+        public boolean contains(Location location) {
+            BoundingBox box = generated.getBoundingBox();
+            return box != null && box.contains(location.getX(), location.getY(), location.getZ());
+        }
+    }
+
+    private static final ChunkIndex<List<Entry>> chunks = new ChunkIndex<>();
+
+    /**
+     * Indexe les chunks déjà chargés de la dimension des rêves.
+     */
+    public static void init() {
+        chunks.clear();
+        if (DreamDimensionManager.DREAM_WORLD == null) return;
+
+        for (Chunk chunk : DreamDimensionManager.DREAM_WORLD.getLoadedChunks()) {
+            index(chunk);
+        }
+    }
+
+    /**
+     * Lit les structures d'un chunk de la dimension des rêves, s'il n'est pas déjà indexé.
+     *
+     * @param chunk Le chunk
+     */
+    public static void index(Chunk chunk) {
+        if (!DreamUtils.isDreamWorld(chunk.getWorld())) return;
+        if (chunks.contains(chunk.getX(), chunk.getZ())) return;
+
+        chunks.put(chunk.getX(), chunk.getZ(), readEntries(chunk));
+    }
+
+    private static List<Entry> readEntries(Chunk chunk) {
+        List<Entry> entries = null;
+        for (GeneratedStructure generated : chunk.getStructures()) {
+            for (DreamStructure structure : DreamStructure.values()) {
+                if (!generated.getStructure().equals(structure.getStructure())) continue;
+
+                if (entries == null) entries = new ArrayList<>(1);
+                entries.add(new Entry(structure, generated));
+            }
+        }
+        return entries == null ? List.of() : List.copyOf(entries);
+    }
+
+    /**
+     * @param location La position
+     * @return Les structures qui touchent le chunk de la position
+     */
+    public static List<Entry> getEntries(Location location) {
+        if (!DreamUtils.isDreamWorld(location)) return List.of();
+
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        List<Entry> entries = chunks.get(chunkX, chunkZ);
+        if (entries == null) {
+            index(location.getChunk());
+            entries = chunks.get(chunkX, chunkZ);
+        }
+        return entries == null ? List.of() : entries;
+    }
+
+    /**
+     * @param location La position
+     * @return La structure dont la zone contient la position, ou null
+     */
+    public static Entry getEntryAt(Location location) {
+        for (Entry entry : getEntries(location)) {
+            if (entry.contains(location)) return entry;
+        }
+        return null;
+    }
+}
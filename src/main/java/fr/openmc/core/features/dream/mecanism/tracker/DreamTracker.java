@@ -0,0 +1,87 @@
+package fr.openmc.core.features.dream.mecanism.tracker;
+
+import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.events.PlayerBiomeChangeEvent;
+import fr.openmc.core.events.PlayerBlockChangeEvent;
+import fr.openmc.core.features.dream.DreamManager;
+import fr.openmc.core.features.dream.DreamUtils;
+import fr.openmc.core.features.dream.events.PlayerEnterBiomeEvent;
+import fr.openmc.core.features.dream.events.PlayerEnterStructureEvent;
+import fr.openmc.core.features.dream.events.PlayerExitStructureEvent;
+import fr.openmc.core.features.dream.registries.DreamBiome;
+import fr.openmc.core.features.dream.registries.DreamStructure;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Suit le biome et la structure de chaque joueur dans la dimension des rêves.
+ * <p>
+ * Mis à jour par les changements de biome et de bloc du {@link fr.openmc.core.listeners.MovementDispatcher},
+ * il n'appelle {@link PlayerEnterBiomeEvent}, {@link PlayerEnterStructureEvent} et
+ * {@link PlayerExitStructureEvent} que lors d'un vrai changement de biome ou de structure.
+ * Les structures sont lues dans le {@link DreamStructureIndex}.
+ */
+public class DreamTracker implements Listener {
+
+    private static final Map<UUID, DreamStructureIndex.Entry> structures = new HashMap<>();
+
+    @EventHandler
+    public void onBiomeChange(PlayerBiomeChangeEvent event) {
+        if (!DreamUtils.isDreamWorld(event.getWorld())) return;
+
+        DreamBiome biome = DreamBiome.fromBiome(event.getTo());
+        if (biome == null || biome == DreamBiome.fromBiome(event.getFrom())) return;
+
+        Player player = event.getPlayer();
+        if (DreamManager.getDreamPlayer(player) != null) {
+            Bukkit.getPluginManager().callEvent(new PlayerEnterBiomeEvent(player, biome.getBiome()));
+        }
+    }
+
+    @EventHandler
+    public void onBlockChange(PlayerBlockChangeEvent event) {
+        Player player = event.getPlayer();
+
+        if (!DreamUtils.isDreamWorld(event.getTo())) {
+            structures.remove(player.getUniqueId());
+            return;
+        }
+
+        DreamStructureIndex.Entry oldEntry = structures.get(player.getUniqueId());
+        DreamStructureIndex.Entry newEntry = DreamStructureIndex.getEntryAt(event.getTo());
+        if (newEntry == null) structures.remove(player.getUniqueId());
+        else structures.put(player.getUniqueId(), newEntry);
+
+        DreamStructure oldStructure = oldEntry == null ? null : oldEntry.structure();
+        DreamStructure newStructure = newEntry == null ? null : newEntry.structure();
+        if (oldStructure == newStructure) return;
+
+        if (newEntry == null) {
+            Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
+                    Bukkit.getPluginManager().callEvent(new PlayerExitStructureEvent(player, oldStructure, oldEntry.generated()))
+            );
+        } else {
+            Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () ->
+                    Bukkit.getPluginManager().callEvent(new PlayerEnterStructureEvent(player, newStructure, newEntry.generated()))
+            );
+        }
+    }
+
+    @EventHandler
+    public void onChunkLoad(ChunkLoadEvent event) {
+        DreamStructureIndex.index(event.getChunk());
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        structures.remove(event.getPlayer().getUniqueId());
+    }
+}
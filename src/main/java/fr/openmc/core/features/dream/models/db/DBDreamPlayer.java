@@ -59,4 +59,16 @@ public class DBDreamPlayer {
 
         this.progressionOrb = progressionOrb;
     }
+
+    /**
+     * @return Une copie, à mettre dans la file d'écriture pendant que le cache continue de changer
+     */
+    public DBDreamPlayer snapshot() {
+        DBDreamPlayer copy = new DBDreamPlayer(this.playerUUID, this.maxDreamTime, this.dreamInventory);
+        copy.dreamX = this.dreamX;
+        copy.dreamY = this.dreamY;
+        copy.dreamZ = this.dreamZ;
+        copy.progressionOrb = this.progressionOrb;
+        return copy;
+    }
 }
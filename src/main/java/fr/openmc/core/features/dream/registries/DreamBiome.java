@@ -63,6 +63,20 @@ public enum DreamBiome {
         return player.getLocation().getBlock().getBiome() == dreamBiome.getBiome();
     }
 
+    /**
+     * @param biome Un biome
+     * @return Le biome des rêves correspondant, ou null si ce n'en est pas un
+     */
+    public static DreamBiome fromBiome(Biome biome) {
+        if (biome == null) return null;
+
+        for (DreamBiome dreamBiome : DreamBiome.values()) {
+            if (biome.equals(dreamBiome.getBiome())) return dreamBiome;
+        }
+
+        return null;
+    }
+
     public static DreamBiome getDreamBiome(Player player) {
         for (DreamBiome dreamBiome : DreamBiome.values()) {
             if (!dreamBiome.getBiome().equals(player.getLocation().getBlock().getBiome())) continue;
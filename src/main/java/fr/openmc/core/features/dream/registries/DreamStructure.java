@@ -1,5 +1,6 @@
 package fr.openmc.core.features.dream.registries;
 
+import fr.openmc.core.features.dream.mecanism.tracker.DreamStructureIndex;
 import fr.openmc.core.utils.text.messages.TranslationManager;
 import io.papermc.paper.registry.RegistryAccess;
 import io.papermc.paper.registry.RegistryKey;
@@ -9,13 +10,9 @@ import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.bukkit.entity.Player;
-import org.bukkit.generator.structure.GeneratedStructure;
 import org.bukkit.generator.structure.Structure;
-import org.bukkit.util.BoundingBox;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collection;
-
 @Getter
 public enum DreamStructure {
 
@@ -45,27 +42,18 @@ public enum DreamStructure {
     }
 
     public static boolean isInInsideDreamStructure(Location location, DreamStructure dreamStructure) {
-        return !location.getChunk().getStructures(dreamStructure.getStructure()).isEmpty();
+        for (DreamStructureIndex.Entry entry : DreamStructureIndex.getEntries(location)) {
+            if (entry.structure() == dreamStructure) return true;
+        }
+        return false;
     }
     public static boolean isInInsideDreamStructure(Player player, DreamStructure dreamStructure) {
         return isInInsideDreamStructure(player.getLocation(), dreamStructure);
     }
 
     public static DreamStructure getDreamStructureAt(Location location) {
-        for (DreamStructure structure : DreamStructure.values()) {
-            Collection<GeneratedStructure> structures = location.getChunk().getStructures(structure.getStructure());
-
-            if (structures.isEmpty()) continue;
-
-            for (GeneratedStructure s : structures) {
-                BoundingBox boundingBox = s.getBoundingBox();
-                if (boundingBox != null && boundingBox.contains(location.toVector())) {
-                    return structure;
-                }
-            }
-        }
-
-        return null;
+        DreamStructureIndex.Entry entry = DreamStructureIndex.getEntryAt(location);
+        return entry == null ? null : entry.structure();
     }
 
     public static DreamStructure getDreamStructure(Player player) {
@@ -55,6 +55,7 @@ public class BankManager extends Feature implements HasDatabase {
     @Override
     public void init() {
         banks = loadAllBanks();
+        EconomyManager.reindexWealth();
         CommandsManager.getHandler().register(new BankCommands());
         updateInterestTimer();
     }
@@ -102,6 +103,7 @@ public class BankManager extends Feature implements HasDatabase {
     private static boolean saveBank(Bank bank) {
         try {
             banks.put(bank.getPlayerUUID(), bank);
+            EconomyManager.updateWealth(bank.getPlayerUUID());
             banksDao.createOrUpdate(bank);
             return true;
         } catch (SQLException e) {
@@ -251,6 +253,7 @@ public class BankManager extends Feature implements HasDatabase {
     // PERFORMANCE IF THERE ARE MANY BANKS SAVED IN THE DB
     public static void applyAllPlayerInterests() {
         banks = loadAllBanks();
+        EconomyManager.reindexWealth();
         for (UUID player : banks.keySet()) {
             applyPlayerInterest(player);
         }
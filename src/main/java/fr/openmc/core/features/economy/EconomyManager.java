@@ -14,8 +14,10 @@ import fr.openmc.core.features.economy.commands.Baltop;
 import fr.openmc.core.features.economy.commands.History;
 import fr.openmc.core.features.economy.commands.Money;
 import fr.openmc.core.features.economy.commands.Pay;
+import fr.openmc.core.features.economy.models.Bank;
 import fr.openmc.core.features.economy.models.EconomyPlayer;
 import fr.openmc.core.hooks.itemsadder.ItemsAdderHook;
+import fr.openmc.core.utils.types.RankedIndex;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
@@ -30,6 +32,11 @@ import java.util.*;
 public class EconomyManager extends Feature implements HasDatabase, HasCommands {
     @Getter
     private static Map<UUID, EconomyPlayer> balances;
+    /**
+     * Classement des joueurs par fortune (solde + banque personnelle), mis à jour à chaque mouvement d'argent
+     */
+    @Getter
+    private static final RankedIndex<UUID> wealthIndex = new RankedIndex<>();
 
     private static Dao<EconomyPlayer, String> playersDao;
 
@@ -45,6 +52,7 @@ public class EconomyManager extends Feature implements HasDatabase, HasCommands
     @Override
     public void init() {
         balances = loadAllBalances();
+        reindexWealth();
     }
 
     @Override
@@ -80,6 +88,7 @@ public class EconomyManager extends Feature implements HasDatabase, HasCommands
     public static void addBalance(UUID playerUUID, double amount, @Nullable String reason) {
         EconomyPlayer bank = getPlayerBank(playerUUID);
         bank.deposit(amount);
+        updateWealth(playerUUID);
 
         if (reason != null) {
             TransactionsManager.registerTransaction(new Transaction(
@@ -100,6 +109,7 @@ public class EconomyManager extends Feature implements HasDatabase, HasCommands
         EconomyPlayer bank = getPlayerBank(playerUUID);
 
         if (!bank.withdraw(amount)) return false;
+        updateWealth(playerUUID);
 
         if (reason != null) {
             TransactionsManager.registerTransaction(new Transaction(
@@ -156,6 +166,32 @@ public class EconomyManager extends Feature implements HasDatabase, HasCommands
     public static void setBalance(UUID playerUUID, double amount) {
         EconomyPlayer bank = getPlayerBank(playerUUID);
         bank.setBalance(amount);
+        updateWealth(playerUUID);
+    }
+
+    /**
+     * Met à jour la place d'un joueur dans le classement des fortunes.
+     *
+     * @param playerUUID UUID du joueur
+     */
+    public static void updateWealth(UUID playerUUID) {
+        Map<UUID, Bank> banks = BankManager.getBanks();
+        Bank bank = banks == null ? null : banks.get(playerUUID);
+
+        double balance = balances == null ? 0 : getBalance(playerUUID);
+
+        wealthIndex.update(playerUUID, balance + (bank == null ? 0 : bank.getBalance()));
+    }
+
+    /**
+     * Reconstruit le classement des fortunes à partir des soldes et des banques chargés.
+     */
+    public static void reindexWealth() {
+        wealthIndex.clear();
+        if (balances != null) balances.keySet().forEach(EconomyManager::updateWealth);
+
+        Map<UUID, Bank> banks = BankManager.getBanks();
+        if (banks != null) banks.keySet().forEach(EconomyManager::updateWealth);
     }
 
     public static String getMiniBalance(UUID playerUUID) {
@@ -9,9 +9,9 @@ import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.bootstrap.features.Feature;
 import fr.openmc.core.bootstrap.features.annotations.Credit;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
 import fr.openmc.core.features.analytics.Stats;
-import org.bukkit.Bukkit;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -54,12 +54,6 @@ public class TransactionsManager extends Feature implements HasDatabase {
             Stats.TOTAL_TRANSACTIONS.increment(UUID.fromString(transaction.recipient));
         }
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
-            try {
-                transactionsDao.create(transaction);
-            } catch (SQLException e) {
-                OMCLogger.error("Failed to register transactions", e);
-            }
-        });
+        DatabaseManager.queue(() -> transactionsDao.create(transaction));
     }
 }
@@ -3,8 +3,6 @@ package fr.openmc.core.features.economy.menu;
 import fr.openmc.api.menulib.Menu;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
 import fr.openmc.core.features.city.sub.milestone.rewards.PlayerBankLimitRewards;
@@ -93,8 +91,7 @@ public class PersonalBankMenu extends Menu {
             });
         };
 
-        MenuUtils.runDynamicItem(player, this, 13, interestItemSupplier)
-                .runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
+        inventory.put(13, interestItemSupplier.get().setRefresh(20L, interestItemSupplier));
 
         List<Component> loreBankTake = TranslationManager.translationLore("feature.economy.bank.menu.withdraw.lore");
 
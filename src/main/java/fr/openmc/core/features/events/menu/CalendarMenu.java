@@ -1,14 +1,10 @@
 package fr.openmc.core.features.events.menu;
 
-import fr.openmc.api.menulib.MenuLib;
-import fr.openmc.api.menulib.OpenMenu;
 import fr.openmc.api.menulib.PaginatedMenu;
 import fr.openmc.api.menulib.template.ItemMenuTemplate;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
-import fr.openmc.api.menulib.utils.MenuUtils;
 import fr.openmc.api.menulib.utils.StaticSlots;
-import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.events.EventsManager;
 import fr.openmc.core.features.events.contents.dailyevents.models.ScheduleDailyEvent;
 import fr.openmc.core.features.events.contents.weeklyevents.models.WeeklyEvent;
@@ -16,7 +12,6 @@ import fr.openmc.core.features.events.contents.weeklyevents.models.WeeklyEventPh
 import fr.openmc.core.features.events.models.Event;
 import fr.openmc.core.utils.text.DateUtils;
 import fr.openmc.core.utils.text.messages.TranslationManager;
-import io.papermc.paper.persistence.PersistentDataContainerView;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
@@ -24,9 +19,7 @@ import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
-import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.persistence.PersistentDataType;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -39,9 +32,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class CalendarMenu extends PaginatedMenu implements OpenMenu {
-    private static final HashMap<String, ScheduleDailyEvent> scheduledEventById = new HashMap<>();
-
+public class CalendarMenu extends PaginatedMenu {
     public CalendarMenu(Player owner) {
         super(owner);
     }
@@ -65,10 +56,11 @@ public class CalendarMenu extends PaginatedMenu implements OpenMenu {
                 meta.lore(getEventLore(event));
             });
 
-            if (event instanceof ScheduleDailyEvent de) {
-                String itemId = "scheduled_" + de.getScheduledStartDate().toString().toLowerCase(); // .toLowerCase car mc enelve les maj sur les pdc
-                scheduledEventById.put(itemId, de);
-                items.add(itemBuilder.setItemId(itemId));
+            if (event instanceof ScheduleDailyEvent) {
+                items.add(itemBuilder.setRefresh(20L, () -> new ItemMenuBuilder(this, event.getIcon(), meta -> {
+                    meta.customName(event.getName().decoration(TextDecoration.ITALIC, false));
+                    meta.lore(getEventLore(event));
+                })));
             } else if (event instanceof WeeklyEvent) {
                 items.add(itemBuilder);
             }
@@ -76,36 +68,6 @@ public class CalendarMenu extends PaginatedMenu implements OpenMenu {
         return items;
     }
 
-    @Override
-    public void onOpen(InventoryOpenEvent event) {
-        int i = 0;
-        for (ItemStack itemStack : event.getInventory().getContents()) {
-            if (itemStack == null) {
-                i++;
-                continue;
-            }
-
-            PersistentDataContainerView pdc = itemStack.getPersistentDataContainer();
-            if (!pdc.has(MenuLib.getItemIdKey())) {
-                i++;
-                continue;
-            }
-
-            String itemId = pdc.get(MenuLib.getItemIdKey(), PersistentDataType.STRING);
-            ScheduleDailyEvent scheduleEvent = scheduledEventById.get(itemId);
-
-            if (scheduleEvent != null) {
-                MenuUtils.runDynamicItem(getOwner(), this, i, () ->
-                        new ItemMenuBuilder(this, scheduleEvent.getIcon(), meta -> {
-                            meta.customName(scheduleEvent.getName().decoration(TextDecoration.ITALIC, false));
-                            meta.lore(getEventLore(scheduleEvent));
-                        })
-                ).runTaskTimer(OMCPlugin.getInstance(), 0L, 20L);
-            }
-            i++;
-        }
-    }
-
     @Override
     public List<Integer> getTakableSlot() {
         return List.of();
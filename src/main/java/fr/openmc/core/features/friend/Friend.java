@@ -12,8 +12,10 @@ import java.util.UUID;
 public class Friend {
     @DatabaseField(generatedId = true)
     private Long id;
+    @Getter
     @DatabaseField(canBeNull = false)
     private UUID first;
+    @Getter
     @DatabaseField(canBeNull = false)
     private UUID second;
     @Getter
@@ -37,4 +39,13 @@ public class Friend {
     public UUID getOther(UUID player) {
         return player.equals(first) ? second : first;
     }
+
+    /**
+     * @return Une copie de l'amitié, pour l'écrire en base sans toucher à celle du cache
+     */
+    Friend snapshot() {
+        Friend copy = new Friend(first, second, date);
+        copy.bestFriend = bestFriend;
+        return copy;
+    }
 }
@@ -6,16 +6,22 @@ import fr.openmc.core.bootstrap.features.annotations.Credit;
 import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
 import fr.openmc.core.features.friend.commands.FriendCommand;
+import fr.openmc.core.utils.text.DateUtils;
 import lombok.Getter;
 
 import java.sql.SQLException;
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
-
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gère les amis des joueurs.
+ * <p>
+ * Toutes les amitiés sont chargées au démarrage dans un graphe en mémoire (joueur -> ses amis) :
+ * savoir si deux joueurs sont amis ne fait plus de requête SQL, et peut se faire depuis un thread async.
+ * Les ajouts, suppressions et changements de meilleur ami sont écrits en base en arrière-plan.
+ */
 @Credit(developers = {"Axeno"})
 public class FriendManager extends Feature implements HasDatabase, HasCommands {
 
@@ -25,6 +31,16 @@ public class FriendManager extends Feature implements HasDatabase, HasCommands {
     @Getter
     public static final List<FriendRequest> friendsRequests = new ArrayList<>();
 
+    private static final Map<UUID, Map<UUID, Friend>> friends = new ConcurrentHashMap<>();
+
+    @Override
+    public void init() {
+        friends.clear();
+        for (Friend friend : FriendSQLManager.loadAll()) {
+            link(friend.getFirst(), friend.getSecond(), friend);
+        }
+    }
+
     @Override
     public Set<Object> getCommands() {
         return Set.of(
@@ -37,25 +53,73 @@ public class FriendManager extends Feature implements HasDatabase, HasCommands {
         FriendSQLManager.initDB(connectionSource);
     }
 
+    private static void link(UUID firstUUID, UUID secondUUID, Friend friend) {
+        friends.computeIfAbsent(firstUUID, uuid -> new ConcurrentHashMap<>()).put(secondUUID, friend);
+        friends.computeIfAbsent(secondUUID, uuid -> new ConcurrentHashMap<>()).put(firstUUID, friend);
+    }
+
+    private static Friend unlink(UUID firstUUID, UUID secondUUID) {
+        Map<UUID, Friend> firstFriends = friends.get(firstUUID);
+        Map<UUID, Friend> secondFriends = friends.get(secondUUID);
+        if (secondFriends != null) secondFriends.remove(firstUUID);
+        return firstFriends == null ? null : firstFriends.remove(secondUUID);
+    }
+
+    private static Friend getFriend(UUID firstUUID, UUID secondUUID) {
+        Map<UUID, Friend> firstFriends = friends.get(firstUUID);
+        return firstFriends == null ? null : firstFriends.get(secondUUID);
+    }
+
+    /**
+     * @param playerUUID L'UUID du joueur
+     * @return Les UUID des amis du joueur
+     */
+    public static List<UUID> getFriends(UUID playerUUID) {
+        Map<UUID, Friend> playerFriends = friends.get(playerUUID);
+        return playerFriends == null ? new ArrayList<>() : new ArrayList<>(playerFriends.keySet());
+    }
+
     public static CompletableFuture<List<UUID>> getFriendsAsync(UUID playerUUID) {
-        return FriendSQLManager.getAllFriendsAsync(playerUUID);
+        return CompletableFuture.completedFuture(getFriends(playerUUID));
     }
 
     public static void addFriend(UUID firstUUID, UUID secondUUID) {
-        FriendSQLManager.addInDatabase(firstUUID, secondUUID);
+        if (!areFriends(firstUUID, secondUUID)) {
+            Friend friend = new Friend(firstUUID, secondUUID, Timestamp.valueOf(DateUtils.getLocalDateTime()));
+            link(firstUUID, secondUUID, friend);
+            FriendSQLManager.saveInDatabase(firstUUID, secondUUID, friend);
+        }
         removeRequest(getRequest(firstUUID));
     }
 
     public static boolean removeFriend(UUID firstUUID, UUID secondUUID) {
-        return FriendSQLManager.removeInDatabase(firstUUID, secondUUID);
+        if (unlink(firstUUID, secondUUID) == null) return false;
+
+        FriendSQLManager.removeInDatabase(firstUUID, secondUUID);
+        return true;
     }
 
     public static boolean areFriends(UUID firstUUID, UUID secondUUID) {
-        return FriendSQLManager.areFriends(firstUUID, secondUUID);
+        return getFriend(firstUUID, secondUUID) != null;
+    }
+
+    public static boolean isBestFriend(UUID firstUUID, UUID secondUUID) {
+        Friend friend = getFriend(firstUUID, secondUUID);
+        return friend != null && friend.isBestFriend();
+    }
+
+    public static boolean setBestFriend(UUID firstUUID, UUID secondUUID, boolean bestFriend) {
+        Friend friend = getFriend(firstUUID, secondUUID);
+        if (friend == null) return false;
+
+        friend.setBestFriend(bestFriend);
+        FriendSQLManager.saveInDatabase(firstUUID, secondUUID, friend);
+        return true;
     }
 
     public static Timestamp getTimestamp(UUID firstUUID, UUID secondUUID) {
-        return FriendSQLManager.getTimestamp(firstUUID, secondUUID);
+        Friend friend = getFriend(firstUUID, secondUUID);
+        return friend == null ? null : friend.getDate();
     }
 
     public static void addRequest(UUID firstUUID, UUID secondUUID) {
@@ -2,19 +2,18 @@ package fr.openmc.core.features.friend;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
-import com.j256.ormlite.stmt.QueryBuilder;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.Where;
 import com.j256.ormlite.support.ConnectionSource;
 import com.j256.ormlite.table.TableUtils;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
-import fr.openmc.core.utils.text.DateUtils;
 
 import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 public class FriendSQLManager {
 
@@ -26,98 +25,46 @@ public class FriendSQLManager {
         friendsDao = DaoManager.createDao(connectionSource, Friend.class);
     }
 
-    private static Friend getFriendObject(UUID first, UUID second) {
+    public static List<Friend> loadAll() {
         try {
-            QueryBuilder<Friend, UUID> query = friendsDao.queryBuilder();
-            Where<Friend, UUID> where = query.where();
-
-            where.or(where.eq("first", first).and().eq("second", second), where.eq("first", second).and().eq("second"
-                    , first)); // Bordel !!!!
-
-            List<Friend> objs = friendsDao.query(query.prepare());
-
-            if (objs.isEmpty()) {
-                return null;
-            } else {
-                return objs.getFirst();
-            }
-
+            return friendsDao.queryForAll();
         } catch (SQLException e) {
-            OMCLogger.error("Failed to get Friends Object 1={} 2={}", first, second, e);
-            return null;
+            OMCLogger.error("Failed to load Friends from database", e);
+            return List.of();
         }
     }
 
-    public static boolean addInDatabase(UUID first, UUID second) {
-        try {
-            return friendsDao.create(new Friend(first, second, Timestamp.valueOf(DateUtils.getLocalDateTime()))) != 0;
-        } catch (SQLException e) {
-            OMCLogger.error("Failed to add Friends in database", e);
-            return false;
-        }
-    }
-
-    public static boolean removeInDatabase(UUID first, UUID second) {
-        try {
-            return friendsDao.delete(getFriendObject(first, second)) != 0;
-        } catch (SQLException e) {
-            OMCLogger.error("Failed to remove Friends in database", e);
-            return false;
-        }
-    }
-
-    public static boolean areFriends(UUID first, UUID second) {
-        return getFriendObject(first, second) != null;
-    }
-
-    public static boolean isBestFriend(UUID first, UUID second) {
-        return getFriendObject(first, second).isBestFriend();
-    }
-
-    public static boolean setBestFriend(UUID first, UUID second, boolean bestFriend) {
-        Friend friend = getFriendObject(first, second);
-        friend.setBestFriend(bestFriend);
-        try {
-            return friendsDao.update(friend) != 0;
-        } catch (SQLException e) {
-            OMCLogger.error("Failed to set Best Friends in database", e);
-            return false;
-        }
+    /**
+     * Ecrit l'état actuel d'une amitié, en remplaçant la ligne existante.
+     *
+     * @param first  Le premier joueur
+     * @param second Le second joueur
+     * @param friend L'amitié
+     */
+    public static void saveInDatabase(UUID first, UUID second, Friend friend) {
+        Friend snapshot = friend.snapshot();
+        DatabaseManager.queue(key(first, second), MutationType.UPSERT, () -> {
+            deletePair(first, second);
+            friendsDao.create(snapshot);
+        });
     }
 
-    public static Timestamp getTimestamp(UUID first, UUID second) {
-        return getFriendObject(first, second).getDate();
+    public static void removeInDatabase(UUID first, UUID second) {
+        DatabaseManager.queue(key(first, second), MutationType.DELETE, () -> deletePair(first, second));
     }
 
-    public static CompletableFuture<List<UUID>> getAllFriendsAsync(UUID playerUUID) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<UUID> friends = new ArrayList<>();
+    private static void deletePair(UUID first, UUID second) throws SQLException {
+        DeleteBuilder<Friend, UUID> delete = friendsDao.deleteBuilder();
+        Where<Friend, UUID> where = delete.where();
 
-            try {
-                QueryBuilder<Friend, UUID> query = friendsDao.queryBuilder();
-                query.where().eq("first", playerUUID).or().eq("second", playerUUID);
-                friendsDao.query(query.prepare()).forEach(friend -> friends.add(friend.getOther(playerUUID)));
-            } catch (SQLException e) {
-                OMCLogger.error("Failed to get a friends async", e);
-            }
-            return friends;
-        });
+        where.or(where.eq("first", first).and().eq("second", second), where.eq("first", second).and().eq("second"
+                , first));
+        delete.delete();
     }
 
-    public static CompletableFuture<List<UUID>> getBestFriendsAsync(UUID playerUUID) {
-        return CompletableFuture.supplyAsync(() -> {
-            List<UUID> friends = new ArrayList<>();
-
-            try {
-                QueryBuilder<Friend, UUID> query = friendsDao.queryBuilder();
-                query.where().and(query.where().eq("first", playerUUID)
-                                .or().eq("second", playerUUID),
-                        query.where().eq("best_friend", true));
-                friendsDao.query(query.prepare()).forEach(friend -> friends.add(friend.getOther(playerUUID)));
-            } catch (SQLException e) {
-                OMCLogger.error("Failed to get Best Friends async", e);
-            }
-            return friends;
-        });
+    private static Object key(UUID first, UUID second) {
+        return first.compareTo(second) < 0
+                ? DatabaseWriteQueue.key("friends", first, second)
+                : DatabaseWriteQueue.key("friends", second, first);
     }
 }
@@ -9,24 +9,32 @@ import fr.openmc.core.bootstrap.features.annotations.Credit;
 import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
 import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.features.homes.command.*;
 import fr.openmc.core.features.homes.models.Home;
 import fr.openmc.core.features.homes.models.HomeLimit;
 import fr.openmc.core.features.homes.world.DisabledWorldHome;
 import lombok.Getter;
+import org.bukkit.Location;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
-import java.util.UUID;
-
+import java.util.*;
+
+/**
+ * Homes des joueurs, indexés par propriétaire.
+ * <p>
+ * Chaque joueur a sa petite liste de homes et un index par nom (insensible à la casse) :
+ * les commandes, l'autocomplétion et les menus ne parcourent que les homes du joueur.
+ * Chaque création, modification ou suppression est écrite seule via la file d'écriture différée.
+ */
 @Credit(developers = {"Axeno"}, graphist = {"Gexary"})
 @Getter
 public class HomesManager extends Feature implements HasDatabase, HasCommands {
 
-    public static final List<Home> homes = new ArrayList<>();
-    public static final List<HomeLimit> homeLimits = new ArrayList<>();
+    private static final Map<UUID, List<Home>> homesByOwner = new HashMap<>();
+    private static final Map<UUID, Map<String, Home>> homesByName = new HashMap<>();
+    private static final Map<UUID, HomeLimit> homeLimits = new HashMap<>();
 
     @Override
     public void init() {
@@ -51,8 +59,7 @@ public class HomesManager extends Feature implements HasDatabase, HasCommands {
 
     @Override
     public void save() {
-        saveHomes();
-        saveHomeLimit();
+        // chaque modification est déjà dans la file d'écriture différée
     }
 
     // DB methods
@@ -71,41 +78,149 @@ public class HomesManager extends Feature implements HasDatabase, HasCommands {
 
     private static void loadHomeLimit() {
         try {
-            homeLimits.addAll(limitsDao.queryForAll());
-
-            for (HomeLimit homeLimit : homeLimits) {
+            homeLimits.clear();
+            for (HomeLimit homeLimit : limitsDao.queryForAll()) {
                 if (homeLimit.getLimit() == 0) homeLimit.setLimit(HomeLimits.LIMIT_0.getLimit());
+                homeLimits.put(homeLimit.getPlayerUUID(), homeLimit);
             }
         } catch (SQLException e) {
             throw new RuntimeException("Erreur de chargement des HomesLimit ", e);
         }
     }
 
-    private static void saveHomeLimit() {
+    private static void loadHomes() {
         try {
-            TableUtils.clearTable(DatabaseManager.getConnectionSource(), HomeLimit.class);
-            limitsDao.create(homeLimits);
+            homesByOwner.clear();
+            homesByName.clear();
+            for (Home home : homesDao.queryForAll()) {
+                index(home);
+            }
         } catch (SQLException e) {
-            throw new RuntimeException("Erreur de sauvegarde des HomesLimit ", e);
+            throw new RuntimeException("Erreur de chargement des Homes ", e);
         }
     }
 
-    private static void loadHomes() {
-        try {
-            homes.addAll(homesDao.queryForAll());
-        } catch (SQLException e) {
-            throw new RuntimeException("Erreur de chargement des Homes ", e);
+    private static void index(Home home) {
+        homesByOwner.computeIfAbsent(home.getOwner(), owner -> new ArrayList<>(2)).add(home);
+        homesByName.computeIfAbsent(home.getOwner(), owner -> new HashMap<>(4))
+                .put(home.getName().toLowerCase(Locale.ROOT), home);
+    }
+
+    // Homes
+
+    /**
+     * @param owner UUID du propriétaire
+     * @return Les homes du joueur, dans leur ordre de création
+     */
+    public static List<Home> getHomes(UUID owner) {
+        List<Home> homes = homesByOwner.get(owner);
+        return homes == null ? List.of() : Collections.unmodifiableList(homes);
+    }
+
+    /**
+     * @param owner UUID du propriétaire
+     * @param name  Nom du home (insensible à la casse)
+     * @return Le home, ou null si le joueur n'a pas de home à ce nom
+     */
+    public static Home getHome(UUID owner, String name) {
+        Map<String, Home> homes = homesByName.get(owner);
+        return homes == null ? null : homes.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Ajoute un home et l'écrit en base.
+     *
+     * @param home Le home
+     */
+    public static void addHome(Home home) {
+        index(home);
+        saveHome(home);
+    }
+
+    /**
+     * Supprime un home et le retire de la base.
+     *
+     * @param home Le home
+     * @return true si le home existait
+     */
+    public static boolean removeHome(Home home) {
+        List<Home> homes = homesByOwner.get(home.getOwner());
+        if (homes == null || !homes.remove(home)) return false;
+
+        if (homes.isEmpty()) {
+            homesByOwner.remove(home.getOwner());
+            homesByName.remove(home.getOwner());
+        } else {
+            homesByName.get(home.getOwner()).remove(home.getName().toLowerCase(Locale.ROOT), home);
         }
+
+        DatabaseManager.queue(DatabaseWriteQueue.key("homes", home.getUniqueId()), MutationType.DELETE,
+                () -> homesDao.deleteById(home.getUniqueId()));
+        return true;
     }
 
-    private static void saveHomes() {
-        try {
-            TableUtils.clearTable(DatabaseManager.getConnectionSource(), Home.class);
-            for (Home home : homes) {
-                homesDao.createOrUpdate(home);
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Erreur de sauvegarde des Homes ", e);
+    /**
+     * Renomme un home.
+     *
+     * @param home    Le home
+     * @param newName Le nouveau nom
+     */
+    public static void renameHome(Home home, String newName) {
+        Map<String, Home> homes = homesByName.get(home.getOwner());
+        if (homes != null) {
+            homes.remove(home.getName().toLowerCase(Locale.ROOT), home);
+            homes.put(newName.toLowerCase(Locale.ROOT), home);
         }
+
+        home.setName(newName);
+        saveHome(home);
+    }
+
+    /**
+     * Déplace un home.
+     *
+     * @param home     Le home
+     * @param location La nouvelle position
+     */
+    public static void relocateHome(Home home, Location location) {
+        home.setLocation(location);
+        saveHome(home);
+    }
+
+    /**
+     * Ecrit l'état actuel d'un home en base (ex : après un changement d'icône).
+     * Une copie est écrite, le home peut être modifié pendant l'écriture.
+     *
+     * @param home Le home
+     */
+    public static void saveHome(Home home) {
+        Home snapshot = home.snapshot();
+        DatabaseManager.queue(DatabaseWriteQueue.key("homes", home.getUniqueId()), MutationType.UPSERT,
+                () -> homesDao.createOrUpdate(snapshot));
+    }
+
+    // Limits
+
+    /**
+     * @param playerUUID UUID du joueur
+     * @return La limite de homes du joueur ({@link HomeLimits#LIMIT_0} s'il n'en a pas)
+     */
+    public static HomeLimit getHomeLimit(UUID playerUUID) {
+        return homeLimits.computeIfAbsent(playerUUID, uuid -> new HomeLimit(uuid, HomeLimits.LIMIT_0));
+    }
+
+    /**
+     * Passe la limite de homes d'un joueur au niveau suivant et l'écrit en base.
+     *
+     * @param playerUUID UUID du joueur
+     */
+    public static void upgradeHomeLimit(UUID playerUUID) {
+        HomeLimit homeLimit = getHomeLimit(playerUUID);
+        int currentLimitIndex = homeLimit.getHomeLimit().ordinal();
+        homeLimit.setLimit(HomeLimits.values()[currentLimitIndex + 1].getLimit());
+
+        HomeLimit snapshot = homeLimit.snapshot();
+        DatabaseManager.queue(DatabaseWriteQueue.key("home_limits", playerUUID), MutationType.UPSERT,
+                () -> limitsDao.createOrUpdate(snapshot));
     }
 }
@@ -55,26 +55,25 @@ public class TpHomeCommand {
                 return;
             }
 
-            for (Home h : homes) {
-                if (h.getName().equalsIgnoreCase(split[1])) {
-                    PlayerUtils.sendFadeTitleTeleport(player, h.getLocation());
-                    new BukkitRunnable() {
-                        @Override
-                        public void run() {
-                            Bukkit.getPluginManager().callEvent(new HomeTpEvent(h, player));
-                        }
-                    }.runTask(OMCPlugin.getInstance());
-                    player.message().sendSuccess(
-                            TranslationManager.translation(
-                                    "feature.homes.command.teleport.other.success",
-                                    Component.text(h.getName()).color(NamedTextColor.YELLOW),
-                                    Component.text(target.getName()).color(NamedTextColor.YELLOW)
-                            ),
-                            Prefix.HOME,
-                            true
-                    );
-                    return;
-                }
+            Home h = target.home().getHome(split[1]);
+            if (h != null) {
+                PlayerUtils.sendFadeTitleTeleport(player, h.getLocation());
+                new BukkitRunnable() {
+                    @Override
+                    public void run() {
+                        Bukkit.getPluginManager().callEvent(new HomeTpEvent(h, player));
+                    }
+                }.runTask(OMCPlugin.getInstance());
+                player.message().sendSuccess(
+                        TranslationManager.translation(
+                                "feature.homes.command.teleport.other.success",
+                                Component.text(h.getName()).color(NamedTextColor.YELLOW),
+                                Component.text(target.getName()).color(NamedTextColor.YELLOW)
+                        ),
+                        Prefix.HOME,
+                        true
+                );
+                return;
             }
 
             player.message().sendError(TranslationManager.translation("feature.homes.command.other_no_home_with_name"), Prefix.HOME);
@@ -98,25 +97,24 @@ public class TpHomeCommand {
             return;
         }
 
-        for (Home h : homes) {
-            if (h.getName().equalsIgnoreCase(home)) {
-                PlayerUtils.sendFadeTitleTeleport(player, h.getLocation());
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        Bukkit.getPluginManager().callEvent(new HomeTpEvent(h, player));
-                    }
-                }.runTask(OMCPlugin.getInstance());
-                player.message().sendSuccess(
-                        TranslationManager.translation(
-                                "feature.homes.command.teleport.self.success",
-                                Component.text(h.getName()).color(NamedTextColor.YELLOW)
-                        ),
-                        Prefix.HOME,
-                        true
-                );
-                return;
-            }
+        Home h = player.home().getHome(home);
+        if (h != null) {
+            PlayerUtils.sendFadeTitleTeleport(player, h.getLocation());
+            new BukkitRunnable() {
+                @Override
+                public void run() {
+                    Bukkit.getPluginManager().callEvent(new HomeTpEvent(h, player));
+                }
+            }.runTask(OMCPlugin.getInstance());
+            player.message().sendSuccess(
+                    TranslationManager.translation(
+                            "feature.homes.command.teleport.self.success",
+                            Component.text(h.getName()).color(NamedTextColor.YELLOW)
+                    ),
+                    Prefix.HOME,
+                    true
+            );
+            return;
         }
 
         player.message().sendError(
@@ -4,6 +4,7 @@ import fr.openmc.api.entity.player.OMCPlayer;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.api.menulib.utils.ItemUtils;
 import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.features.homes.HomesManager;
 import fr.openmc.core.features.homes.menu.HomeChangeIconMenu;
 import fr.openmc.core.features.homes.models.Home;
 import fr.openmc.core.utils.text.messages.Prefix;
@@ -99,6 +100,7 @@ public class CachedIconItem {
                 .setOnClick(event -> {
                     Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
                         home.setIcon(homeIcon);
+                        HomesManager.saveHome(home);
                         OMCPlayer.of(player).message().sendSuccess(
                                 TranslationManager.translation(
                                         "feature.homes.icon.changed",
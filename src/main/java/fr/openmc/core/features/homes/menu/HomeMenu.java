@@ -10,6 +10,7 @@ import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.api.menulib.utils.ItemUtils;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.OMCRegistry;
+import fr.openmc.core.features.homes.HomesManager;
 import fr.openmc.core.features.homes.events.HomeTpEvent;
 import fr.openmc.core.features.homes.icons.HomeIcon;
 import fr.openmc.core.features.homes.icons.HomeIconRegistry;
@@ -94,6 +95,7 @@ public class HomeMenu extends PaginatedMenu {
             if (homeIcon == null) {
                 homeIcon = HomeIconRegistry.getDefaultIcon();
                 home.setIcon(homeIcon);
+                HomesManager.saveHome(home);
             }
             try {
                 items.add(new ItemMenuBuilder(this, HomeIconRegistry.getIconOrDefault(home.getIcon().id()).getItemStack(), itemMeta -> {
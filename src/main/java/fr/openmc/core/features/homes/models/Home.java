@@ -63,6 +63,24 @@ public class Home {
         this(uniqueId, owner, name, location, HomeIconRegistry.fromLegacyHomeIcon(legacyIcon));
     }
 
+    /**
+     * @return Une copie du home, pour l'écrire en base sans toucher à celui du cache
+     */
+    public Home snapshot() {
+        Home copy = new Home();
+        copy.uniqueId = uniqueId;
+        copy.owner = owner;
+        copy.name = name;
+        copy.iconId = iconId;
+        copy.world = world;
+        copy.x = x;
+        copy.y = y;
+        copy.z = z;
+        copy.yaw = yaw;
+        copy.pitch = pitch;
+        return copy;
+    }
+
     public Location getLocation() {
         return new Location(Bukkit.getWorld(world), x, y, z, yaw, pitch);
     }
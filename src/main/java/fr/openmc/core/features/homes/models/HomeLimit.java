@@ -32,6 +32,13 @@ public class HomeLimit {
         this.limit = limit.getLimit();
     }
 
+    /**
+     * @return Une copie de la limite, pour l'écrire en base sans toucher à celle du cache
+     */
+    public HomeLimit snapshot() {
+        return new HomeLimit(playerUUID, limit);
+    }
+
     public HomeLimits getHomeLimit() {
         HomeLimits minHomeLimit = HomeLimits.LIMIT_0;
         for (HomeLimits value : HomeLimits.values()) {
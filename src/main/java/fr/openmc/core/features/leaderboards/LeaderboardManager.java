@@ -8,17 +8,17 @@ import fr.openmc.core.bootstrap.features.types.LoadAfterItemsAdder;
 import fr.openmc.core.bootstrap.features.types.NotLoadInUnitTest;
 import fr.openmc.core.features.city.City;
 import fr.openmc.core.features.city.CityManager;
-import fr.openmc.core.features.economy.BankManager;
 import fr.openmc.core.features.economy.EconomyManager;
-import fr.openmc.core.features.economy.models.EconomyPlayer;
 import fr.openmc.core.features.events.contents.halloween.managers.HalloweenManager;
 import fr.openmc.core.features.events.contents.halloween.models.HalloweenData;
 import fr.openmc.core.features.leaderboards.commands.LeaderboardCommands;
+import fr.openmc.core.features.playtime.PlaytimeManager;
 import fr.openmc.core.hooks.github.GitHubHook;
 import fr.openmc.core.hooks.github.models.ContributorStats;
 import fr.openmc.core.utils.cache.PlayerNameCache;
 import fr.openmc.core.utils.text.DateUtils;
 import fr.openmc.core.utils.text.messages.TranslationManager;
+import fr.openmc.core.utils.types.RankedIndex;
 import fr.openmc.core.utils.world.entities.TextDisplay;
 import it.unimi.dsi.fastutil.objects.Object2ObjectMap;
 import lombok.Getter;
@@ -28,8 +28,6 @@ import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.OfflinePlayer;
-import org.bukkit.Statistic;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.scheduler.BukkitRunnable;
@@ -471,24 +469,15 @@ public class LeaderboardManager extends Feature implements NotLoadInUnitTest, Lo
     }
 
     /**
-     * Updates the player money leaderboard map by sorting and formatting player balances.
+     * Updates the player money leaderboard map from the live wealth ranking (balance + personal bank).
      */
     public static void updatePlayerMoneyMap() {
         Map<Integer, Map.Entry<String, String>> newMap = new TreeMap<>();
         int rank = 1;
 
-        Map<UUID, EconomyPlayer> balances = EconomyManager.getBalances();
-        Map<UUID, Double> combinedBalances = new HashMap<>();
-        balances.forEach((player, balance) -> combinedBalances.put(player, balance.getBalance()));
-
-        BankManager.getBanks().forEach((uuid, bank) -> combinedBalances.merge(uuid, bank.getBalance(), Double::sum));
-
-        for (var entry : combinedBalances.entrySet().stream()
-                .sorted((entry1, entry2) -> Double.compare(entry2.getValue(), entry1.getValue()))
-                .limit(10)
-                .toList()) {
-            String playerName = PlayerNameCache.getName(entry.getKey());
-            String formattedBalance = EconomyManager.getFormattedSimplifiedNumber(entry.getValue());
+        for (RankedIndex.Entry<UUID> entry : EconomyManager.getWealthIndex().top(10)) {
+            String playerName = PlayerNameCache.getName(entry.key());
+            String formattedBalance = EconomyManager.getFormattedSimplifiedNumber(entry.score());
             newMap.put(rank++, new AbstractMap.SimpleEntry<>(playerName, formattedBalance));
         }
 
@@ -496,39 +485,33 @@ public class LeaderboardManager extends Feature implements NotLoadInUnitTest, Lo
     }
 
     /**
-     * Updates the city money leaderboard map by sorting and formatting city balances.
+     * Updates the city money leaderboard map from the live city balance ranking.
      */
     public static void updateCityMoneyMap() {
         Map<Integer, Map.Entry<String, String>> newMap = new TreeMap<>();
         int rank = 1;
-        for (City city : CityManager.getCities().stream()
-                .sorted((city1, city2) -> Double.compare(city2.getBalance(), city1.getBalance()))
-                .limit(10)
-                .toList()) {
-            String cityName = city.getName();
-            String cityBalance = EconomyManager.getFormattedSimplifiedNumber(city.getBalance());
-            newMap.put(rank++, new AbstractMap.SimpleEntry<>(cityName, cityBalance));
+        for (RankedIndex.Entry<UUID> entry : CityManager.getBalanceIndex().top(10)) {
+            City city = CityManager.getCity(entry.key());
+            if (city == null) continue;
+
+            String cityBalance = EconomyManager.getFormattedSimplifiedNumber(entry.score());
+            newMap.put(rank++, new AbstractMap.SimpleEntry<>(city.getName(), cityBalance));
         }
         villeMoneyMap = newMap;
     }
 
     /**
-     * Updates the playtime leaderboard map by sorting and formatting player playtime.
+     * Updates the playtime leaderboard map from the in-memory playtime ranking.
      */
     public static void updatePlayTimeMap() {
-        Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
-            Map<Integer, Map.Entry<String, String>> newMap = new TreeMap<>();
-            int rank = 1;
-            for (OfflinePlayer player : Arrays.stream(Bukkit.getOfflinePlayers())
-                    .sorted((entry1, entry2) -> Long.compare(entry2.getStatistic(Statistic.PLAY_ONE_MINUTE), entry1.getStatistic(Statistic.PLAY_ONE_MINUTE)))
-                    .limit(10)
-                    .toList()) {
-                String playerName = player.getName();
-                String playTime = DateUtils.convertTime(player.getStatistic(Statistic.PLAY_ONE_MINUTE));
-                newMap.put(rank++, new AbstractMap.SimpleEntry<>(playerName, playTime));
-            }
-            playTimeMap = newMap;
-        });
+        Map<Integer, Map.Entry<String, String>> newMap = new TreeMap<>();
+        int rank = 1;
+        for (RankedIndex.Entry<UUID> entry : PlaytimeManager.getRanking().top(10)) {
+            String playerName = PlayerNameCache.getName(entry.key());
+            String playTime = DateUtils.convertTime((long) entry.score());
+            newMap.put(rank++, new AbstractMap.SimpleEntry<>(playerName, playTime));
+        }
+        playTimeMap = newMap;
     }
 
     public static void updatePumpkinCountMap() {
@@ -9,6 +9,7 @@ import fr.openmc.core.features.mailboxes.letter.LetterHead;
 import fr.openmc.core.features.mailboxes.letter.SenderLetter;
 import fr.openmc.core.utils.bukkit.serializer.BukkitSerializer;
 import fr.openmc.core.utils.cache.CacheOfflinePlayer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.inventory.ItemStack;
@@ -22,7 +23,7 @@ import java.util.UUID;
 @Getter
 @DatabaseTable(tableName = "mail")
 public class Letter {
-    @DatabaseField(columnName = "letter_id")
+    @DatabaseField(id = true, columnName = "letter_id")
     private int letterId;
     @DatabaseField(canBeNull = false)
     private UUID sender;
@@ -37,6 +38,7 @@ public class Letter {
     @DatabaseField
     private boolean refused;
 
+    @Getter(AccessLevel.NONE)
     private ItemStack[] cachedItems;
 
     Letter() {
@@ -51,7 +53,18 @@ public class Letter {
         this.numItems = numItems;
         this.refused = refused;
         this.sent = sent;
-        this.cachedItems = BukkitSerializer.deserializeItemStacks(this.items);
+    }
+
+    /**
+     * Contenu de la lettre, décodé seulement au premier appel (à l'ouverture de la lettre).
+     *
+     * @return Les items de la lettre
+     */
+    public ItemStack[] getItemStacks() {
+        if (cachedItems == null) {
+            cachedItems = items == null ? new ItemStack[0] : BukkitSerializer.deserializeItemStacks(items);
+        }
+        return cachedItems;
     }
 
     public boolean refuse() {
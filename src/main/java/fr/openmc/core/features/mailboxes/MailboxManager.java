@@ -8,11 +8,13 @@ import fr.openmc.core.bootstrap.features.Feature;
 import fr.openmc.core.bootstrap.features.annotations.Credit;
 import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
 import fr.openmc.core.features.mailboxes.commands.MailboxCommand;
 import fr.openmc.core.features.mailboxes.menu.PlayerMailbox;
 import fr.openmc.core.features.mailboxes.menu.letter.LetterMenu;
-import fr.openmc.core.features.settings.PlayerSettings;
 import fr.openmc.core.features.settings.PlayerSettingsManager;
 import fr.openmc.core.features.settings.SettingType;
 import fr.openmc.core.utils.bukkit.serializer.BukkitSerializer;
@@ -21,6 +23,8 @@ import fr.openmc.core.utils.text.messages.MessageType;
 import fr.openmc.core.utils.text.messages.MessagesManager;
 import fr.openmc.core.utils.text.messages.Prefix;
 import fr.openmc.core.utils.text.messages.TranslationManager;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -42,10 +46,21 @@ import java.util.*;
 import static fr.openmc.core.features.mailboxes.utils.MailboxUtils.getHoverEvent;
 import static fr.openmc.core.utils.text.InputUtils.pluralize;
 
+/**
+ * Gère les lettres de la boîte aux lettres.
+ * <p>
+ * Les lettres sont indexées par identifiant, par expéditeur et par destinataire (triées de la plus récente
+ * à la plus ancienne) : ouvrir une boîte aux lettres ne parcourt que les lettres du joueur.
+ * Chaque envoi, refus ou suppression est écrit seul dans la file d'écriture de la base de données.
+ */
 @Credit(developers = {"Gexary", "Axeno"}, graphist = {"Gexary"})
 public class MailboxManager extends Feature implements HasDatabase, HasCommands {
     private static final int MAX_STACKS_PER_LETTER = 27;
-    private static final List<Letter> letters = new ArrayList<>();
+    private static final Comparator<Letter> NEWEST_FIRST = Comparator.comparing(Letter::getSent).reversed();
+
+    private static final Int2ObjectMap<Letter> lettersById = new Int2ObjectOpenHashMap<>();
+    private static final Map<UUID, List<Letter>> lettersBySender = new HashMap<>();
+    private static final Map<UUID, List<Letter>> lettersByReceiver = new HashMap<>();
 
     private static int nextLetterId = 1;
 
@@ -63,7 +78,7 @@ public class MailboxManager extends Feature implements HasDatabase, HasCommands
 
     @Override
     public void save() {
-        MailboxManager.saveLetters();
+        // chaque changement est déjà dans la file d'écriture de la base de données
     }
 
     public static boolean sendItems(Player sender, OfflinePlayer receiver, ItemStack[] items) {
@@ -87,7 +102,7 @@ public class MailboxManager extends Feature implements HasDatabase, HasCommands
         try {
             byte[] itemsBytes = BukkitSerializer.serializeItemStacks(items);
             Letter letter = new Letter(nextLetterId++, sender.getUniqueId(), receiver.getUniqueId(), itemsBytes, numItems, Timestamp.valueOf(sent), false);
-            letters.add(letter);
+            addLetter(letter);
 
             int id = letter.getLetterId();
             Player receiverPlayer = receiver.getPlayer();
@@ -129,7 +144,7 @@ public class MailboxManager extends Feature implements HasDatabase, HasCommands
 
             Letter letter = new Letter(nextLetterId++, player.getUniqueId(), player.getUniqueId(), itemsBytes, numItems,
                     Timestamp.valueOf(DateUtils.getLocalDateTime()), false);
-            letters.add(letter);
+            addLetter(letter);
         } catch (IOException e) {
             OMCLogger.warn("Error while sending items to offline players: {}", e.getMessage(), e);
         }
@@ -148,9 +163,10 @@ public class MailboxManager extends Feature implements HasDatabase, HasCommands
     }
 
     public static void sendMailNotification(Player player) {
-        long count = letters.stream()
-                .filter(letter -> letter.getReceiver().equals(player.getUniqueId()) && !letter.isRefused())
-                .count();
+        long count = 0;
+        for (Letter letter : lettersByReceiver.getOrDefault(player.getUniqueId(), List.of())) {
+            if (!letter.isRefused()) count++;
+        }
 
         if (count == 0) return;
 
@@ -181,39 +197,81 @@ public class MailboxManager extends Feature implements HasDatabase, HasCommands
         );
     }
 
+    private static void addLetter(Letter letter) {
+        index(letter);
+        DatabaseManager.queue(DatabaseWriteQueue.key("mail", letter.getLetterId()), MutationType.CREATE,
+                () -> letterDao.create(letter));
+    }
+
+    private static void index(Letter letter) {
+        lettersById.put(letter.getLetterId(), letter);
+        insertSorted(lettersBySender.computeIfAbsent(letter.getSender(), uuid -> new ArrayList<>()), letter);
+        insertSorted(lettersByReceiver.computeIfAbsent(letter.getReceiver(), uuid -> new ArrayList<>()), letter);
+    }
+
+    private static void insertSorted(List<Letter> letters, Letter letter) {
+        int index = Collections.binarySearch(letters, letter, NEWEST_FIRST);
+        letters.add(index < 0 ? -index - 1 : index, letter);
+    }
+
+    private static void unindex(Map<UUID, List<Letter>> index, UUID uuid, Letter letter) {
+        List<Letter> letters = index.get(uuid);
+        if (letters == null) return;
+
+        letters.remove(letter);
+        if (letters.isEmpty()) index.remove(uuid);
+    }
+
     public static boolean deleteLetter(int id) {
-        return letters.removeIf(letter -> letter.getLetterId() == id);
+        Letter letter = lettersById.remove(id);
+        if (letter == null) return false;
+
+        unindex(lettersBySender, letter.getSender(), letter);
+        unindex(lettersByReceiver, letter.getReceiver(), letter);
+        DatabaseManager.queue(DatabaseWriteQueue.key("mail", id), MutationType.DELETE,
+                () -> letterDao.deleteById(id));
+        return true;
+    }
+
+    /**
+     * Refuse une lettre : elle reste dans les lettres envoyées de l'expéditeur.
+     * La lettre peut encore attendre sa création dans la file d'écriture, d'où le createOrUpdate.
+     *
+     * @param letter La lettre
+     * @return true si la lettre a été refusée
+     */
+    public static boolean refuseLetter(Letter letter) {
+        if (!letter.refuse()) return false;
+
+        DatabaseManager.queue(DatabaseWriteQueue.key("mail", letter.getLetterId()), MutationType.UPSERT,
+                () -> letterDao.createOrUpdate(letter));
+        return true;
     }
 
     public static Letter getById(Player player, int id) {
-        Letter letter = letters.stream()
-                .filter(l -> l.getLetterId() == id)
-                .findFirst()
-                .orElse(null);
+        Letter letter = lettersById.get(id);
 
         if (letter == null || letter.isRefused()) return null;
         return letter;
     }
 
     public static List<Letter> getSentLetters(Player player) {
-        return letters.stream()
-                .filter(l -> l.getSender().equals(player.getUniqueId()))
-                .sorted(Comparator.comparing(Letter::getSent).reversed())
-                .toList();
+        return List.copyOf(lettersBySender.getOrDefault(player.getUniqueId(), List.of()));
     }
 
     public static List<Letter> getReceivedLetters(Player player) {
-        return letters.stream()
-                .filter(l -> l.getReceiver().equals(player.getUniqueId()) && !l.isRefused())
-                .sorted(Comparator.comparing(Letter::getSent).reversed())
-                .toList();
+        List<Letter> received = new ArrayList<>();
+        for (Letter letter : lettersByReceiver.getOrDefault(player.getUniqueId(), List.of())) {
+            if (!letter.isRefused()) received.add(letter);
+        }
+        return received;
     }
 
     public static boolean canSend(Player sender, OfflinePlayer receiver) {
         if (sender.getUniqueId().equals(receiver.getUniqueId()))
             return true;
-        PlayerSettings settings = PlayerSettingsManager.getPlayerSettings(receiver.getUniqueId());
-        return settings.canPerformAction(SettingType.MAILBOX_RECEIVE_POLICY, sender.getUniqueId());
+        return PlayerSettingsManager.canPerformAction(receiver.getUniqueId(), SettingType.MAILBOX_RECEIVE_POLICY,
+                sender.getUniqueId());
     }
 
     private static void sendLetterReceivedNotification(Player receiver, int numItems, int id, String name) {
@@ -308,25 +366,12 @@ public class MailboxManager extends Feature implements HasDatabase, HasCommands
 
     public static void loadLetters() {
         try {
-            letters.addAll(letterDao.queryForAll());
-
-            nextLetterId = letters.stream()
-                    .mapToInt(Letter::getLetterId)
-                    .max()
-                    .orElse(0) + 1;
-        } catch (SQLException e) {
-            OMCLogger.error("Error loading letters from database: {}", e.getMessage(), e);
-        }
-    }
-
-    public static void saveLetters() {
-        try {
-            TableUtils.clearTable(letterDao.getConnectionSource(), Letter.class);
-            for (Letter letter : letters) {
-                letterDao.create(letter);
+            for (Letter letter : letterDao.queryForAll()) {
+                index(letter);
+                nextLetterId = Math.max(nextLetterId, letter.getLetterId() + 1);
             }
         } catch (SQLException e) {
-            OMCLogger.error("Error saving letters to database: {}", e.getMessage(), e);
+            OMCLogger.error("Error loading letters from database: {}", e.getMessage(), e);
         }
     }
 }
@@ -9,7 +9,6 @@ import fr.openmc.api.menulib.utils.StaticSlots;
 import fr.openmc.core.features.mailboxes.Letter;
 import fr.openmc.core.features.mailboxes.MailboxManager;
 import fr.openmc.core.features.mailboxes.utils.MailboxMenuManager;
-import fr.openmc.core.utils.bukkit.serializer.BukkitSerializer;
 import fr.openmc.core.utils.cache.CacheOfflinePlayer;
 import fr.openmc.core.utils.text.messages.MessageType;
 import fr.openmc.core.utils.text.messages.MessagesManager;
@@ -124,7 +123,7 @@ public class PendingMailbox extends PaginatedMenu {
         }
 
         int itemsCount = letter.getNumItems();
-        ItemStack[] items = BukkitSerializer.deserializeItemStacks(letter.getItems());
+        ItemStack[] items = letter.getItemStacks();
         Player sender = CacheOfflinePlayer.getOfflinePlayer(letter.getSender()).getPlayer();
 
         if (MailboxManager.deleteLetter(id)) {
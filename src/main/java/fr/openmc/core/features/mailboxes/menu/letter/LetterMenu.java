@@ -12,7 +12,6 @@ import fr.openmc.core.features.mailboxes.MailboxManager;
 import fr.openmc.core.features.mailboxes.events.ClaimLetterEvent;
 import fr.openmc.core.features.mailboxes.letter.LetterHead;
 import fr.openmc.core.features.mailboxes.utils.MailboxMenuManager;
-import fr.openmc.core.utils.bukkit.serializer.BukkitSerializer;
 import fr.openmc.core.utils.text.messages.MessageType;
 import fr.openmc.core.utils.text.messages.MessagesManager;
 import fr.openmc.core.utils.text.messages.Prefix;
@@ -61,7 +60,7 @@ public class LetterMenu extends Menu {
     public static void refuseLetter(Player player, int id) {
         Letter letter = MailboxManager.getById(player, id);
         if (letter != null && !letter.isRefused()) {
-            if (letter.refuse()) {
+            if (MailboxManager.refuseLetter(letter)) {
                 MessagesManager.sendMessage(
                         player,
                         TranslationManager.translation(
@@ -149,11 +148,6 @@ public class LetterMenu extends Menu {
 
         ItemStack[] items = getLetterItems();
 
-        if (items == null || items.length == 0) {
-            byte[] serializedItems = letter.getItems();
-            items = serializedItems != null ? BukkitSerializer.deserializeItemStacks(serializedItems) : new ItemStack[0];
-        }
-
         for (int i = 0; i < items.length; i++)
             content.put(i + 9, new ItemMenuBuilder(this, items[i]));
 
@@ -194,14 +188,8 @@ public class LetterMenu extends Menu {
     }
 
     private ItemStack[] getLetterItems() {
-        if (letterItems != null) return letterItems;
-        ItemStack[] items = letter.getCachedItems();
-        if (items == null || items.length == 0) {
-            byte[] serializedItems = letter.getItems();
-            items = serializedItems != null ? BukkitSerializer.deserializeItemStacks(serializedItems) : new ItemStack[0];
-        }
-        letterItems = items;
-        return items;
+        if (letterItems == null) letterItems = letter.getItemStacks();
+        return letterItems;
     }
 
     @Override
@@ -8,6 +8,7 @@ import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.api.menulib.utils.MenuUtils;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.mailboxes.MailboxManager;
+import fr.openmc.core.features.settings.PlayerSettingsManager;
 import fr.openmc.core.utils.bukkit.ItemUtils;
 import fr.openmc.core.utils.text.messages.MessageType;
 import fr.openmc.core.utils.text.messages.MessagesManager;
@@ -40,6 +41,8 @@ public class SendingLetter extends Menu {
     public SendingLetter(Player player, OfflinePlayer receiver) {
         super(player);
         this.receiver = receiver;
+        // la politique de réception du destinataire est vérifiée à l'envoi
+        PlayerSettingsManager.prefetch(receiver.getUniqueId());
     }
 
     public ItemStack[] getItems(Inventory inv) {
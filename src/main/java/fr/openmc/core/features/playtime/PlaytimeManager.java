@@ -0,0 +1,217 @@
+package fr.openmc.core.features.playtime;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.table.TableUtils;
+import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.bootstrap.features.Feature;
+import fr.openmc.core.bootstrap.features.types.HasDatabase;
+import fr.openmc.core.bootstrap.features.types.HasListeners;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
+import fr.openmc.core.bootstrap.integration.OMCLogger;
+import fr.openmc.core.bootstrap.listeners.ListenerFactory;
+import fr.openmc.core.features.playtime.listeners.PlaytimeListener;
+import fr.openmc.core.features.playtime.models.PlayerPlaytime;
+import fr.openmc.core.features.playtime.models.PlaytimeMeta;
+import fr.openmc.core.utils.types.RankedIndex;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.Statistic;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.sql.SQLException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Temps de jeu des joueurs, tenu en mémoire à partir des connexions et déconnexions.
+ * <p>
+ * Les totaux sont écrits par lots via la file d'écriture différée et le classement
+ * est servi depuis la mémoire, sans lire les statistiques Bukkit des joueurs.
+ */
+public class PlaytimeManager extends Feature implements HasDatabase, HasListeners {
+    private static final long CHECKPOINT_INTERVAL_TICKS = 20L * 60;
+    private static final int BACKFILL_BATCH_SIZE = 100;
+    private static final String BACKFILL_DONE_KEY = "backfill_done";
+
+    // lus aussi hors du thread principal (notation des villes)
+    private static final Map<UUID, Long> totals = new ConcurrentHashMap<>();
+    private static final Map<UUID, Long> sessionStarts = new ConcurrentHashMap<>();
+    @Getter
+    private static final RankedIndex<UUID> ranking = new RankedIndex<>();
+
+    private static Dao<PlayerPlaytime, String> playtimeDao;
+    private static Dao<PlaytimeMeta, String> metaDao;
+    private static BukkitTask checkpointTask;
+
+    @Override
+    public void init() {
+        loadPlaytimes();
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            startSession(player.getUniqueId());
+        }
+
+        if (checkpointTask != null) checkpointTask.cancel();
+        checkpointTask = Bukkit.getScheduler().runTaskTimer(OMCPlugin.getInstance(),
+                PlaytimeManager::checkpoint, CHECKPOINT_INTERVAL_TICKS, CHECKPOINT_INTERVAL_TICKS);
+
+        if (!isBackfillDone() && !OMCPlugin.isUnitTestVersion()) backfill();
+    }
+
+    @Override
+    public Set<ListenerFactory> getListeners() {
+        return Set.of(
+                PlaytimeListener::new
+        );
+    }
+
+    @Override
+    public void initDB(ConnectionSource connectionSource) throws SQLException {
+        TableUtils.createTableIfNotExists(connectionSource, PlayerPlaytime.class);
+        playtimeDao = DaoManager.createDao(connectionSource, PlayerPlaytime.class);
+
+        TableUtils.createTableIfNotExists(connectionSource, PlaytimeMeta.class);
+        metaDao = DaoManager.createDao(connectionSource, PlaytimeMeta.class);
+    }
+
+    @Override
+    protected void save() {
+        checkpoint();
+    }
+
+    private static void loadPlaytimes() {
+        try {
+            totals.clear();
+            ranking.clear();
+            for (PlayerPlaytime playtime : playtimeDao.queryForAll()) {
+                totals.put(playtime.getPlayerUUID(), playtime.getTicks());
+                ranking.update(playtime.getPlayerUUID(), playtime.getTicks());
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Erreur lors du chargement des temps de jeu", e);
+        }
+    }
+
+    private static boolean isBackfillDone() {
+        try {
+            return metaDao.idExists(BACKFILL_DONE_KEY);
+        } catch (SQLException e) {
+            throw new RuntimeException("Erreur lors du chargement des temps de jeu", e);
+        }
+    }
+
+    /**
+     * Importe le temps de jeu historique depuis les statistiques des joueurs, jusqu'à ce qu'un import soit terminé.
+     * Les statistiques sont lues sur le thread principal, {@link #BACKFILL_BATCH_SIZE} joueurs par tick.
+     * Un import interrompu (arrêt du serveur) reprend au démarrage suivant : un total n'est remplacé
+     * que par une statistique plus grande, donc les joueurs déjà importés ne changent pas.
+     */
+    private static void backfill() {
+        Iterator<OfflinePlayer> players = Arrays.asList(Bukkit.getOfflinePlayers()).iterator();
+        long start = System.currentTimeMillis();
+        int[] imported = {0};
+
+        Bukkit.getScheduler().runTaskTimer(OMCPlugin.getInstance(), task -> {
+            for (int i = 0; i < BACKFILL_BATCH_SIZE && players.hasNext(); i++) {
+                if (importStatistic(players.next())) imported[0]++;
+            }
+            if (players.hasNext()) return;
+
+            task.cancel();
+            // mis en file après les totaux importés, donc écrit après eux
+            PlaytimeMeta done = new PlaytimeMeta(BACKFILL_DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            DatabaseManager.queue(DatabaseWriteQueue.key("playtime_meta", BACKFILL_DONE_KEY), MutationType.UPSERT,
+                    () -> metaDao.createOrUpdate(done));
+            OMCLogger.infoFormatted("{} temps de jeu importés depuis les statistiques en {} ms",
+                    imported[0], System.currentTimeMillis() - start);
+        }, 1L, 1L);
+    }
+
+    /**
+     * @return true si la statistique du joueur a remplacé son total
+     */
+    private static boolean importStatistic(OfflinePlayer player) {
+        UUID playerUUID = player.getUniqueId();
+        long ticks;
+        try {
+            ticks = player.getStatistic(Statistic.PLAY_ONE_MINUTE);
+        } catch (Exception e) {
+            OMCLogger.warn("Impossible de lire le temps de jeu de {}", playerUUID, e);
+            return false;
+        }
+
+        // la statistique d'un joueur connecté compte déjà la part de sa session pas encore ajoutée au total
+        Long sessionStart = sessionStarts.get(playerUUID);
+        if (sessionStart != null) ticks -= (System.currentTimeMillis() - sessionStart) / 50L;
+
+        if (ticks <= totals.getOrDefault(playerUUID, 0L)) return false;
+        totals.put(playerUUID, ticks);
+        ranking.update(playerUUID, ticks);
+        queueSave(playerUUID, ticks);
+        return true;
+    }
+
+    /**
+     * Commence la session d'un joueur qui vient de se connecter.
+     *
+     * @param playerUUID UUID du joueur
+     */
+    public static void startSession(UUID playerUUID) {
+        sessionStarts.putIfAbsent(playerUUID, System.currentTimeMillis());
+    }
+
+    /**
+     * Termine la session d'un joueur et ajoute sa durée à son total.
+     *
+     * @param playerUUID UUID du joueur
+     */
+    public static void endSession(UUID playerUUID) {
+        flushSession(playerUUID, false);
+    }
+
+    /**
+     * Ajoute la session en cours des joueurs connectés à leur total et les écrit en base.
+     */
+    public static void checkpoint() {
+        for (UUID playerUUID : List.copyOf(sessionStarts.keySet())) {
+            flushSession(playerUUID, true);
+        }
+    }
+
+    private static void flushSession(UUID playerUUID, boolean keepOnline) {
+        Long sessionStart = keepOnline ? sessionStarts.get(playerUUID) : sessionStarts.remove(playerUUID);
+        if (sessionStart == null) return;
+
+        long now = System.currentTimeMillis();
+        long ticks = totals.merge(playerUUID, (now - sessionStart) / 50L, Long::sum);
+        if (keepOnline) sessionStarts.put(playerUUID, now - (now - sessionStart) % 50L);
+
+        ranking.update(playerUUID, ticks);
+        queueSave(playerUUID, ticks);
+    }
+
+    private static void queueSave(UUID playerUUID, long ticks) {
+        PlayerPlaytime snapshot = new PlayerPlaytime(playerUUID, ticks);
+        DatabaseManager.queue(DatabaseWriteQueue.key("playtimes", playerUUID), MutationType.UPSERT,
+                () -> playtimeDao.createOrUpdate(snapshot));
+    }
+
+    /**
+     * @param playerUUID UUID du joueur
+     * @return Le temps de jeu total du joueur en ticks, session en cours comprise
+     */
+    public static long getPlaytime(UUID playerUUID) {
+        long ticks = totals.getOrDefault(playerUUID, 0L);
+
+        Long sessionStart = sessionStarts.get(playerUUID);
+        if (sessionStart != null) ticks += (System.currentTimeMillis() - sessionStart) / 50L;
+
+        return ticks;
+    }
+}
@@ -0,0 +1,21 @@
+package fr.openmc.core.features.playtime.listeners;
+
+import fr.openmc.core.features.playtime.PlaytimeManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlaytimeListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        PlaytimeManager.startSession(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        PlaytimeManager.endSession(event.getPlayer().getUniqueId());
+    }
+}
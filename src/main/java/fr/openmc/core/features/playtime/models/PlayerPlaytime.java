@@ -0,0 +1,29 @@
+package fr.openmc.core.features.playtime.models;
+
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@DatabaseTable(tableName = "playtimes")
+public class PlayerPlaytime {
+    @DatabaseField(id = true, columnName = "player")
+    private UUID playerUUID;
+
+    /**
+     * Temps de jeu total, en ticks (même unité que {@link org.bukkit.Statistic#PLAY_ONE_MINUTE})
+     */
+    @DatabaseField(canBeNull = false, defaultValue = "0")
+    private long ticks;
+
+    PlayerPlaytime() {
+        // necessary for OrmLite
+    }
+
+    public PlayerPlaytime(UUID playerUUID, long ticks) {
+        this.playerUUID = playerUUID;
+        this.ticks = ticks;
+    }
+}
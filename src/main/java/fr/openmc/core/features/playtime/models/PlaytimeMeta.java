@@ -0,0 +1,27 @@
+package fr.openmc.core.features.playtime.models;
+
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+import lombok.Getter;
+
+/**
+ * Etat du stockage des temps de jeu (ex : import des statistiques terminé).
+ */
+@Getter
+@DatabaseTable(tableName = "playtime_meta")
+public class PlaytimeMeta {
+    @DatabaseField(id = true, columnName = "meta_key")
+    private String key;
+
+    @DatabaseField(columnName = "meta_value")
+    private String value;
+
+    PlaytimeMeta() {
+        // necessary for OrmLite
+    }
+
+    public PlaytimeMeta(String key, String value) {
+        this.key = key;
+        this.value = value;
+    }
+}
@@ -1,6 +1,7 @@
 package fr.openmc.core.features.profile.menu;
 
 import fr.openmc.api.menulib.Menu;
+import fr.openmc.api.menulib.MenuLib;
 import fr.openmc.api.menulib.utils.InventorySize;
 import fr.openmc.api.menulib.utils.ItemMenuBuilder;
 import fr.openmc.core.OMCPlugin;
@@ -11,6 +12,7 @@ import fr.openmc.core.features.city.menu.list.CityListDetailsMenu;
 import fr.openmc.core.features.friend.FriendManager;
 import fr.openmc.core.features.mailboxes.menu.PlayerMailbox;
 import fr.openmc.core.features.mailboxes.menu.letter.SendingLetter;
+import fr.openmc.core.features.playtime.PlaytimeManager;
 import fr.openmc.core.features.toor.DiscordLinkManager;
 import fr.openmc.core.hooks.github.GitHubHook;
 import fr.openmc.core.utils.bukkit.ItemUtils;
@@ -23,7 +25,6 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.Statistic;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
@@ -84,6 +85,11 @@ public class ProfileMenu extends Menu {
         return List.of();
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public void onInventoryClick(InventoryClickEvent event) {
     }
@@ -247,7 +253,7 @@ public class ProfileMenu extends Menu {
     }
 
     private void addPlaytimeItem(Map<Integer, ItemMenuBuilder> inventory) {
-        long ticksPlayed = target.getStatistic(Statistic.PLAY_ONE_MINUTE);
+        long ticksPlayed = PlaytimeManager.getPlaytime(target.getUniqueId());
 
         inventory.put(17, new ItemMenuBuilder(
                 this,
@@ -280,7 +286,7 @@ public class ProfileMenu extends Menu {
     }
 
     private void runCommand(String command) {
-        getOwner().closeInventory();
+        MenuLib.closeMenu(getOwner());
         Bukkit.getScheduler().runTask(
                 OMCPlugin.getInstance(),
                 () -> getOwner().performCommand(command)
@@ -0,0 +1,75 @@
+package fr.openmc.core.features.quests;
+
+import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.features.quests.objects.Quest;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Accumulates the progress of high-frequency quests (walking, breaking blocks, killing mobs...).
+ * <p>
+ * An event only adds its amount to a per-player counter. Every {@link #FLUSH_INTERVAL_TICKS} ticks,
+ * the totals are applied with a single {@link Quest#applyProgress(UUID, int)} per player and quest,
+ * which checks the tiers and sends the action bar once.
+ */
+public class QuestProgressBuffer {
+    private static final long FLUSH_INTERVAL_TICKS = 10L;
+
+    private static final Map<Quest, Object2IntOpenHashMap<UUID>> pending = new IdentityHashMap<>();
+    private static BukkitTask flushTask;
+
+    /**
+     * Starts the periodic flush.
+     */
+    public static void init() {
+        if (flushTask != null) flushTask.cancel();
+        flushTask = Bukkit.getScheduler().runTaskTimer(OMCPlugin.getInstance(),
+                QuestProgressBuffer::flush, FLUSH_INTERVAL_TICKS, FLUSH_INTERVAL_TICKS);
+    }
+
+    /**
+     * Adds progress to a quest, applied on the next flush.
+     *
+     * @param quest      the quest
+     * @param playerUUID the UUID of the player
+     * @param amount     the amount to add
+     */
+    public static void add(Quest quest, UUID playerUUID, int amount) {
+        pending.computeIfAbsent(quest, q -> new Object2IntOpenHashMap<>()).addTo(playerUUID, amount);
+    }
+
+    /**
+     * Applies the buffered progress of every player.
+     */
+    public static void flush() {
+        // a completed tier can give progress to other quests during the flush
+        for (Quest quest : pending.keySet().toArray(new Quest[0])) {
+            Object2IntOpenHashMap<UUID> amounts = pending.get(quest);
+            if (amounts.isEmpty()) continue;
+
+            Object2IntOpenHashMap<UUID> batch = amounts.clone();
+            amounts.clear();
+            for (Object2IntMap.Entry<UUID> amount : batch.object2IntEntrySet()) {
+                quest.applyProgress(amount.getKey(), amount.getIntValue());
+            }
+        }
+    }
+
+    /**
+     * Applies the buffered progress of a player, before the player leaves.
+     *
+     * @param playerUUID the UUID of the player
+     */
+    public static void flush(UUID playerUUID) {
+        for (Quest quest : pending.keySet().toArray(new Quest[0])) {
+            int amount = pending.get(quest).removeInt(playerUUID);
+            if (amount != 0) quest.applyProgress(playerUUID, amount);
+        }
+    }
+}
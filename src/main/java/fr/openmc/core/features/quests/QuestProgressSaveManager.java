@@ -1,171 +1,337 @@
 package fr.openmc.core.features.quests;
 
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.table.TableUtils;
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.bootstrap.features.Feature;
+import fr.openmc.core.bootstrap.features.types.HasDatabase;
+import fr.openmc.core.bootstrap.features.types.HasListeners;
+import fr.openmc.core.bootstrap.features.types.HasPlayerData;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader.Session;
+import fr.openmc.core.bootstrap.listeners.ListenerFactory;
+import fr.openmc.core.features.milestones.MilestonesManager;
+import fr.openmc.core.features.milestones.models.Milestone;
+import fr.openmc.core.features.quests.listeners.QuestProgressListener;
+import fr.openmc.core.features.quests.models.DBQuestProgress;
+import fr.openmc.core.features.quests.objects.PlayerQuestProgress;
 import fr.openmc.core.features.quests.objects.Quest;
-import fr.openmc.core.features.quests.objects.QuestStep;
 import fr.openmc.core.features.quests.objects.QuestTier;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
-import java.io.IOException;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages the saving and loading of quest progress for players.
+ * <p>
+ * The progress of a player is kept in a single {@link PlayerQuestProgress} and saved as one binary row.
+ * The row holds the registered quests and the steps of the milestones.
+ * It is loaded while the player logs in, and removed from memory when the player leaves. Only the players
+ * whose progress changed are written, in periodic batches through the database write queue.
  */
-public class QuestProgressSaveManager extends Feature {
+public class QuestProgressSaveManager extends Feature implements HasDatabase, HasListeners, HasPlayerData {
 
-    private static final String SAVE_FOLDER = "quests";
-    static final Map<UUID, Map<String, Object>> playerQuestProgress = new ConcurrentHashMap<>();
+    private static final String LEGACY_SAVE_FOLDER = "quests";
+    private static final long SAVE_INTERVAL_TICKS = 20L * 60;
+    private static final long MIGRATION_DRAIN_TIMEOUT_MILLIS = 30_000L;
+
+    private static final Map<UUID, PlayerQuestProgress> playerQuestProgress = new ConcurrentHashMap<>();
+    private static final Map<UUID, CompletableFuture<PlayerQuestProgress>> loading = new HashMap<>();
+
+    private static Dao<DBQuestProgress, UUID> progressDao;
+    private static BukkitTask saveTask;
 
     /**
      * Init for QuestProgressSaveManager.
      */
     @Override
     public void init() {
-        File saveFolder = new File(OMCPlugin.getInstance().getDataFolder(), SAVE_FOLDER);
-        if (!saveFolder.exists()) {
-            saveFolder.mkdirs();
-        }
+        QuestProgressBuffer.init();
+
+        if (saveTask != null) saveTask.cancel();
+        saveTask = Bukkit.getScheduler().runTaskTimer(OMCPlugin.getInstance(),
+                QuestProgressSaveManager::saveAllQuestProgress, SAVE_INTERVAL_TICKS, SAVE_INTERVAL_TICKS);
+    }
+
+    @Override
+    public Set<ListenerFactory> getListeners() {
+        return Set.of(
+                QuestProgressListener::new
+        );
+    }
+
+    @Override
+    public void initDB(ConnectionSource connectionSource) throws SQLException {
+        TableUtils.createTableIfNotExists(connectionSource, DBQuestProgress.class);
+        progressDao = DaoManager.createDao(connectionSource, DBQuestProgress.class);
+    }
+
+    @Override
+    public void loadPlayerData(UUID playerUUID, Session session) throws SQLException {
+        if (isLoaded(playerUUID)) return;
+
+        DBQuestProgress row = progressDao.queryForId(playerUUID);
+        session.apply(() -> {
+            PlayerQuestProgress progress = getOrCreateProgress(playerUUID);
+            // la progression a pu être chargée à l'arrivée du joueur si ce chargement a dépassé le délai
+            synchronized (progress) {
+                if (progress.isLoaded()) return;
+                if (row != null) progress.decode(row.getData(), getQuestsById());
+                progress.clearDirty();
+                progress.setLoaded(true);
+            }
+        });
+    }
+
+    @Override
+    public void unloadPlayerData(UUID playerUUID) {
+        QuestProgressBuffer.flush(playerUUID);
+        savePlayerQuestProgress(playerUUID);
+        playerQuestProgress.remove(playerUUID);
     }
 
     @Override
     protected void save() {
-        // not used, already saved in QuestManager
+        QuestProgressBuffer.flush();
+        saveAllQuestProgress();
     }
 
     /**
-     * Loads the quest progress for a specific player.
+     * Get the quest progress of a player.
+     *
      * @param playerUUID the UUID of the player
+     * @return the progress of the player, or null if the player has none in memory
      */
-    public static void loadPlayerQuestProgress(UUID playerUUID) {
-        File playerFile = getPlayerProgressFile(playerUUID);
-        if (playerFile.exists()) {
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(playerFile);
-            Map<String, Object> playerProgress = new HashMap<>();
-
-            for (Quest quest : QuestsManager.quests.values()) {
-                String questName = PlainTextComponentSerializer.plainText().serialize(quest.getName());
-
-                int progress = config.getInt(questName + ".progress", 0);
-                quest.getProgress().put(playerUUID, progress);
+    public static PlayerQuestProgress getProgress(UUID playerUUID) {
+        return playerQuestProgress.get(playerUUID);
+    }
 
-                int currentTier = config.getInt(questName + ".currentTier", 0);
-                quest.getCurrentTier().put(playerUUID, currentTier);
+    /**
+     * Get the quest progress of a player, creating an empty one if needed.
+     *
+     * @param playerUUID the UUID of the player
+     * @return the progress of the player
+     */
+    public static PlayerQuestProgress getOrCreateProgress(UUID playerUUID) {
+        return playerQuestProgress.computeIfAbsent(playerUUID, uuid -> new PlayerQuestProgress());
+    }
 
-                List<Integer> completedTiers = config.getIntegerList(questName + ".completedTiers");
-                quest.getCompletedTiers().put(playerUUID, new HashSet<>(completedTiers));
+    /**
+     * Check if the saved quest progress of a player is loaded.
+     *
+     * @param playerUUID the UUID of the player
+     * @return true if the progress is loaded
+     */
+    public static boolean isLoaded(UUID playerUUID) {
+        PlayerQuestProgress progress = playerQuestProgress.get(playerUUID);
+        return progress != null && progress.isLoaded();
+    }
 
-                playerProgress.put(questName + ".progress", progress);
-                playerProgress.put(questName + ".currentTier", currentTier);
-                playerProgress.put(questName + ".completedTiers", completedTiers);
+    /**
+     * Loads the quest progress for a specific player.
+     * <p>
+     * The row is read asynchronously and applied on the main thread. Used for the players that were not
+     * loaded while logging in (plugin reload, failed or slow login load).
+     *
+     * @param playerUUID the UUID of the player
+     * @return a future completed on the main thread once the progress is loaded
+     */
+    public static CompletableFuture<PlayerQuestProgress> load(UUID playerUUID) {
+        PlayerQuestProgress progress = getOrCreateProgress(playerUUID);
+        if (progress.isLoaded()) return CompletableFuture.completedFuture(progress);
 
-                List<Integer> pendingRewardTiers = config.getIntegerList(questName + ".pendingRewards");
-                for (int tierIndex : pendingRewardTiers) {
-                    QuestTier tier = quest.getTiers().get(tierIndex);
-                    quest.getPendingRewards()
-                            .computeIfAbsent(playerUUID, k -> new HashMap<>())
-                            .put(tierIndex, new ArrayList<>(tier.getRewards()));
-                }
+        CompletableFuture<PlayerQuestProgress> pending = loading.get(playerUUID);
+        if (pending != null) return pending;
 
-                for (int tierIndex = 0; tierIndex < quest.getTiers().size(); tierIndex++) {
-                    QuestTier tier = quest.getTiers().get(tierIndex);
+        CompletableFuture<PlayerQuestProgress> future = new CompletableFuture<>();
+        loading.put(playerUUID, future);
 
-                    for (int stepIndex = 0; stepIndex < tier.getSteps().size(); stepIndex++) {
-                        QuestStep step = tier.getSteps().get(stepIndex);
-                        String stepPath = questName + ".tiers." + tierIndex + ".steps." + stepIndex;
-                        int stepProgress = config.getInt(stepPath, 0);
+        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
+            byte[] data;
+            try {
+                DBQuestProgress row = progressDao.queryForId(playerUUID);
+                data = row == null ? null : row.getData();
+            } catch (SQLException e) {
+                OMCLogger.error("Could not load quest progress for player {}", playerUUID, e);
+                Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
+                    loading.remove(playerUUID);
+                    future.completeExceptionally(e);
+                });
+                return;
+            }
 
-                        step.getProgress().put(playerUUID, stepProgress);
-                        playerProgress.put(stepPath, stepProgress);
+            Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
+                loading.remove(playerUUID);
+                synchronized (progress) {
+                    if (!progress.isLoaded()) {
+                        if (data != null) {
+                            try {
+                                progress.decode(data, getQuestsById());
+                            } catch (RuntimeException e) {
+                                OMCLogger.error("Invalid quest progress for player {}", playerUUID, e);
+                                future.completeExceptionally(e);
+                                return;
+                            }
+                        }
+                        progress.clearDirty();
+                        progress.setLoaded(true);
                     }
                 }
-            }
+                future.complete(progress);
+            });
+        });
 
-            playerQuestProgress.put(playerUUID, playerProgress);
-        }
+        return future;
     }
 
     /**
-     * Saves the quest progress for a specific player.
+     * Saves the quest progress for a specific player, if it changed since the last save.
+     *
      * @param playerUUID the UUID of the player
      */
     public static void savePlayerQuestProgress(UUID playerUUID) {
-        File playerFile = getPlayerProgressFile(playerUUID);
-        YamlConfiguration config = new YamlConfiguration();
+        PlayerQuestProgress progress = playerQuestProgress.get(playerUUID);
+        if (progress == null || !progress.isLoaded() || !progress.clearDirty()) return;
+
+        DBQuestProgress snapshot = new DBQuestProgress(playerUUID, progress.encode(getSavedQuests()));
+        DatabaseManager.queue(DatabaseWriteQueue.key("quest_progress", playerUUID), MutationType.UPSERT,
+                () -> progressDao.createOrUpdate(snapshot));
+    }
 
-        for (Quest quest : QuestsManager.quests.values()) {
-            String questName = PlainTextComponentSerializer.plainText().serialize(quest.getName());
-            int progress = quest.getProgress().getOrDefault(playerUUID, 0);
-            int currentTier = quest.getCurrentTierIndex(playerUUID);
-            Set<Integer> completedTiers = quest.getCompletedTiers().getOrDefault(playerUUID, new HashSet<>());
+    /**
+     * Saves the quest progress of every player whose progress changed since the last save.
+     */
+    public static void saveAllQuestProgress() {
+        for (UUID playerUUID : playerQuestProgress.keySet()) {
+            savePlayerQuestProgress(playerUUID);
+        }
+    }
+
+    /**
+     * Get the quests whose progress is saved: the registered quests and the steps of the milestones.
+     *
+     * @return the saved quests
+     */
+    private static Collection<Quest> getSavedQuests() {
+        List<Quest> quests = new ArrayList<>(QuestsManager.quests.values());
+        for (Milestone<?> milestone : MilestonesManager.getRegisteredMilestones()) {
+            quests.addAll(milestone.getSteps());
+        }
+        return quests;
+    }
 
-            config.set(questName + ".progress", progress);
-            config.set(questName + ".currentTier", currentTier);
-            config.set(questName + ".completedTiers", new ArrayList<>(completedTiers));
+    private static Map<String, Quest> getQuestsById() {
+        Map<String, Quest> questsById = new HashMap<>();
+        for (Quest quest : getSavedQuests()) {
+            questsById.put(quest.getId(), quest);
+        }
+        return questsById;
+    }
 
-            Set<Integer> pendingRewardTier = quest.getPendingRewardTiers(playerUUID);
-            config.set(questName + ".pendingRewards", new ArrayList<>(pendingRewardTier));
+    /**
+     * Loads the quest progress of the online players, once the quests are registered.
+     * <p>
+     * The YAML files of the previous save format are imported first, one player at a time through the
+     * write queue. Once the rows are written, the folder is renamed so the import only happens once.
+     */
+    public static void loadAllQuestProgress() {
+        migrateLegacyProgress();
 
-            for (int tierIndex = 0; tierIndex < quest.getTiers().size(); tierIndex++) {
-                QuestTier tier = quest.getTiers().get(tierIndex);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            load(player.getUniqueId());
+        }
+    }
 
-                for (int stepIndex = 0; stepIndex < tier.getSteps().size(); stepIndex++) {
-                    QuestStep step = tier.getSteps().get(stepIndex);
-                    String stepPath = questName + ".tiers." + tierIndex + ".steps." + stepIndex;
+    private static void migrateLegacyProgress() {
+        File saveFolder = new File(OMCPlugin.getInstance().getDataFolder(), LEGACY_SAVE_FOLDER);
+        File[] playerFiles = saveFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (playerFiles == null) return;
 
-                    int stepProgress = step.getProgress().getOrDefault(playerUUID, 0);
-                    config.set(stepPath, stepProgress);
-                }
+        Collection<Quest> quests = QuestsManager.quests.values();
+        int migrated = 0;
+        for (File playerFile : playerFiles) {
+            try {
+                UUID playerUUID = UUID.fromString(playerFile.getName().replace(".yml", ""));
+                DBQuestProgress row = new DBQuestProgress(playerUUID,
+                        migrateLegacyFile(playerUUID, YamlConfiguration.loadConfiguration(playerFile), quests));
+                DatabaseManager.queue(DatabaseWriteQueue.key("quest_progress", playerUUID), MutationType.UPSERT,
+                        () -> progressDao.createOrUpdate(row));
+                migrated++;
+            } catch (IllegalArgumentException e) {
+                OMCLogger.warn("Invalid UUID in quest progress file: {}", playerFile.getName(), e);
+            } catch (Exception e) {
+                OMCLogger.error("Error loading quest progress for file: {}", playerFile.getName(), e);
             }
         }
 
-        try {
-            config.save(playerFile);
-        } catch (IOException e) {
-            OMCLogger.error("Could not save quest progress for player {}", playerUUID, e);
+        // le dossier n'est renommé qu'une fois les lignes écrites, sinon la migration est refaite au prochain démarrage
+        if (!DatabaseManager.drainWriteQueue("quest_progress", MIGRATION_DRAIN_TIMEOUT_MILLIS)) {
+            OMCLogger.warn("Quest progress migration not fully written, {} kept for the next start", saveFolder.getPath());
+            return;
         }
-    }
 
-    /**
-     * Saves the quest progress for all players currently online.
-     */
-    public static void saveAllQuestProgress() {
-        OMCPlugin.getInstance().getServer().getOnlinePlayers().forEach((player) ->
-                savePlayerQuestProgress(player.getUniqueId())
-        );
+        File migratedFolder = new File(OMCPlugin.getInstance().getDataFolder(), LEGACY_SAVE_FOLDER + "_migrated");
+        if (!saveFolder.renameTo(migratedFolder)) {
+            OMCLogger.warn("Could not rename {} after the quest progress migration", saveFolder.getPath());
+        }
+        OMCLogger.infoFormatted("{} quest progress files migrated to the database", migrated);
     }
 
     /**
-     * Deletes the quest progress file for a specific player.
+     * Converts the YAML file of a player from the previous save format.
+     * <p>
+     * The progress is only kept in memory while it is converted, unless it was already loaded.
+     *
      * @param playerUUID the UUID of the player
+     * @param config     the content of the file
+     * @param quests     the registered quests
+     * @return the progress of the player, in the binary format
      */
-    private static File getPlayerProgressFile(UUID playerUUID) {
-        return new File(OMCPlugin.getInstance().getDataFolder(), SAVE_FOLDER + File.separator + playerUUID + ".yml");
-    }
+    static byte[] migrateLegacyFile(UUID playerUUID, YamlConfiguration config, Collection<Quest> quests) {
+        boolean inMemory = playerQuestProgress.containsKey(playerUUID);
+        PlayerQuestProgress progress = getOrCreateProgress(playerUUID);
 
-    /**
-     * Loads the quest progress for all players.
-     */
-    public static void loadAllQuestProgress() {
-        File saveFolder = new File(OMCPlugin.getInstance().getDataFolder(), SAVE_FOLDER);
-        File[] playerFiles = saveFolder.listFiles((dir, name) -> name.endsWith(".yml"));
+        try {
+            for (Quest quest : quests) {
+                String questName = PlainTextComponentSerializer.plainText().serialize(quest.getName());
+                if (!config.isConfigurationSection(questName)) continue;
 
-        if (playerFiles != null) {
-            for (File playerFile : playerFiles) {
-                try {
-                    UUID playerUUID = UUID.fromString(playerFile.getName().replace(".yml", ""));
-                    loadPlayerQuestProgress(playerUUID);
-                } catch (IllegalArgumentException e) {
-                    OMCLogger.warn("Invalid UUID in quest progress file: {}", playerFile.getName(), e);
-                } catch (Exception e) {
-                    OMCLogger.error("Error loading quest progress for file: {}", playerFile.getName(), e);
+                quest.restoreProgress(
+                        playerUUID,
+                        config.getInt(questName + ".progress", 0),
+                        config.getInt(questName + ".currentTier", 0),
+                        config.getIntegerList(questName + ".completedTiers"),
+                        config.getIntegerList(questName + ".pendingRewards")
+                );
+
+                for (int tierIndex = 0; tierIndex < quest.getTiers().size(); tierIndex++) {
+                    QuestTier tier = quest.getTiers().get(tierIndex);
+
+                    for (int stepIndex = 0; stepIndex < tier.getSteps().size(); stepIndex++) {
+                        String stepPath = questName + ".tiers." + tierIndex + ".steps." + stepIndex;
+                        tier.getSteps().get(stepIndex).setProgress(playerUUID, config.getInt(stepPath, 0));
+                    }
                 }
             }
+
+            byte[] data = progress.encode(quests);
+            if (inMemory) progress.clearDirty();
+            return data;
+        } finally {
+            if (!inMemory) playerQuestProgress.remove(playerUUID);
         }
     }
 }
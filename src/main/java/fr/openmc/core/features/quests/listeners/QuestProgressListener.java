@@ -0,0 +1,16 @@
+package fr.openmc.core.features.quests.listeners;
+
+import fr.openmc.core.features.quests.QuestProgressSaveManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+public class QuestProgressListener implements Listener {
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        // déjà chargée à la connexion, sauf si le chargement a échoué ou pris trop de temps
+        QuestProgressSaveManager.load(event.getPlayer().getUniqueId());
+    }
+}
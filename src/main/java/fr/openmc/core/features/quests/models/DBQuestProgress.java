@@ -0,0 +1,30 @@
+package fr.openmc.core.features.quests.models;
+
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+@DatabaseTable(tableName = "quest_progress")
+public class DBQuestProgress {
+    @DatabaseField(id = true, columnName = "player")
+    private UUID playerUUID;
+
+    /**
+     * Progression de toutes les quêtes, au format de {@link fr.openmc.core.features.quests.objects.PlayerQuestProgress}
+     */
+    @DatabaseField(canBeNull = false, dataType = DataType.BYTE_ARRAY)
+    private byte[] data;
+
+    DBQuestProgress() {
+        // necessary for OrmLite
+    }
+
+    public DBQuestProgress(UUID playerUUID, byte[] data) {
+        this.playerUUID = playerUUID;
+        this.data = data;
+    }
+}
@@ -0,0 +1,148 @@
+package fr.openmc.core.features.quests.objects;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Progression d'un joueur pour toutes les quêtes, dans un seul tableau d'entiers.
+ * <p>
+ * Chaque quête y occupe une plage fixe, réservée au premier accès : progression, palier actuel,
+ * paliers complétés (masque de bits), puis pour chaque palier les récompenses en attente (masque de bits)
+ * et la progression de chaque étape.
+ * <p>
+ * Format binaire (version 1) : pour chaque quête enregistrée, son identifiant stable suivi de sa plage.
+ * Une quête inconnue est ignorée et une plage plus courte que la quête est complétée par des 0,
+ * on peut donc ajouter des quêtes, et des paliers ou des étapes à la fin d'une quête, sans migration.
+ */
+public class PlayerQuestProgress {
+    private static final int FORMAT_VERSION = 1;
+    private static int allocatedSlots;
+
+    private int[] values;
+    private final BitSet locks = new BitSet();
+    private volatile boolean dirty;
+    /**
+     * Vrai quand la progression enregistrée du joueur a été chargée.
+     * Tant que ce n'est pas le cas, elle n'est ni incrémentée ni sauvegardée.
+     */
+    @Getter
+    @Setter
+    private volatile boolean loaded;
+
+    public PlayerQuestProgress() {
+        this.values = new int[allocatedSlots];
+    }
+
+    /**
+     * Réserve une plage de cases pour une quête.
+     *
+     * @param size Le nombre de cases
+     * @return L'indice de la première case
+     */
+    static synchronized int allocate(int size) {
+        int slot = allocatedSlots;
+        allocatedSlots += size;
+        return slot;
+    }
+
+    int get(int slot) {
+        int[] current = this.values;
+        return slot < current.length ? current[slot] : 0;
+    }
+
+    void set(int slot, int value) {
+        if (slot >= this.values.length) {
+            if (value == 0) return;
+            this.values = Arrays.copyOf(this.values, Math.max(slot + 1, this.values.length * 2));
+        }
+        if (this.values[slot] == value) return;
+
+        this.values[slot] = value;
+        this.dirty = true;
+    }
+
+    /**
+     * Verrou de réentrance d'une quête, pour ce joueur (non sauvegardé).
+     */
+    boolean lock(int slot) {
+        if (this.locks.get(slot)) return false;
+        this.locks.set(slot);
+        return true;
+    }
+
+    void unlock(int slot) {
+        this.locks.clear(slot);
+    }
+
+    /**
+     * @return true si la progression avait changé depuis le dernier appel
+     */
+    public boolean clearDirty() {
+        boolean wasDirty = this.dirty;
+        this.dirty = false;
+        return wasDirty;
+    }
+
+    /**
+     * Sérialise la progression des quêtes données.
+     *
+     * @param quests Les quêtes à sauvegarder
+     * @return La progression au format binaire
+     */
+    public byte[] encode(Collection<Quest> quests) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeShort(quests.size());
+            for (Quest quest : quests) {
+                int slot = quest.slot();
+                int size = quest.slotCount();
+
+                out.writeUTF(quest.getId());
+                out.writeShort(size);
+                for (int i = 0; i < size; i++) {
+                    out.writeInt(get(slot + i));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Remplace la progression des quêtes présentes dans les données.
+     *
+     * @param data   La progression au format binaire
+     * @param quests Les quêtes connues, par identifiant
+     */
+    public void decode(byte[] data, Map<String, Quest> quests) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported quest progress format version " + version);
+            }
+
+            int count = in.readUnsignedShort();
+            for (int q = 0; q < count; q++) {
+                Quest quest = quests.get(in.readUTF());
+                int size = in.readUnsignedShort();
+                int slot = quest == null ? 0 : quest.slot();
+                int slotCount = quest == null ? 0 : quest.slotCount();
+
+                for (int i = 0; i < size; i++) {
+                    int value = in.readInt();
+                    if (i < slotCount) set(slot + i, value);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package fr.openmc.core.features.quests.objects;
 
 import fr.openmc.core.OMCPlugin;
 import fr.openmc.core.features.dream.DreamUtils;
+import fr.openmc.core.features.quests.QuestProgressBuffer;
+import fr.openmc.core.features.quests.QuestProgressSaveManager;
 import fr.openmc.core.features.quests.events.QuestCompleteEvent;
 import fr.openmc.core.features.quests.rewards.QuestItemReward;
 import fr.openmc.core.features.quests.rewards.QuestReward;
@@ -11,6 +13,7 @@ import fr.openmc.core.utils.text.messages.MessageType;
 import fr.openmc.core.utils.text.messages.MessagesManager;
 import fr.openmc.core.utils.text.messages.Prefix;
 import fr.openmc.core.utils.text.messages.TranslationManager;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import net.kyori.adventure.text.Component;
@@ -27,7 +30,6 @@ import org.bukkit.inventory.ItemStack;
 
 import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 
 @Getter
@@ -40,11 +42,21 @@ public class Quest {
     private final ItemStack icon;
     private final boolean isLargeActionBar;
     private final List<QuestTier> tiers = new ArrayList<>();
-    private final Map<UUID, Integer> progress = new ConcurrentHashMap<>();
-    private final Map<UUID, Boolean> progressLock = new ConcurrentHashMap<>();
-    private final Map<UUID, Integer> currentTier = new ConcurrentHashMap<>();
-    private final Map<UUID, Set<Integer>> completedTiers = new ConcurrentHashMap<>();
-    private final Map<UUID, Map<Integer, List<QuestReward>>> pendingRewards = new ConcurrentHashMap<>();
+
+    /*
+     * Layout of the quest in PlayerQuestProgress, computed on first access
+     * (tiers are added in the constructor of the subclasses).
+     */
+    private static final int PROGRESS = 0;
+    private static final int CURRENT_TIER = 1;
+    private static final int COMPLETED_TIERS = 2;
+    private static final int HEADER_SIZE = 3;
+    @Getter(AccessLevel.NONE)
+    private volatile int slot = -1;
+    @Getter(AccessLevel.NONE)
+    private int[] tierSlots;
+    @Getter(AccessLevel.NONE)
+    private int slotCount;
 
     /**
      * Constructor for Quest.
@@ -139,6 +151,102 @@ public class Quest {
         Collections.addAll(this.tiers, tiers);
     }
 
+    /**
+     * Get the stable identifier of the quest, used to save the progress.
+     *
+     * @return the simple class name of the quest
+     */
+    public String getId() {
+        return this.getClass().getSimpleName();
+    }
+
+    /**
+     * Get the first slot of the quest in {@link PlayerQuestProgress}, reserving it on first access.
+     * Tier and step slots are bound at the same time.
+     *
+     * @return the first slot of the quest
+     */
+    int slot() {
+        int current = this.slot;
+        if (current >= 0) return current;
+
+        synchronized (this) {
+            if (this.slot >= 0) return this.slot;
+            if (this.tiers.size() > Integer.SIZE - 1) {
+                throw new IllegalStateException("Quest " + getId() + " has too many tiers");
+            }
+
+            int[] slots = new int[this.tiers.size()];
+            int size = HEADER_SIZE;
+            for (int tierIndex = 0; tierIndex < this.tiers.size(); tierIndex++) {
+                slots[tierIndex] = size;
+                size += 1 + this.tiers.get(tierIndex).getSteps().size();
+            }
+
+            int first = PlayerQuestProgress.allocate(size);
+            for (int tierIndex = 0; tierIndex < this.tiers.size(); tierIndex++) {
+                List<QuestStep> steps = this.tiers.get(tierIndex).getSteps();
+                for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+                    steps.get(stepIndex).bind(first + slots[tierIndex] + 1 + stepIndex);
+                }
+            }
+
+            this.tierSlots = slots;
+            this.slotCount = size;
+            this.slot = first;
+            return first;
+        }
+    }
+
+    /**
+     * @return the number of slots used by the quest in {@link PlayerQuestProgress}
+     */
+    int slotCount() {
+        slot();
+        return this.slotCount;
+    }
+
+    private int read(UUID playerUUID, int offset) {
+        PlayerQuestProgress playerProgress = QuestProgressSaveManager.getProgress(playerUUID);
+        return playerProgress == null ? 0 : playerProgress.get(slot() + offset);
+    }
+
+    private void write(UUID playerUUID, int offset, int value) {
+        QuestProgressSaveManager.getOrCreateProgress(playerUUID).set(slot() + offset, value);
+    }
+
+    private int pendingRewardsOffset(int tierIndex) {
+        slot();
+        return this.tierSlots[tierIndex];
+    }
+
+    /**
+     * Restore the saved state of the quest for a player.
+     *
+     * @param playerUUID         The UUID of the player
+     * @param progress           The progression value
+     * @param currentTier        The current tier index
+     * @param completedTiers     The indexes of the completed tiers
+     * @param pendingRewardTiers The indexes of the tiers whose rewards are not claimed yet
+     */
+    public void restoreProgress(UUID playerUUID, int progress, int currentTier,
+                                Collection<Integer> completedTiers, Collection<Integer> pendingRewardTiers) {
+        write(playerUUID, PROGRESS, progress);
+        write(playerUUID, CURRENT_TIER, currentTier);
+
+        int completedMask = 0;
+        for (int tierIndex : completedTiers) {
+            if (tierIndex >= 0 && tierIndex < this.tiers.size()) completedMask |= 1 << tierIndex;
+        }
+        write(playerUUID, COMPLETED_TIERS, completedMask);
+
+        for (int tierIndex : pendingRewardTiers) {
+            if (tierIndex >= 0 && tierIndex < this.tiers.size()) {
+                addPendingRewards(playerUUID, tierIndex, this.tiers.get(tierIndex).getRewards());
+            }
+        }
+    }
+
     /**
      * Check if the quest is fully completed for a player.
      *
@@ -146,7 +254,7 @@ public class Quest {
      * @return true if the quest is fully completed, false otherwise
      */
     public boolean isFullyCompleted(UUID playerUUID) {
-        int playerTier = this.currentTier.getOrDefault(playerUUID, 0);
+        int playerTier = read(playerUUID, CURRENT_TIER);
         return playerTier >= this.tiers.size();
     }
 
@@ -157,7 +265,7 @@ public class Quest {
      * @return the current progress of the quest for the player, or 0 if not found
      */
     public int getProgress(UUID playerUUID) {
-        return this.progress.getOrDefault(playerUUID, 0);
+        return read(playerUUID, PROGRESS);
     }
 	
 	/**
@@ -166,8 +274,7 @@ public class Quest {
 	 * @param progress The progression value
 	 */
 	public void setProgress(UUID playerUUID, int progress) {
-		this.progress.remove(playerUUID);
-		this.progress.put(playerUUID, progress);
+		write(playerUUID, PROGRESS, progress);
 	}
 
     /**
@@ -177,7 +284,7 @@ public class Quest {
      * @return the current tier index of the quest for the player, or 0 if not found
      */
     public int getCurrentTierIndex(UUID playerUUID) {
-        int tierIndex = this.currentTier.getOrDefault(playerUUID, 0);
+        int tierIndex = read(playerUUID, CURRENT_TIER);
         return Math.min(tierIndex, this.tiers.size());
     }
 
@@ -283,10 +390,10 @@ public class Quest {
      * @param tierIndex the index of the tier to complete
      */
     public void completeTier(UUID uuid, int tierIndex) {
-        Set<Integer> playerCompletedTiers = this.completedTiers.computeIfAbsent(uuid, k -> new HashSet<>());
-        if (!playerCompletedTiers.contains(tierIndex) && tierIndex < this.tiers.size() && !this.isFullyCompleted(uuid)) {
-            playerCompletedTiers.add(tierIndex);
-            this.currentTier.put(uuid, Math.min(tierIndex + 1, this.tiers.size()));
+        int completedMask = read(uuid, COMPLETED_TIERS);
+        if ((completedMask & (1 << tierIndex)) == 0 && tierIndex < this.tiers.size() && !this.isFullyCompleted(uuid)) {
+            write(uuid, COMPLETED_TIERS, completedMask | (1 << tierIndex));
+            write(uuid, CURRENT_TIER, Math.min(tierIndex + 1, this.tiers.size()));
             Player player = Bukkit.getPlayer(uuid);
             QuestTier tier = this.tiers.get(tierIndex);
             boolean isLastTier = tierIndex == this.tiers.size() - 1;
@@ -358,14 +465,21 @@ public class Quest {
 
     /**
      * Add pending rewards for a player.
+     * <p>
+     * The pending rewards of a tier are saved as a bit mask of their indexes in the tier rewards.
      *
      * @param uuid The UUID of the player
      * @param tierIndex The index of the tier
      * @param rewards The list of rewards to add
      */
     private void addPendingRewards(UUID uuid, int tierIndex, List<QuestReward> rewards) {
-        Map<Integer, List<QuestReward>> playerPendingRewards = this.pendingRewards.computeIfAbsent(uuid, k -> new HashMap<>());
-        playerPendingRewards.put(tierIndex, rewards);
+        List<QuestReward> tierRewards = this.tiers.get(tierIndex).getRewards();
+        int mask = read(uuid, pendingRewardsOffset(tierIndex));
+        for (QuestReward reward : rewards) {
+            int rewardIndex = tierRewards.indexOf(reward);
+            if (rewardIndex >= 0 && rewardIndex < Integer.SIZE) mask |= 1 << rewardIndex;
+        }
+        write(uuid, pendingRewardsOffset(tierIndex), mask);
     }
 
     /**
@@ -375,20 +489,10 @@ public class Quest {
      * @return true if the player has pending rewards, false otherwise
      */
     public boolean hasPendingRewards(UUID uuid) {
-        Map<Integer, List<QuestReward>> playerPendingRewards = this.pendingRewards.get(uuid);
-        return playerPendingRewards != null && !playerPendingRewards.isEmpty();
-    }
-
-    /**
-     * Get pending rewards for a specific tier for a player.
-     *
-     * @param uuid The UUID of the player
-     * @param tierIndex The index of the tier
-     * @return a list of pending rewards for the specified tier, or null if not found
-     */
-    private List<QuestReward> getPendingRewardsForTier(UUID uuid, int tierIndex) {
-        Map<Integer, List<QuestReward>> playerPendingRewards = this.pendingRewards.get(uuid);
-        return playerPendingRewards != null ? playerPendingRewards.remove(tierIndex) : null;
+        for (int tierIndex = 0; tierIndex < this.tiers.size(); tierIndex++) {
+            if (read(uuid, pendingRewardsOffset(tierIndex)) != 0) return true;
+        }
+        return false;
     }
 
     /**
@@ -398,8 +502,11 @@ public class Quest {
      * @return a set of pending reward tiers for the player
      */
     public Set<Integer> getPendingRewardTiers(UUID playerUUID) {
-        Map<Integer, List<QuestReward>> playerPendingRewards = pendingRewards.get(playerUUID);
-        return playerPendingRewards != null ? playerPendingRewards.keySet() : Collections.emptySet();
+        Set<Integer> pendingTiers = new TreeSet<>();
+        for (int tierIndex = 0; tierIndex < this.tiers.size(); tierIndex++) {
+            if (read(playerUUID, pendingRewardsOffset(tierIndex)) != 0) pendingTiers.add(tierIndex);
+        }
+        return pendingTiers;
     }
 
     /**
@@ -411,19 +518,26 @@ public class Quest {
      */
     public boolean claimPendingRewards(Player player, int tierIndex) {
         UUID playerUUID = player.getUniqueId();
-        List<QuestReward> rewards = getPendingRewardsForTier(playerUUID, tierIndex);
-        if (rewards == null || rewards.isEmpty()) {
+        if (tierIndex < 0 || tierIndex >= this.tiers.size()) {
+            return false;
+        }
+
+        int pendingOffset = pendingRewardsOffset(tierIndex);
+        int mask = read(playerUUID, pendingOffset);
+        if (mask == 0) {
             return false;
         }
 
-        boolean allClaimed = true;
-        List<QuestReward> remainingRewards = new ArrayList<>();
+        List<QuestReward> rewards = this.tiers.get(tierIndex).getRewards();
+        int remainingMask = 0;
 
-        for (QuestReward reward : rewards) {
+        for (int rewardIndex = 0; rewardIndex < rewards.size() && rewardIndex < Integer.SIZE; rewardIndex++) {
+            if ((mask & (1 << rewardIndex)) == 0) continue;
+
+            QuestReward reward = rewards.get(rewardIndex);
             if (reward instanceof QuestItemReward itemReward) {
                 if (!ItemUtils.hasEnoughSpace(player, itemReward.getItemStack())) {
-                    remainingRewards.add(reward);
-                    allClaimed = false;
+                    remainingMask |= 1 << rewardIndex;
                     continue;
                 }
             }
@@ -431,14 +545,9 @@ public class Quest {
             reward.giveReward(player);
         }
 
-        Map<Integer, List<QuestReward>> playerPendingRewards = pendingRewards.get(playerUUID);
+        write(playerUUID, pendingOffset, remainingMask);
+        boolean allClaimed = remainingMask == 0;
         if (allClaimed) {
-            if (playerPendingRewards != null) {
-                playerPendingRewards.remove(tierIndex);
-                if (playerPendingRewards.isEmpty()) {
-                    pendingRewards.remove(playerUUID);
-                }
-            }
             Component message = TranslationManager.translation(
                     "feature.quests.message.rewards_claimed",
                     Component.text(tierIndex + 1).color(NamedTextColor.YELLOW),
@@ -446,9 +555,6 @@ public class Quest {
             ).color(NamedTextColor.GREEN);
             MessagesManager.sendMessage(player, message, Prefix.QUEST, MessageType.SUCCESS, true);
         } else {
-            if (playerPendingRewards != null && !remainingRewards.isEmpty()) {
-                playerPendingRewards.put(tierIndex, remainingRewards);
-            }
             MessagesManager.sendMessage(
                     player,
                     TranslationManager.translation("feature.quests.message.inventory_full_claim")
@@ -510,14 +616,14 @@ public class Quest {
      * @param playerUUID the UUID of the player
      */
     private void checkTierCompletion(UUID playerUUID) {
-        int playerTier = this.currentTier.getOrDefault(playerUUID, 0);
+        int playerTier = read(playerUUID, CURRENT_TIER);
         if (playerTier < this.tiers.size()) {
             QuestTier tier = this.tiers.get(playerTier);
-            int currentProgress = this.progress.getOrDefault(playerUUID, 0);
-            Set<Integer> playerCompletedTiers = this.completedTiers.computeIfAbsent(playerUUID, (k) -> new HashSet<>());
+            int currentProgress = read(playerUUID, PROGRESS);
+            int completedMask = read(playerUUID, COMPLETED_TIERS);
 
-            if (currentProgress >= tier.target() && !playerCompletedTiers.contains(playerTier) &&
-                    (playerTier == 0 || playerCompletedTiers.contains(playerTier - 1))) {
+            if (currentProgress >= tier.target() && (completedMask & (1 << playerTier)) == 0 &&
+                    (playerTier == 0 || (completedMask & (1 << (playerTier - 1))) != 0)) {
 
                 if (!tier.isRequireStepsCompletion() || tier.areStepsCompleted(playerUUID)) {
                     this.completeTier(playerUUID, playerTier);
@@ -556,42 +662,92 @@ public class Quest {
      * @param authorizeDream Set if you authorize to increment progress in Dream world
      */
     public void incrementProgress(UUID playerUUID, int amount, boolean authorizeDream) {
-        if (!this.isFullyCompleted(playerUUID) && !this.progressLock.getOrDefault(playerUUID, false)) {
-            this.progressLock.put(playerUUID, true);
-			
-            try {
-                Player onlinePlayer = Bukkit.getPlayer(playerUUID);
-				if (onlinePlayer == null) return;
-				if (!onlinePlayer.isOnline()) return;
-                if ((!onlinePlayer.getGameMode().equals(GameMode.SURVIVAL)
-                        || (DreamUtils.isInDreamWorld(onlinePlayer)) && !authorizeDream)) return;
+        Player onlinePlayer = Bukkit.getPlayer(playerUUID);
+        if (!canProgress(onlinePlayer, authorizeDream)) return;
 
-                int currentProgress = this.progress.getOrDefault(playerUUID, 0);
-                int newProgress = currentProgress + amount;
+        applyProgress(playerUUID, amount);
+    }
+
+    /**
+     * Buffer progress of the quest for a player, applied within half a second.
+     * <p>
+     * Meant for high-frequency events (walking, breaking blocks...): the event only adds to a counter,
+     * and the tiers and the action bar are checked once for the total. The gamemode and the dream world
+     * are checked here, when the event happens.
+     * @param playerUUID The UUID of the player
+     * @param amount The amount to add to the progress
+     */
+    public void bufferProgress(UUID playerUUID, int amount) {
+        if (!canProgress(Bukkit.getPlayer(playerUUID), false)) return;
+
+        QuestProgressBuffer.add(this, playerUUID, amount);
+    }
+
+    /**
+     * Check if a player can progress in the quest right now.
+     * @param player The player, or null if offline
+     * @param authorizeDream Set if you authorize to increment progress in Dream world
+     * @return true if the player is online, in survival and, unless authorized, not in the Dream world
+     */
+    private boolean canProgress(Player player, boolean authorizeDream) {
+        if (player == null || !player.isOnline()) return false;
+        if (!player.getGameMode().equals(GameMode.SURVIVAL)) return false;
+        return authorizeDream || !DreamUtils.isInDreamWorld(player);
+    }
+
+    /**
+     * Apply progress of the quest for a player, without checking the gamemode or the dream world.
+     * <p>
+     * The amount is applied tier by tier: what goes past the target of a completed tier counts toward the next one.
+     * Used directly by {@link QuestProgressBuffer}, whose amounts were checked when they were buffered.
+     * @param playerUUID The UUID of the player
+     * @param amount The amount to increment the progress by
+     */
+    public void applyProgress(UUID playerUUID, int amount) {
+        PlayerQuestProgress playerProgress = QuestProgressSaveManager.getProgress(playerUUID);
+        if (playerProgress == null || !playerProgress.isLoaded()) return;
+
+        if (!this.isFullyCompleted(playerUUID) && playerProgress.lock(slot())) {
+            try {
+                int startProgress = read(playerUUID, PROGRESS);
+                int remaining = amount;
+                int newProgress = startProgress;
                 int currentTarget = this.getCurrentTarget(playerUUID);
 
-                if (newProgress >= currentTarget) newProgress = currentTarget;
-	            
-	            if (currentProgress < currentTarget) {
-					this.progress.put(playerUUID, newProgress);
+                while (remaining > 0 && newProgress < currentTarget) {
+                    int tierIndex = read(playerUUID, CURRENT_TIER);
+                    int applied = Math.min(remaining, currentTarget - newProgress);
+                    newProgress += applied;
+                    remaining -= applied;
+
+                    write(playerUUID, PROGRESS, newProgress);
                     this.checkTierCompletion(playerUUID);
-                    if (onlinePlayer.isOnline()) {
-                        if (this.isLargeActionBar && newProgress % 50 != 0) return;
-                        Component actionBar = Component.text()
-                                .append(Prefix.QUEST.getPrefix())
-                                .append(Component.text(" » ", NamedTextColor.DARK_GRAY))
-                                .append(TranslationManager.translation("feature.quests.actionbar.progress_label")
-                                        .color(NamedTextColor.GRAY))
-                                .append(Component.space())
-                                .append(this.name.color(NamedTextColor.WHITE))
-                                .append(Component.text(" : ", NamedTextColor.GRAY))
-                                .append(Component.text(newProgress + "/" + currentTarget, NamedTextColor.GOLD))
-                                .build();
-                        onlinePlayer.sendActionBar(actionBar);
-                    }
+
+                    // le palier n'est pas validé (étapes manquantes) ou la quête est terminée
+                    if (read(playerUUID, CURRENT_TIER) == tierIndex || this.isFullyCompleted(playerUUID)) break;
+                    currentTarget = this.getCurrentTarget(playerUUID);
+                }
+
+                if (newProgress == startProgress) return;
+
+                Player onlinePlayer = Bukkit.getPlayer(playerUUID);
+                if (onlinePlayer != null && onlinePlayer.isOnline()) {
+                    if (this.isLargeActionBar && newProgress / 50 == startProgress / 50) return;
+                    int displayedTarget = Math.max(currentTarget, newProgress);
+                    Component actionBar = Component.text()
+                            .append(Prefix.QUEST.getPrefix())
+                            .append(Component.text(" » ", NamedTextColor.DARK_GRAY))
+                            .append(TranslationManager.translation("feature.quests.actionbar.progress_label")
+                                    .color(NamedTextColor.GRAY))
+                            .append(Component.space())
+                            .append(this.name.color(NamedTextColor.WHITE))
+                            .append(Component.text(" : ", NamedTextColor.GRAY))
+                            .append(Component.text(newProgress + "/" + displayedTarget, NamedTextColor.GOLD))
+                            .build();
+                    onlinePlayer.sendActionBar(actionBar);
                 }
             } finally {
-                this.progressLock.put(playerUUID, false);
+                playerProgress.unlock(slot());
             }
         }
     }
@@ -616,6 +772,8 @@ public class Quest {
      * @param amount The amount to increment the progress by
      */
     public void incrementStepProgress(UUID playerUUID, int stepIndex, int amount) {
+        if (!QuestProgressSaveManager.isLoaded(playerUUID)) return;
+
         QuestTier tier = getCurrentTier(playerUUID);
         if (tier != null && stepIndex >= 0 && stepIndex < tier.getSteps().size()) {
             QuestStep step = tier.getSteps().get(stepIndex);
@@ -635,6 +793,8 @@ public class Quest {
      * @param amount The amount to increment the progress by
      */
     public void incrementStepProgressByDescription(UUID playerUUID, String stepDescription, int amount) {
+        if (!QuestProgressSaveManager.isLoaded(playerUUID)) return;
+
         QuestTier tier = getCurrentTier(playerUUID);
         if (tier != null) {
             List<QuestStep> steps = tier.getSteps();
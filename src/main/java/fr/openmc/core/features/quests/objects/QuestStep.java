@@ -1,21 +1,23 @@
 package fr.openmc.core.features.quests.objects;
 
+import fr.openmc.core.features.quests.QuestProgressSaveManager;
+import lombok.AccessLevel;
 import lombok.Getter;
 import net.kyori.adventure.text.Component;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a step in a quest.
- * Each step has a description, a target number, and tracks the progress of players.
+ * Each step has a description, a target number, and tracks the progress of players
+ * in its slot of {@link PlayerQuestProgress}, bound by its quest.
  */
 @Getter
 public class QuestStep {
     private final Component description;
     private final int target;
-    private final Map<UUID, Integer> progress = new ConcurrentHashMap<>();
+    @Getter(AccessLevel.NONE)
+    private int slot = -1;
 
     /**
      * Constructor for QuestStep.
@@ -41,6 +43,16 @@ public class QuestStep {
         });
     }
 
+    /**
+     * Bind the step to its slot in {@link PlayerQuestProgress}.
+     * Called by the quest when its layout is computed, before any access to the progress.
+     *
+     * @param slot The slot of the step
+     */
+    void bind(int slot) {
+        this.slot = slot;
+    }
+
     /**
      * Get the target number of the step.
      *
@@ -48,7 +60,10 @@ public class QuestStep {
      * @return           The target number
      */
     public int getProgress(UUID playerUUID) {
-        return this.progress.getOrDefault(playerUUID, 0);
+        if (this.slot < 0) return 0;
+
+        PlayerQuestProgress playerProgress = QuestProgressSaveManager.getProgress(playerUUID);
+        return playerProgress == null ? 0 : playerProgress.get(this.slot);
     }
 
     /**
@@ -58,7 +73,9 @@ public class QuestStep {
      * @param progress   The progress to set
      */
     public void setProgress(UUID playerUUID, int progress) {
-        this.progress.put(playerUUID, Math.min(progress, this.target));
+        if (this.slot < 0) return;
+
+        QuestProgressSaveManager.getOrCreateProgress(playerUUID).set(this.slot, Math.min(progress, this.target));
     }
 
     /**
@@ -80,7 +80,7 @@ public class BreakLogQuest extends Quest implements Listener {
 
         if (logWeights.containsKey(type)) {
             int progress = logWeights.get(type);
-            this.incrementProgress(event.getPlayer().getUniqueId(), progress);
+            this.bufferProgress(event.getPlayer().getUniqueId(), progress);
         }
     }
 
@@ -41,7 +41,7 @@ public class BreakStoneQuest extends Quest implements Listener {
         List<Item> items = event.getItems();
         for (Item item : items) {
             if (item.getItemStack().getType().equals(Material.COBBLESTONE)) {
-                this.incrementProgress(event.getPlayer().getUniqueId());
+                this.bufferProgress(event.getPlayer().getUniqueId(), 1);
                 break;
             }
         }
@@ -52,6 +52,6 @@ public class BreakStoneQuest extends Quest implements Listener {
         Block block = event.getBlock();
         if (block == null) return;
 
-        this.incrementProgress(event.getPlayer().getUniqueId(), event.getCountBlockBroken());
+        this.bufferProgress(event.getPlayer().getUniqueId(), event.getCountBlockBroken());
     }
 }
@@ -71,7 +71,7 @@ public class BreakWheatQuest extends Quest implements Listener {
         if (event.getBlock().getType() == Material.WHEAT) {
             Ageable ageable = (Ageable) event.getBlock().getBlockData();
             if (ageable.getAge() == ageable.getMaximumAge()) {
-                this.incrementProgress(event.getPlayer().getUniqueId(), 1);
+                this.bufferProgress(event.getPlayer().getUniqueId(), 1);
             }
         }
     }
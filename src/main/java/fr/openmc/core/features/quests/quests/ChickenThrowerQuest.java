@@ -30,6 +30,6 @@ public class ChickenThrowerQuest extends Quest implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEggThrow(PlayerEggThrowEvent event) {
-        this.incrementProgress(event.getPlayer().getUniqueId(), 1);
+        this.bufferProgress(event.getPlayer().getUniqueId(), 1);
     }
 }
\ No newline at end of file
@@ -31,7 +31,7 @@ public class KillZombieQuest extends Quest implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onZombieKill(EntityDeathEvent event) {
         if (event.getEntity().getKiller() instanceof Player player && event.getEntity() instanceof Zombie) {
-            this.incrementProgress(player.getUniqueId());
+            this.bufferProgress(player.getUniqueId(), 1);
         }
     }
 
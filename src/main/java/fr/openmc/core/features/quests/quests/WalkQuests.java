@@ -1,5 +1,6 @@
 package fr.openmc.core.features.quests.quests;
 
+import fr.openmc.core.events.PlayerBlockChangeEvent;
 import fr.openmc.core.features.quests.objects.Quest;
 import fr.openmc.core.features.quests.objects.QuestTier;
 import fr.openmc.core.features.quests.rewards.QuestMoneyReward;
@@ -9,7 +10,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
 
 public class WalkQuests extends Quest implements Listener {
     public WalkQuests() {
@@ -28,17 +28,17 @@ public class WalkQuests extends Quest implements Listener {
         );
     }
 
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
-    public void onPlayerMove(PlayerMoveEvent event) {
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onBlockChange(PlayerBlockChangeEvent event) {
         Player player = event.getPlayer();
         if (
-            (event.getFrom().getBlockX() != event.getTo().getBlockX()
-            || event.getFrom().getBlockZ() != event.getTo().getBlockZ())
+            event.isMove()
+            && event.isHorizontal()
             && !player.isFlying()
             && !player.isGliding()
             && !player.isInsideVehicle()
         ) {
-            this.incrementProgress(player.getUniqueId());
+            this.bufferProgress(player.getUniqueId(), 1);
         }
     }
 }
@@ -21,6 +21,10 @@ public class PlayerSettings {
     @Getter private final UUID playerUUID;
     private final Map<SettingType, Object> settings = new HashMap<>();
     private boolean loaded = false;
+    /**
+     * Default settings returned because the saved ones could not be loaded, see {@link #detach()}.
+     */
+    @Getter private boolean detached = false;
 
     /**
      * Constructs a PlayerSettings instance for the given player UUID.
@@ -74,7 +78,9 @@ public class PlayerSettings {
             if (!settingType.isValidValue(value)) {
                 throw new IllegalArgumentException("Invalid value for setting: " + settingType + ". Expected type: " + settingType.getValueType() + ", but got: " + value);
             }
-            settings.put(settingType, value);
+            if (value.equals(settings.put(settingType, value))) return;
+
+            PlayerSettingsManager.saveSettings(this);
         } catch (Exception e) {
             Player player = Bukkit.getPlayer(playerUUID);
             if (player != null) {
@@ -85,6 +91,24 @@ public class PlayerSettings {
         }
     }
 
+    /**
+     * Marks these settings as detached: the saved settings of the player could not be loaded,
+     * so these ones are never saved and the policies are refused.
+     */
+    void detach() {
+        detached = true;
+    }
+
+    /**
+     * Applies a value read from the database, without saving it again.
+     *
+     * @param settingType the type of setting to set
+     * @param value       the value read from the database
+     */
+    void loadSetting(SettingType settingType, Object value) {
+        if (settingType.isValidValue(value)) settings.put(settingType, value);
+    }
+
     /**
      * Sets the setting value from a string representation.
      * Parses the string according to the SettingType's expected value type.
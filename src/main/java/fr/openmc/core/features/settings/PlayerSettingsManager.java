@@ -2,6 +2,7 @@ package fr.openmc.core.features.settings;
 
 import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.stmt.DeleteBuilder;
 import com.j256.ormlite.stmt.PreparedQuery;
 import com.j256.ormlite.stmt.QueryBuilder;
 import com.j256.ormlite.support.ConnectionSource;
@@ -11,32 +12,49 @@ import fr.openmc.core.bootstrap.features.annotations.Credit;
 import fr.openmc.core.bootstrap.features.types.HasCommands;
 import fr.openmc.core.bootstrap.features.types.HasDatabase;
 import fr.openmc.core.bootstrap.features.types.HasListeners;
+import fr.openmc.core.bootstrap.features.types.HasPlayerData;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
 import fr.openmc.core.bootstrap.integration.OMCLogger;
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader.Session;
 import fr.openmc.core.bootstrap.listeners.ListenerFactory;
 import fr.openmc.core.features.settings.command.SettingsCommand;
 import fr.openmc.core.features.settings.listeners.PlayerSettingsListener;
 import fr.openmc.core.features.settings.models.PlayerSettingEntity;
 import lombok.Getter;
+import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.sql.SQLException;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Credit(developers = {"Axeno"}, graphist = {"Gexary"})
 @Getter
-public class PlayerSettingsManager extends Feature implements HasDatabase, HasListeners, HasCommands {
+public class PlayerSettingsManager extends Feature implements HasDatabase, HasListeners, HasCommands, HasPlayerData {
+
+    private static final int OFFLINE_CACHE_SIZE = 1024;
 
     private static final Map<UUID, PlayerSettings> playersSettings = new ConcurrentHashMap<>();
+    /**
+     * Settings des joueurs hors ligne, les moins récemment utilisés sont retirés au-delà de {@link #OFFLINE_CACHE_SIZE}.
+     */
+    private static final Map<UUID, CompletableFuture<PlayerSettings>> offlineSettings = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CompletableFuture<PlayerSettings>> eldest) {
+            return size() > OFFLINE_CACHE_SIZE;
+        }
+    };
     private static Dao<PlayerSettingEntity, Long> playerSettingDao;
 
     @Override
     public void init() {
-        PlayerSettingsManager.loadAllPlayerSettings();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            PlayerSettingsManager.loadPlayerSettings(player.getUniqueId());
+        }
     }
 
     @Override
@@ -51,9 +69,19 @@ public class PlayerSettingsManager extends Feature implements HasDatabase, HasLi
         return Set.of(PlayerSettingsListener::new);
     }
 
+    @Override
+    public void loadPlayerData(UUID playerUUID, Session session) throws SQLException {
+        PlayerSettingsManager.preloadPlayerSettings(playerUUID, session);
+    }
+
+    @Override
+    public void unloadPlayerData(UUID playerUUID) {
+        PlayerSettingsManager.unloadPlayerSettings(playerUUID);
+    }
+
     @Override
     public void save() {
-        PlayerSettingsManager.saveAllSettings();
+        // chaque changement est déjà dans la file d'écriture de la base de données
     }
 
     /**
@@ -77,22 +105,29 @@ public class PlayerSettingsManager extends Feature implements HasDatabase, HasLi
 
     /**
      * Retrieves the PlayerSettings for a given player UUID.
-     * If the settings do not exist in memory, it creates a new instance and loads from database.
+     * <p>
+     * Online players are preloaded when they log in. For an offline player that is not cached yet,
+     * the settings are loaded synchronously: use {@link #prefetch(UUID)} beforehand to avoid waiting.
+     * If they cannot be loaded, detached default settings are returned, which are never saved.
      *
      * @param playerUUID the UUID of the player
      * @return PlayerSettings instance for the player
      */
     public static PlayerSettings getPlayerSettings(UUID playerUUID) {
-        return playersSettings.computeIfAbsent(playerUUID, uuid -> {
-            PlayerSettings settings = new PlayerSettings(uuid);
-            loadPlayerSettingsFromDatabase(uuid, settings);
-            return settings;
-        });
+        PlayerSettings settings = playersSettings.get(playerUUID);
+        if (settings != null) return settings;
+
+        try {
+            return getPlayerSettingsAsync(playerUUID).join();
+        } catch (CompletionException e) {
+            PlayerSettings defaults = new PlayerSettings(playerUUID);
+            defaults.detach();
+            return defaults;
+        }
     }
 
     /**
      * Retrieves the PlayerSettings for a given player.
-     * If the settings do not exist in memory, it creates a new instance and loads from database.
      *
      * @param player the player
      * @return PlayerSettings instance for the player
@@ -102,148 +137,159 @@ public class PlayerSettingsManager extends Feature implements HasDatabase, HasLi
     }
 
     /**
-     * Loads the PlayerSettings for a given player UUID from the database.
-     * This method runs asynchronously to avoid blocking the main thread.
+     * Retrieves the PlayerSettings for a given player UUID, loading them asynchronously if needed.
      *
      * @param playerUUID the UUID of the player
+     * @return a future completed with the settings of the player
      */
-    public static void loadPlayerSettings(UUID playerUUID) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                PlayerSettings settings = playersSettings.computeIfAbsent(playerUUID, PlayerSettings::new);
-                loadPlayerSettingsFromDatabase(playerUUID, settings);
-            } catch (Exception e) {
-                OMCLogger.error("Failed to load player settings for UUID: {}", playerUUID, e);
-            }
-        });
+    public static CompletableFuture<PlayerSettings> getPlayerSettingsAsync(UUID playerUUID) {
+        PlayerSettings settings = playersSettings.get(playerUUID);
+        if (settings != null) return CompletableFuture.completedFuture(settings);
+
+        synchronized (offlineSettings) {
+            CompletableFuture<PlayerSettings> cached = offlineSettings.get(playerUUID);
+            if (cached != null) return cached;
+
+            CompletableFuture<PlayerSettings> loading = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loadPlayerSettingsFromDatabase(playerUUID);
+                } catch (SQLException e) {
+                    throw new CompletionException(e);
+                }
+            });
+            offlineSettings.put(playerUUID, loading);
+
+            // un chargement en échec n'est pas gardé, le prochain accès réessaie
+            loading.whenComplete((settings, e) -> {
+                if (e == null) return;
+                OMCLogger.error("Failed to load settings from database for player {}", playerUUID, e);
+                synchronized (offlineSettings) {
+                    offlineSettings.remove(playerUUID, loading);
+                }
+            });
+            return loading;
+        }
     }
 
     /**
-     * Loads all player settings from the database and populates the playersSettings map.
-     * This method runs asynchronously to avoid blocking the main thread.
+     * Starts loading the settings of a player, so that a later {@link #getPlayerSettings(UUID)} finds them.
+     *
+     * @param playerUUID the UUID of the player
      */
-    public static void loadAllPlayerSettings() {
-        CompletableFuture.runAsync(() -> {
-            try {
-                List<PlayerSettingEntity> entities = playerSettingDao.queryForAll();
-                for (PlayerSettingEntity entity : entities) {
-                    UUID playerUUID = UUID.fromString(entity.getPlayerUUID());
-                    PlayerSettings settings = playersSettings.computeIfAbsent(playerUUID, PlayerSettings::new);
-                    try {
-                        SettingType settingType = entity.getSettingTypeAsEnum();
-                        Object value = settingType.parseValue(entity.getSettingValue());
-                        settings.setSetting(settingType, value);
-                    } catch (Exception e) {
-                        OMCLogger.warn("Failed to parse setting {} for player {}", entity.getSettingType(), playerUUID, e);
-                    }
-                }
-            } catch (SQLException e) {
-                OMCLogger.error("Failed to load all player settings from database", e);
-            }
-        });
+    public static void prefetch(UUID playerUUID) {
+        getPlayerSettingsAsync(playerUUID);
     }
 
     /**
-     * Loads player settings from the database and applies them to the PlayerSettings instance.
+     * Loads the settings of a player who is logging in.
+     * Called from {@link org.bukkit.event.player.AsyncPlayerPreLoginEvent} by the player data loader, so it can block.
      *
      * @param playerUUID the UUID of the player
-     * @param settings   the PlayerSettings instance to load data into
+     * @param session    the login the settings are loaded for, they are dropped if the player already left
+     * @throws SQLException if the settings cannot be loaded, they are then loaded when the player joins
      */
-    public static void loadPlayerSettingsFromDatabase(UUID playerUUID, PlayerSettings settings) {
-        if (playerSettingDao == null) {
-            OMCLogger.warn("Player settings DAO is not initialized", new Exception());
-            return;
+    public static void preloadPlayerSettings(UUID playerUUID, Session session) throws SQLException {
+        if (playersSettings.containsKey(playerUUID)) return;
+
+        CompletableFuture<PlayerSettings> cached;
+        synchronized (offlineSettings) {
+            cached = offlineSettings.remove(playerUUID);
         }
 
-        try {
-            QueryBuilder<PlayerSettingEntity, Long> queryBuilder = playerSettingDao.queryBuilder();
-            queryBuilder.where().eq("playerUUID", playerUUID.toString());
-            PreparedQuery<PlayerSettingEntity> preparedQuery = queryBuilder.prepare();
-            List<PlayerSettingEntity> entities = playerSettingDao.query(preparedQuery);
+        PlayerSettings settings = cached != null ? cached.join() : loadPlayerSettingsFromDatabase(playerUUID);
+        session.apply(() -> playersSettings.putIfAbsent(playerUUID, settings));
+    }
 
-            for (PlayerSettingEntity entity : entities) {
-                try {
-                    SettingType settingType = entity.getSettingTypeAsEnum();
-                    Object value = settingType.parseValue(entity.getSettingValue());
-                    settings.setSetting(settingType, value);
-                } catch (Exception e) {
-                    OMCLogger.warn("Failed to parse setting {} for player {}", entity.getSettingType(), playerUUID, e);
-                }
+    /**
+     * Loads the settings of a player who joined without being preloaded (plugin reload, failed preload...).
+     *
+     * @param playerUUID the UUID of the player
+     */
+    public static void loadPlayerSettings(UUID playerUUID) {
+        if (playersSettings.containsKey(playerUUID)) return;
+
+        getPlayerSettingsAsync(playerUUID).thenAccept(settings -> {
+            synchronized (offlineSettings) {
+                offlineSettings.remove(playerUUID);
             }
-        } catch (SQLException e) {
-            OMCLogger.error("Failed to load settings from database for player {}", playerUUID, e);
-        }
+            playersSettings.putIfAbsent(playerUUID, settings);
+        });
     }
 
     /**
-     * Saves a specific setting to the database.
+     * Loads player settings from the database.
      *
-     * @param playerUUID  the UUID of the player
-     * @param settingType the type of setting to save
-     * @param value       the value to save
+     * @param playerUUID the UUID of the player
+     * @return the settings of the player, with the default values for the settings not saved
+     * @throws SQLException if the settings cannot be read
      */
-    public static void saveSetting(UUID playerUUID, SettingType settingType, Object value) {
-        if (playerSettingDao == null) {
-            OMCLogger.warn("Player settings DAO is not initialized", new Exception());
-            return;
-        }
+    public static PlayerSettings loadPlayerSettingsFromDatabase(UUID playerUUID) throws SQLException {
+        if (playerSettingDao == null) throw new SQLException("Player settings DAO is not initialized");
+
+        PlayerSettings settings = new PlayerSettings(playerUUID);
+        QueryBuilder<PlayerSettingEntity, Long> queryBuilder = playerSettingDao.queryBuilder();
+        queryBuilder.where().eq("playerUUID", playerUUID.toString());
+        PreparedQuery<PlayerSettingEntity> preparedQuery = queryBuilder.prepare();
+        List<PlayerSettingEntity> entities = playerSettingDao.query(preparedQuery);
 
-        CompletableFuture.runAsync(() -> {
+        for (PlayerSettingEntity entity : entities) {
             try {
-                QueryBuilder<PlayerSettingEntity, Long> queryBuilder = playerSettingDao.queryBuilder();
-                queryBuilder.where()
-                        .eq("playerUUID", playerUUID.toString())
-                        .and()
-                        .eq("settingType", settingType.name());
-                PreparedQuery<PlayerSettingEntity> preparedQuery = queryBuilder.prepare();
-                PlayerSettingEntity existingEntity = playerSettingDao.queryForFirst(preparedQuery);
-
-                if (existingEntity != null) {
-                    existingEntity.updateValue(value);
-                    playerSettingDao.update(existingEntity);
-                } else {
-                    PlayerSettingEntity newEntity = new PlayerSettingEntity(playerUUID, settingType, value);
-                    playerSettingDao.create(newEntity);
-                }
-            } catch (SQLException e) {
-                OMCLogger.error("Failed to save setting {} for player {}", settingType, playerUUID, e);
+                SettingType settingType = entity.getSettingTypeAsEnum();
+                Object value = settingType.parseValue(entity.getSettingValue());
+                settings.loadSetting(settingType, value);
+            } catch (Exception e) {
+                OMCLogger.warn("Failed to parse setting {} for player {}", entity.getSettingType(), playerUUID, e);
             }
-        });
+        }
+        return settings;
     }
 
     /**
-     * Saves all settings for a player to the database.
+     * Saves all settings of a player in a single mutation of the database write queue.
+     * The changes made shortly after one another are merged into one write.
      *
-     * @param playerUUID the UUID of the player
+     * @param settings the settings to save
      */
-    public static void saveAllPlayerSettings(UUID playerUUID) {
-        PlayerSettings settings = playersSettings.remove(playerUUID);
-        if (settings == null) return;
+    public static void saveSettings(PlayerSettings settings) {
+        if (playerSettingDao == null) {
+            OMCLogger.warn("Player settings DAO is not initialized", new Exception());
+            return;
+        }
+
+        UUID playerUUID = settings.getPlayerUUID();
+        if (settings.isDetached()) {
+            // les settings enregistrés n'ont pas pu être lus, ils seraient écrasés par les valeurs par défaut
+            OMCLogger.warn("Settings of player {} were not loaded, the change is not saved", playerUUID);
+            return;
+        }
 
+        List<PlayerSettingEntity> entities = new ArrayList<>();
         for (SettingType settingType : SettingType.values()) {
-            Object value = settings.getSetting(settingType);
-            saveSetting(playerUUID, settingType, value);
+            entities.add(new PlayerSettingEntity(playerUUID, settingType, settings.getSetting(settingType)));
         }
+
+        DatabaseManager.queue(DatabaseWriteQueue.key("player_settings", playerUUID), MutationType.UPSERT, () -> {
+            DeleteBuilder<PlayerSettingEntity, Long> delete = playerSettingDao.deleteBuilder();
+            delete.where().eq("playerUUID", playerUUID.toString());
+            delete.delete();
+            for (PlayerSettingEntity entity : entities) {
+                playerSettingDao.create(entity);
+            }
+        });
     }
 
     /**
-     * Unloads the PlayerSettings for a given player UUID and saves them to the database.
+     * Unloads the PlayerSettings for a given player UUID.
+     * They stay in the offline cache, and were already saved when they changed.
      *
      * @param playerUUID the UUID of the player
      */
     public static void unloadPlayerSettings(UUID playerUUID) {
-        PlayerSettings settings = playersSettings.get(playerUUID);
-        if (settings != null)
-            saveAllPlayerSettings(playerUUID);
-    }
+        PlayerSettings settings = playersSettings.remove(playerUUID);
+        if (settings == null) return;
 
-    /**
-     * Saves all player settings to the database.
-     * This method should be called during server shutdown.
-     */
-    public static void saveAllSettings() {
-        for (UUID playerUUID : playersSettings.keySet()) {
-            saveAllPlayerSettings(playerUUID);
+        synchronized (offlineSettings) {
+            offlineSettings.put(playerUUID, CompletableFuture.completedFuture(settings));
         }
     }
 
@@ -255,8 +301,7 @@ public class PlayerSettingsManager extends Feature implements HasDatabase, HasLi
      * @return true if the receiver can receive the request, false otherwise
      */
     public static boolean canReceiveFriendRequest(UUID receiverUUID, UUID senderUUID) {
-        PlayerSettings settings = getPlayerSettings(receiverUUID);
-        return settings.canPerformAction(SettingType.FRIEND_REQUESTS_POLICY, senderUUID);
+        return canPerformAction(receiverUUID, SettingType.FRIEND_REQUESTS_POLICY, senderUUID);
     }
 
     /**
@@ -278,7 +323,20 @@ public class PlayerSettingsManager extends Feature implements HasDatabase, HasLi
      * @return true if the receiver can receive the city invite, false otherwise
      */
     public static boolean canReceiveCityInvite(UUID senderUUID, UUID receiverUUID) {
-        PlayerSettings settings = getPlayerSettings(receiverUUID);
-        return settings.canPerformAction(SettingType.CITY_JOIN_REQUESTS_POLICY, senderUUID);
+        return canPerformAction(receiverUUID, SettingType.CITY_JOIN_REQUESTS_POLICY, senderUUID);
+    }
+
+    /**
+     * Checks a policy setting of a player, loading the settings synchronously if needed.
+     * The action is refused when the settings of the player cannot be loaded.
+     *
+     * @param playerUUID  the UUID of the player whose policy is checked
+     * @param settingType the policy setting
+     * @param targetUUID  the UUID of the player performing the action
+     * @return true if the action is allowed, false otherwise
+     */
+    public static boolean canPerformAction(UUID playerUUID, SettingType settingType, UUID targetUUID) {
+        PlayerSettings settings = getPlayerSettings(playerUUID);
+        return !settings.isDetached() && settings.canPerformAction(settingType, targetUUID);
     }
 }
\ No newline at end of file
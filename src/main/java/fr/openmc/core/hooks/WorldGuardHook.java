@@ -1,19 +1,10 @@
 package fr.openmc.core.hooks;
 
-import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldedit.math.BlockVector3;
-import com.sk89q.worldedit.world.World;
-import com.sk89q.worldguard.WorldGuard;
-import com.sk89q.worldguard.protection.managers.RegionManager;
-import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
-import com.sk89q.worldguard.protection.regions.RegionContainer;
 import fr.openmc.core.bootstrap.hooks.Hooks;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
-
-import java.util.Collection;
-import java.util.Collections;
+import org.bukkit.World;
 
 public class WorldGuardHook extends Hooks {
     public static boolean isEnable() {
@@ -25,20 +16,20 @@ public class WorldGuardHook extends Hooks {
         return "WorldGuard";
     }
 
-    public static boolean isRegionConflict(Location location) {
-        if (!isEnable()) return false;
-
-        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
-        World world = WorldGuard.getInstance().getPlatform().getMatcher().getWorldByName(location.getWorld().getName());
-        RegionManager regions = container.get(world);
+    @Override
+    protected void init() {
+        WorldGuardRegionIndex.init();
+    }
 
-        if(regions == null) return false;
+    @Override
+    protected void save() {
+        WorldGuardRegionIndex.shutdown();
+    }
 
-        for(ProtectedRegion region : regions.getRegions().values()) {
-            if(isInside(region, location)) return true;
-        }
+    public static boolean isRegionConflict(Location location) {
+        if (!isEnable()) return false;
 
-        return false;
+        return WorldGuardRegionIndex.isInRegion(location);
     }
 
     /**
@@ -49,32 +40,15 @@ public class WorldGuardHook extends Hooks {
     }
 
     public static boolean doesChunkContainWGRegion(Chunk chunk) {
-        if (!isEnable()) return false;
-
-        org.bukkit.World world = chunk.getWorld();
-        int minX = chunk.getX() << 4;
-        int minZ = chunk.getZ() << 4;
-        int maxX = minX + 15;
-        int maxZ = minZ + 15;
-        int minY = world.getMinHeight();
-        int maxY = world.getMaxHeight();
-
-        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
-        RegionManager regions = container.get(BukkitAdapter.adapt(world));
-        if (regions == null) return false;
-
-        Collection<ProtectedRegion> chunkRegion = Collections.singleton(new ProtectedCuboidRegion(
-                "__temp_check__",
-                BlockVector3.at(minX, minY, minZ),
-                BlockVector3.at(maxX, maxY, maxZ)
-        ));
+        return doesChunkContainWGRegion(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
 
-        for (ProtectedRegion region : regions.getRegions().values()) {
-            if (!region.getIntersectingRegions(chunkRegion).isEmpty() || region.getIntersectingRegions(chunkRegion).contains(region)) {
-                return true;
-            }
-        }
+    /**
+     * Retourne si une région touche le chunk, sans avoir besoin de le charger
+     */
+    public static boolean doesChunkContainWGRegion(World world, int chunkX, int chunkZ) {
+        if (!isEnable()) return false;
 
-        return false;
+        return WorldGuardRegionIndex.getRegionsInChunk(world, chunkX, chunkZ).length > 0;
     }
 }
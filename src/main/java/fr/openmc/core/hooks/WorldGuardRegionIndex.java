@@ -0,0 +1,209 @@
+package fr.openmc.core.hooks;
+
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.WorldGuard;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.sk89q.worldguard.protection.regions.RegionType;
+import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.utils.world.chunk.ChunkIndex;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index spatial des régions WorldGuard : chunk -> régions qui touchent ce chunk.
+ * <p>
+ * WorldGuard ne prévient pas quand une région change : l'index est resynchronisé toutes les
+ * 5 secondes, et seules les régions ajoutées, supprimées ou redimensionnées sont recalculées.
+ * Savoir si un chunk contient une région est alors une simple lecture, et savoir si une position
+ * est dans une région ne teste que les régions de son chunk.
+ * <p>
+ * Chaque synchronisation publie une nouvelle table : les lectures se font sans verrou,
+ * y compris depuis un thread async.
+ */
+public class WorldGuardRegionIndex {
+    private static final long SYNC_INTERVAL_TICKS = 100L;
+    private static final ProtectedRegion[] NONE = new ProtectedRegion[0];
+
+    private record IndexedRegion(ProtectedRegion region, List<BlockVector2> points, int minY, int maxY, long[] chunks) {}
+
+    private static final class WorldIndex {
+        private final Map<String, IndexedRegion> regions = new HashMap<>();
+        private volatile Long2ObjectMap<ProtectedRegion[]> chunks = new Long2ObjectOpenHashMap<>();
+    }
+
+    private static final Map<String, WorldIndex> worlds = new ConcurrentHashMap<>();
+    private static BukkitTask syncTask;
+
+    /**
+     * Indexe les régions de tous les mondes et lance la resynchronisation périodique.
+     */
+    public static void init() {
+        worlds.clear();
+        syncAll();
+
+        if (syncTask != null) syncTask.cancel();
+        syncTask = Bukkit.getScheduler().runTaskTimer(OMCPlugin.getInstance(),
+                WorldGuardRegionIndex::syncAll, SYNC_INTERVAL_TICKS, SYNC_INTERVAL_TICKS);
+    }
+
+    /**
+     * Arrête la resynchronisation et vide l'index.
+     */
+    public static void shutdown() {
+        if (syncTask != null) {
+            syncTask.cancel();
+            syncTask = null;
+        }
+        worlds.clear();
+    }
+
+    private static void syncAll() {
+        for (World world : Bukkit.getWorlds()) {
+            sync(world);
+        }
+    }
+
+    /**
+     * Met à jour l'index d'un monde avec les régions qui ont changé depuis la dernière synchronisation.
+     *
+     * @param world Le monde
+     */
+    public static void sync(World world) {
+        RegionManager manager = WorldGuard.getInstance().getPlatform().getRegionContainer().get(BukkitAdapter.adapt(world));
+        Map<String, ProtectedRegion> current = manager == null ? Map.of() : manager.getRegions();
+        WorldIndex index = worlds.computeIfAbsent(world.getName(), name -> new WorldIndex());
+
+        List<IndexedRegion> removed = new ArrayList<>();
+        for (IndexedRegion indexed : index.regions.values()) {
+            if (!isUpToDate(indexed, current.get(indexed.region().getId()))) removed.add(indexed);
+        }
+        for (IndexedRegion indexed : removed) {
+            index.regions.remove(indexed.region().getId());
+        }
+
+        List<ProtectedRegion> added = new ArrayList<>();
+        for (ProtectedRegion region : current.values()) {
+            if (region.getType() == RegionType.GLOBAL) continue;
+            if (!index.regions.containsKey(region.getId())) added.add(region);
+        }
+
+        if (removed.isEmpty() && added.isEmpty()) return;
+
+        Long2ObjectMap<ProtectedRegion[]> chunks = new Long2ObjectOpenHashMap<>(index.chunks);
+        for (IndexedRegion indexed : removed) {
+            for (long key : indexed.chunks()) {
+                ProtectedRegion[] regions = without(chunks.get(key), indexed.region());
+                if (regions.length == 0) chunks.remove(key);
+                else chunks.put(key, regions);
+            }
+        }
+        for (ProtectedRegion region : added) {
+            IndexedRegion indexed = indexRegion(region);
+            index.regions.put(region.getId(), indexed);
+            for (long key : indexed.chunks()) {
+                chunks.put(key, with(chunks.get(key), region));
+            }
+        }
+        index.chunks = chunks;
+    }
+
+    private static boolean isUpToDate(IndexedRegion indexed, ProtectedRegion region) {
+        return region == indexed.region()
+                && region.getMinimumPoint().y() == indexed.minY()
+                && region.getMaximumPoint().y() == indexed.maxY()
+                && region.getPoints().equals(indexed.points());
+    }
+
+    private static IndexedRegion indexRegion(ProtectedRegion region) {
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+        boolean cuboid = region.getType() == RegionType.CUBOID;
+
+        LongArrayList keys = new LongArrayList();
+        for (int chunkX = min.x() >> 4; chunkX <= max.x() >> 4; chunkX++) {
+            for (int chunkZ = min.z() >> 4; chunkZ <= max.z() >> 4; chunkZ++) {
+                if (cuboid || intersectsChunk(region, chunkX, chunkZ, min.y(), max.y())) {
+                    keys.add(ChunkIndex.key(chunkX, chunkZ));
+                }
+            }
+        }
+
+        return new IndexedRegion(region, region.getPoints(), min.y(), max.y(), keys.toLongArray());
+    }
+
+    private static boolean intersectsChunk(ProtectedRegion region, int chunkX, int chunkZ, int minY, int maxY) {
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        ProtectedRegion chunkRegion = new ProtectedCuboidRegion(
+                "__temp_check__",
+                BlockVector3.at(minX, minY, minZ),
+                BlockVector3.at(minX + 15, maxY, minZ + 15)
+        );
+        return !region.getIntersectingRegions(Collections.singleton(chunkRegion)).isEmpty();
+    }
+
+    private static ProtectedRegion[] with(ProtectedRegion[] regions, ProtectedRegion region) {
+        if (regions == null) return new ProtectedRegion[]{region};
+
+        ProtectedRegion[] copy = Arrays.copyOf(regions, regions.length + 1);
+        copy[regions.length] = region;
+        return copy;
+    }
+
+    private static ProtectedRegion[] without(ProtectedRegion[] regions, ProtectedRegion region) {
+        if (regions == null) return NONE;
+
+        int count = 0;
+        ProtectedRegion[] copy = new ProtectedRegion[regions.length];
+        for (ProtectedRegion other : regions) {
+            if (other != region) copy[count++] = other;
+        }
+        return Arrays.copyOf(copy, count);
+    }
+
+    /**
+     * @param world  Le monde
+     * @param chunkX La coordonnée x du chunk
+     * @param chunkZ La coordonnée z du chunk
+     * @return Les régions qui touchent le chunk (sur toute sa hauteur)
+     */
+    public static ProtectedRegion[] getRegionsInChunk(World world, int chunkX, int chunkZ) {
+        WorldIndex index = worlds.get(world.getName());
+        if (index == null) {
+            if (!Bukkit.isPrimaryThread()) return NONE;
+
+            sync(world);
+            index = worlds.get(world.getName());
+        }
+
+        ProtectedRegion[] regions = index.chunks.get(ChunkIndex.key(chunkX, chunkZ));
+        return regions == null ? NONE : regions;
+    }
+
+    /**
+     * @param location La position
+     * @return true si la position est dans au moins une région
+     */
+    public static boolean isInRegion(Location location) {
+        int x = location.getBlockX();
+        int y = location.getBlockY();
+        int z = location.getBlockZ();
+
+        for (ProtectedRegion region : getRegionsInChunk(location.getWorld(), x >> 4, z >> 4)) {
+            if (region.contains(x, y, z)) return true;
+        }
+        return false;
+    }
+}
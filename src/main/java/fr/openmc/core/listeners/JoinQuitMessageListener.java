@@ -6,6 +6,7 @@ import fr.openmc.core.commands.utils.SpawnManager;
 import fr.openmc.core.features.displays.TabList;
 import fr.openmc.core.features.economy.EconomyManager;
 import fr.openmc.core.features.friend.FriendManager;
+import fr.openmc.core.features.quests.QuestProgressSaveManager;
 import fr.openmc.core.features.quests.QuestsManager;
 import fr.openmc.core.features.quests.objects.Quest;
 import fr.openmc.core.features.tpa.TPAManager;
@@ -61,28 +62,30 @@ public class JoinQuitMessageListener implements Listener {
             return null;
         });
 
-        // Quest pending reward notification
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> {
+        // Quest pending reward notification, once the quest progress is loaded
+        QuestProgressSaveManager.load(player.getUniqueId()).thenAccept(progress -> {
+            if (!player.isOnline()) return;
+
             for (Quest quest : QuestsManager.getAllQuests()) {
                 if (!quest.hasPendingRewards(player.getUniqueId()))
                     continue;
 
                 int pendingRewardsNumber = quest.getPendingRewardTiers(player.getUniqueId()).size();
-                Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), () -> {
-                    MessagesManager.sendMessage(player,
-                            TranslationManager.translation("core.player.join.quest_reward", Component.text(pendingRewardsNumber))
-                                    .append(Component.text(" "))
-                                    .append(TranslationManager.translation("core.player.join.quest_reward_click"))
-                                    .clickEvent(ClickEvent.runCommand("/quest")),
-                            Prefix.QUEST,
-                            MessageType.INFO,
-                            true);
-                });
+                MessagesManager.sendMessage(player,
+                        TranslationManager.translation("core.player.join.quest_reward", Component.text(pendingRewardsNumber))
+                                .append(Component.text(" "))
+                                .append(TranslationManager.translation("core.player.join.quest_reward_click"))
+                                .clickEvent(ClickEvent.runCommand("/quest")),
+                        Prefix.QUEST,
+                        MessageType.INFO,
+                        true);
             }
-
-            GitHubHook.refreshContributorId(player.getUniqueId());
         });
 
+        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () ->
+                GitHubHook.refreshContributorId(player.getUniqueId())
+        );
+
         if (!player.hasMetadata(OMCPlugin.VANISH_META_KEY))
             event.joinMessage(Component.text(JOIN_MESSAGE.formatted(LuckPermsHook.getFormattedPAPIPrefix(player), player.getName())));
 
@@ -109,8 +112,6 @@ public class JoinQuitMessageListener implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         final Player player = event.getPlayer();
 
-        Bukkit.getScheduler().runTaskAsynchronously(OMCPlugin.getInstance(), () -> QuestsManager.saveQuests(player.getUniqueId()));
-
         FriendManager.getFriendsAsync(player.getUniqueId()).thenAccept(friendsUUIDS -> {
             for (UUID friendUUID : friendsUUIDS) {
                 final Player friend = player.getServer().getPlayer(friendUUID);
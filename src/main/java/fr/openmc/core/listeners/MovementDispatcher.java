@@ -0,0 +1,158 @@
+package fr.openmc.core.listeners;
+
+import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.events.PlayerBiomeChangeEvent;
+import fr.openmc.core.events.PlayerBlockChangeEvent;
+import fr.openmc.core.events.PlayerCityChangeEvent;
+import fr.openmc.core.features.city.City;
+import fr.openmc.core.features.city.CityManager;
+import fr.openmc.core.hooks.WorldGuardHook;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.*;
+import org.bukkit.plugin.PluginManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Seul listener du plugin qui traite les {@link PlayerMoveEvent} pour les changements de position.
+ * <p>
+ * Les déplacements qui restent dans le même bloc (rotation de la tête, petits pas) sont ignorés tout de suite.
+ * Sinon, la position de chaque joueur est comparée une seule fois à son dernier état connu, et seuls les
+ * changements réels sont publiés : {@link PlayerBlockChangeEvent}, {@link PlayerBiomeChangeEvent},
+ * {@link fr.openmc.core.events.RegionEnterEvent}/{@link fr.openmc.core.events.RegionLeaveEvent} et
+ * {@link PlayerCityChangeEvent}. Les listeners écoutent la granularité dont ils ont besoin au lieu de
+ * refaire leurs propres comparaisons.
+ * <p>
+ * Le biome et les régions WorldGuard ne sont relus que si le joueur change de cellule (4x4x4 blocs), et
+ * la ville que s'il change de chunk ou qu'un claim change (voir {@link #refreshCities()}).
+ */
+public class MovementDispatcher implements Listener {
+
+    private static final class MovementState {
+        private World world;
+        private Location location;
+        private int blockX;
+        private int blockY;
+        private int blockZ;
+        private Biome biome;
+        private City city;
+    }
+
+    private static final Map<UUID, MovementState> states = new HashMap<>();
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        handleTransition(event.getPlayer(), event.getPlayer().getLocation(), null);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        if (!event.hasChangedBlock()) return;
+
+        handleTransition(event.getPlayer(), event.getTo(), PlayerBlockChangeEvent.Cause.MOVE);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        handleTransition(event.getPlayer(), event.getTo(), PlayerBlockChangeEvent.Cause.TELEPORT);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        handleTransition(event.getPlayer(), event.getRespawnLocation(), PlayerBlockChangeEvent.Cause.RESPAWN);
+    }
+
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        states.remove(event.getPlayer().getUniqueId());
+        if (WorldGuardHook.isEnable()) RegionTracker.forget(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Relit la ville de chaque joueur connecté, après un claim, un unclaim ou la suppression d'une ville,
+     * pour que les joueurs immobiles reçoivent aussi leur {@link PlayerCityChangeEvent}.
+     */
+    public static void refreshCities() {
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(OMCPlugin.getInstance(), MovementDispatcher::refreshCities);
+            return;
+        }
+
+        for (Map.Entry<UUID, MovementState> entry : states.entrySet()) {
+            MovementState state = entry.getValue();
+            City city = CityManager.getCityFromChunk(state.blockX >> 4, state.blockZ >> 4);
+            if (city == state.city) continue;
+
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null) continue;
+
+            City fromCity = state.city;
+            state.city = city;
+            Bukkit.getPluginManager().callEvent(new PlayerCityChangeEvent(player, fromCity, city));
+        }
+    }
+
+    /**
+     * @param cause Origine du changement, null à la connexion (aucun {@link PlayerBlockChangeEvent} n'est publié)
+     */
+    private static void handleTransition(Player player, Location to, PlayerBlockChangeEvent.Cause cause) {
+        World world = to.getWorld();
+        if (world == null) return;
+
+        int x = to.getBlockX();
+        int y = to.getBlockY();
+        int z = to.getBlockZ();
+
+        MovementState state = states.get(player.getUniqueId());
+        boolean joined = state == null;
+        if (joined) {
+            state = new MovementState();
+            states.put(player.getUniqueId(), state);
+        } else if (state.world == world && state.blockX == x && state.blockY == y && state.blockZ == z) {
+            return;
+        }
+
+        boolean worldChanged = state.world != world;
+        boolean chunkChanged = worldChanged || (state.blockX >> 4) != (x >> 4) || (state.blockZ >> 4) != (z >> 4);
+        boolean cellChanged = worldChanged || (state.blockX >> 2) != (x >> 2)
+                || (state.blockY >> 2) != (y >> 2) || (state.blockZ >> 2) != (z >> 2);
+
+        Location from = state.location;
+        Biome fromBiome = state.biome;
+        City fromCity = state.city;
+
+        state.world = world;
+        state.location = to.clone();
+        state.blockX = x;
+        state.blockY = y;
+        state.blockZ = z;
+        if (cellChanged) state.biome = world.getBiome(x, y, z);
+        if (chunkChanged) state.city = CityManager.getCityFromChunk(x >> 4, z >> 4);
+
+        PluginManager pluginManager = Bukkit.getPluginManager();
+        if (!joined) {
+            pluginManager.callEvent(new PlayerBlockChangeEvent(player, from, state.location, state.biome, cause));
+        }
+
+        if (state.biome != fromBiome) {
+            pluginManager.callEvent(new PlayerBiomeChangeEvent(player, world, fromBiome, state.biome));
+        }
+
+        if (cellChanged && WorldGuardHook.isEnable()) {
+            RegionTracker.update(player, state.location);
+        }
+
+        if (state.city != fromCity) {
+            pluginManager.callEvent(new PlayerCityChangeEvent(player, fromCity, state.city));
+        }
+    }
+}
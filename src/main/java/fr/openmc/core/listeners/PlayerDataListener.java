@@ -0,0 +1,21 @@
+package fr.openmc.core.listeners;
+
+import fr.openmc.core.bootstrap.integration.PlayerDataLoader;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlayerDataListener implements Listener {
+    @EventHandler(priority = EventPriority.MONITOR)
+    void onPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+        PlayerDataLoader.load(event.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    void onPlayerQuit(PlayerQuitEvent event) {
+        PlayerDataLoader.unload(event.getPlayer().getUniqueId());
+    }
+}
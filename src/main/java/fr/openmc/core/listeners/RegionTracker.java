@@ -6,49 +6,26 @@ import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
 import com.sk89q.worldguard.protection.regions.RegionQuery;
-import fr.openmc.core.bootstrap.features.types.NotLoadInUnitTest;
 import fr.openmc.core.events.RegionEnterEvent;
 import fr.openmc.core.events.RegionLeaveEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.Listener;
-import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.event.player.PlayerTeleportEvent;
 
 import java.util.*;
 
-public class RegionTrackingListener implements Listener, NotLoadInUnitTest {
-    private final Map<UUID, Set<ProtectedRegion>> playerRegions = new HashMap<>();
+/**
+ * Régions WorldGuard où se trouve chaque joueur, mises à jour par le {@link MovementDispatcher}.
+ * <p>
+ * Séparé du dispatcher pour que ses classes WorldGuard ne soient chargées que si le hook est actif.
+ */
+final class RegionTracker {
+    private static final Map<UUID, Set<ProtectedRegion>> playerRegions = new HashMap<>();
 
-    @EventHandler(ignoreCancelled = true)
-    public void onMove(PlayerMoveEvent event) {
-        Location from = event.getFrom();
-        Location to = event.getTo();
-
-        if ((from.getBlockX() >> 2) == (to.getBlockX() >> 2)
-                && (from.getBlockY() >> 2) == (to.getBlockY() >> 2)
-                && (from.getBlockZ() >> 2) == (to.getBlockZ() >> 2))
-            return;
-
-        handleTransition(event.getPlayer(), event.getTo());
+    private RegionTracker() {
     }
 
-    @EventHandler(ignoreCancelled = true)
-    public void onTeleport(PlayerTeleportEvent event) {
-        handleTransition(event.getPlayer(), event.getTo());
-    }
-
-    @EventHandler
-    public void onQuit(PlayerQuitEvent event) {
-        playerRegions.remove(event.getPlayer().getUniqueId());
-    }
-
-    private void handleTransition(Player player, Location to) {
-        if (to == null || to.getWorld() == null) return;
-
+    static void update(Player player, Location to) {
         Set<ProtectedRegion> newRegions = getRegionsAt(to);
         Set<ProtectedRegion> oldRegions = playerRegions.getOrDefault(player.getUniqueId(), Collections.emptySet());
 
@@ -69,7 +46,11 @@ public class RegionTrackingListener implements Listener, NotLoadInUnitTest {
         playerRegions.put(player.getUniqueId(), newRegions);
     }
 
-    private Set<ProtectedRegion> getRegionsAt(Location location) {
+    static void forget(UUID playerUUID) {
+        playerRegions.remove(playerUUID);
+    }
+
+    private static Set<ProtectedRegion> getRegionsAt(Location location) {
         RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
         RegionQuery query = container.createQuery();
         ApplicableRegionSet applicable = query.getApplicableRegions(BukkitAdapter.adapt(location));
@@ -0,0 +1,46 @@
+package fr.openmc.core.utils.cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache dont chaque valeur est gardée tant que la version de sa clé ne change pas.
+ * <p>
+ * La version est un objet léger décrivant les données utilisées pour calculer la valeur
+ * (un record par exemple) : si elle est égale à celle de la valeur en cache, la valeur est réutilisée.
+ */
+public class VersionedCache<K, V> {
+    private record Entry<V>(V value, Object version) {
+    }
+
+    private final Map<K, Entry<V>> cache = new ConcurrentHashMap<>();
+
+    public V getOrCompute(K key, Object version, Function<K, V> loader) {
+        Entry<V> entry = cache.get(key);
+        if (entry != null && Objects.equals(entry.version(), version)) return entry.value();
+
+        V computed = loader.apply(key);
+        cache.put(key, new Entry<>(computed, version));
+        return computed;
+    }
+
+    public void invalidate(K key) {
+        cache.remove(key);
+    }
+
+    /**
+     * Retire les valeurs dont la clé n'est plus dans les clés données (une ville supprimée par exemple).
+     *
+     * @param keys Les clés encore utilisées
+     */
+    public void retainKeys(Set<K> keys) {
+        cache.keySet().retainAll(keys);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,218 @@
+package fr.openmc.core.utils.types;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Classement trié par score décroissant, mis à jour au fil de l'eau.
+ * <p>
+ * Arbre d'ordre statistique (treap) : mise à jour d'un score, rang d'une clé et accès par position
+ * en O(log n), lecture du top N en O(log n + N), sans jamais retrier tout le classement.
+ * A score égal, la clé indexée en premier est devant. Thread-safe.
+ *
+ * @param <K> la clé classée (UUID d'un joueur, d'une ville...)
+ */
+public class RankedIndex<K> {
+
+    /**
+     * Une ligne du classement.
+     */
+    public record Entry<K>(K key, double score) {}
+
+    private static final class Node<K> {
+        private final K key;
+        private final double score;
+        private final long sequence;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<K> left;
+        private Node<K> right;
+
+        private Node(K key, double score, long sequence) {
+            this.key = key;
+            this.score = score;
+            this.sequence = sequence;
+        }
+    }
+
+    private final Map<K, Node<K>> nodes = new HashMap<>();
+    private Node<K> root;
+    private long nextSequence;
+
+    /**
+     * Ajoute une clé ou met à jour son score.
+     *
+     * @param key   La clé
+     * @param score Le nouveau score
+     */
+    public synchronized void update(K key, double score) {
+        Node<K> previous = nodes.get(key);
+        if (previous != null) {
+            if (previous.score == score) return;
+            root = erase(root, previous);
+        }
+
+        Node<K> node = new Node<>(key, score, previous == null ? nextSequence++ : previous.sequence);
+        nodes.put(key, node);
+
+        Node<K>[] parts = split(root, node);
+        root = merge(merge(parts[0], node), parts[1]);
+    }
+
+    /**
+     * Retire une clé du classement.
+     *
+     * @param key La clé
+     */
+    public synchronized void remove(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node != null) root = erase(root, node);
+    }
+
+    /**
+     * Vide le classement.
+     */
+    public synchronized void clear() {
+        nodes.clear();
+        root = null;
+    }
+
+    /**
+     * @return Le nombre de clés classées
+     */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @param key La clé
+     * @return Le rang de la clé (1 pour la première), ou 0 si elle n'est pas classée
+     */
+    public synchronized int rank(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) return 0;
+
+        int rank = 1;
+        Node<K> current = root;
+        while (current != null) {
+            int compare = compare(node, current);
+            if (compare < 0) {
+                current = current.left;
+            } else {
+                rank += size(current.left);
+                if (compare == 0) return rank;
+                rank++;
+                current = current.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param key La clé
+     * @return Le score de la clé, ou 0 si elle n'est pas classée
+     */
+    public synchronized double score(K key) {
+        Node<K> node = nodes.get(key);
+        return node == null ? 0 : node.score;
+    }
+
+    /**
+     * @param limit Nombre de lignes maximum
+     * @return Les premières lignes du classement, dans l'ordre
+     */
+    public List<Entry<K>> top(int limit) {
+        return range(0, limit);
+    }
+
+    /**
+     * Lit une page du classement sans parcourir les lignes précédentes.
+     *
+     * @param offset Position de la première ligne (0 pour la première)
+     * @param limit  Nombre de lignes maximum
+     * @return Les lignes demandées, dans l'ordre
+     */
+    public synchronized List<Entry<K>> range(int offset, int limit) {
+        List<Entry<K>> entries = new ArrayList<>(Math.max(0, Math.min(limit, nodes.size() - offset)));
+        collect(root, offset, offset + limit, 0, entries);
+        return entries;
+    }
+
+    private void collect(Node<K> node, int from, int to, int base, List<Entry<K>> entries) {
+        if (node == null || base >= to) return;
+
+        int index = base + size(node.left);
+        if (from < index) collect(node.left, from, to, base, entries);
+        if (index >= from && index < to) entries.add(new Entry<>(node.key, node.score));
+        if (index + 1 < to) collect(node.right, from, to, index + 1, entries);
+    }
+
+    /**
+     * Ordre du classement : score décroissant, puis ordre d'indexation.
+     */
+    private static int compare(Node<?> a, Node<?> b) {
+        int compare = Double.compare(b.score, a.score);
+        return compare != 0 ? compare : Long.compare(a.sequence, b.sequence);
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void updateSize(Node<?> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    /**
+     * Sépare l'arbre en deux : les noeuds placés avant le pivot, puis les autres.
+     */
+    @SuppressWarnings("unchecked")
+    private Node<K>[] split(Node<K> node, Node<K> pivot) {
+        if (node == null) return new Node[]{null, null};
+
+        if (compare(node, pivot) < 0) {
+            Node<K>[] parts = split(node.right, pivot);
+            node.right = parts[0];
+            updateSize(node);
+            parts[0] = node;
+            return parts;
+        }
+
+        Node<K>[] parts = split(node.left, pivot);
+        node.left = parts[1];
+        updateSize(node);
+        parts[1] = node;
+        return parts;
+    }
+
+    private Node<K> merge(Node<K> left, Node<K> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            updateSize(left);
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        updateSize(right);
+        return right;
+    }
+
+    private Node<K> erase(Node<K> node, Node<K> target) {
+        if (node == null) return null;
+        if (node == target) return merge(node.left, node.right);
+
+        if (compare(target, node) < 0) {
+            node.left = erase(node.left, target);
+        } else {
+            node.right = erase(node.right, target);
+        }
+        updateSize(node);
+        return node;
+    }
+}
@@ -0,0 +1,147 @@
+package fr.openmc.core.utils.world.chunk;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Chunk index keyed by a packed {@code long} (x &lt;&lt; 32 | z).
+ * <p>
+ * Lookups by coordinates do not allocate, unlike a {@code Map<ChunkPos, V>}
+ * which needs a new {@link ChunkPos} on every call.
+ *
+ * @param <V> the value stored for a chunk
+ */
+public class ChunkIndex<V> {
+    private static final int[][] CARDINAL_OFFSETS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private final Long2ObjectMap<V> index = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * Pack chunk coordinates into a single long key.
+     *
+     * @param x The x coordinate of the chunk
+     * @param z The z coordinate of the chunk
+     * @return The packed key
+     */
+    public static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    public static int keyX(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int keyZ(long key) {
+        return (int) key;
+    }
+
+    @Nullable
+    public V get(int x, int z) {
+        return index.get(key(x, z));
+    }
+
+    @Nullable
+    public V get(ChunkPos pos) {
+        return index.get(key(pos.x(), pos.z()));
+    }
+
+    public boolean contains(int x, int z) {
+        return index.containsKey(key(x, z));
+    }
+
+    @Nullable
+    public V put(int x, int z, V value) {
+        return index.put(key(x, z), value);
+    }
+
+    @Nullable
+    public V remove(int x, int z) {
+        return index.remove(key(x, z));
+    }
+
+    /**
+     * Remove a chunk only if it is still mapped to the given value.
+     *
+     * @return true if the chunk was removed
+     */
+    public boolean remove(int x, int z, V value) {
+        return index.remove(key(x, z), value);
+    }
+
+    /**
+     * Check if any chunk in the square of the given radius is indexed.
+     *
+     * @param x      The x coordinate of the center chunk
+     * @param z      The z coordinate of the center chunk
+     * @param radius The radius in chunks
+     * @return true if at least one chunk is indexed
+     */
+    public boolean containsInRadius(int x, int z, int radius) {
+        if (index.isEmpty()) return false;
+
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                if (index.containsKey(key(x + dx, z + dz))) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if one of the four cardinal neighbours of a chunk is mapped to the given value.
+     *
+     * @param x     The x coordinate of the chunk
+     * @param z     The z coordinate of the chunk
+     * @param value The value to look for
+     * @return true if an adjacent chunk is mapped to the value
+     */
+    public boolean isAdjacentTo(int x, int z, V value) {
+        for (int[] offset : CARDINAL_OFFSETS) {
+            if (value.equals(index.get(key(x + offset[0], z + offset[1])))) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Count the cardinal neighbours of a chunk that are mapped to the given value.
+     *
+     * @param x     The x coordinate of the chunk
+     * @param z     The z coordinate of the chunk
+     * @param value The value to look for
+     * @return the number of adjacent chunks mapped to the value (0 to 4)
+     */
+    public int countAdjacent(int x, int z, V value) {
+        int count = 0;
+        for (int[] offset : CARDINAL_OFFSETS) {
+            if (value.equals(index.get(key(x + offset[0], z + offset[1])))) count++;
+        }
+        return count;
+    }
+
+    /**
+     * Remove every chunk mapped to the given value.
+     *
+     * @param value The value to remove
+     */
+    public void removeAll(V value) {
+        index.values().removeIf(value::equals);
+    }
+
+    public void forEach(BiConsumer<ChunkPos, V> action) {
+        for (Long2ObjectMap.Entry<V> entry : index.long2ObjectEntrySet()) {
+            long key = entry.getLongKey();
+            action.accept(new ChunkPos(keyX(key), keyZ(key)), entry.getValue());
+        }
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public void clear() {
+        index.clear();
+    }
+}
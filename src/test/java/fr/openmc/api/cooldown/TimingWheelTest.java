@@ -0,0 +1,63 @@
+package fr.openmc.api.cooldown;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("Timers fire once their deadline is reached")
+    void testFire() {
+        TimingWheel<String> wheel = new TimingWheel<>(50L, 0L);
+        wheel.schedule("a", 100L);
+        wheel.schedule("b", 1000L);
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(99L, fired::add);
+        Assertions.assertTrue(fired.isEmpty());
+
+        wheel.advance(100L, fired::add);
+        Assertions.assertEquals(List.of("a"), fired);
+        Assertions.assertEquals(1, wheel.size());
+
+        wheel.advance(1000L, fired::add);
+        Assertions.assertEquals(List.of("a", "b"), fired);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("Long timers cascade through every level")
+    void testCascade() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1L, 7L);
+        long[] deadlines = {300L, 70_000L, 20_000_000L};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        for (long deadline : deadlines) {
+            List<Long> fired = new ArrayList<>();
+            wheel.advance(deadline - 1, fired::add);
+            Assertions.assertTrue(fired.isEmpty());
+
+            wheel.advance(deadline, fired::add);
+            Assertions.assertEquals(List.of(deadline), fired);
+        }
+    }
+
+    @Test
+    @DisplayName("Cancelled timers never fire")
+    void testCancel() {
+        TimingWheel<String> wheel = new TimingWheel<>(50L, 0L);
+        TimingWheel.Timer<String> timer = wheel.schedule("a", 500L);
+        wheel.cancel(timer);
+        Assertions.assertEquals(0, wheel.size());
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(1000L, fired::add);
+        Assertions.assertTrue(fired.isEmpty());
+    }
+}
@@ -0,0 +1,132 @@
+package fr.openmc.core.bootstrap.integration;
+
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import fr.openmc.core.bootstrap.integration.DatabaseWriteQueue.MutationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class DatabaseWriteQueueTest {
+
+    private JdbcConnectionSource connectionSource;
+    private DatabaseWriteQueue queue;
+    private List<String> applied;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connectionSource = new JdbcConnectionSource("jdbc:h2:mem:write_queue_test");
+        // pas de flush périodique pendant le test, seul drain() écrit
+        queue = new DatabaseWriteQueue(connectionSource, 60_000L, 200, 5000);
+        applied = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        queue.close();
+        connectionSource.close();
+    }
+
+    private void submit(Object key, MutationType type, String name) {
+        queue.submit(key, type, () -> applied.add(name));
+    }
+
+    @Test
+    @DisplayName("A delete followed by a create runs both, delete first")
+    void testDeleteThenCreate() {
+        Object key = DatabaseWriteQueue.key("table", 1);
+        submit(key, MutationType.DELETE, "delete");
+        submit(key, MutationType.CREATE, "create");
+        queue.drain();
+
+        Assertions.assertEquals(List.of("delete", "create"), applied);
+        Assertions.assertEquals(1, queue.getMergedCount());
+    }
+
+    @Test
+    @DisplayName("A delete replaces a pending create")
+    void testCreateThenDelete() {
+        Object key = DatabaseWriteQueue.key("table", 1);
+        submit(key, MutationType.CREATE, "create");
+        submit(key, MutationType.DELETE, "delete");
+        queue.drain();
+
+        Assertions.assertEquals(List.of("delete"), applied);
+    }
+
+    @Test
+    @DisplayName("An upsert replaces any pending mutation")
+    void testUpsertReplaces() {
+        Object key = DatabaseWriteQueue.key("table", 1);
+        submit(key, MutationType.DELETE, "delete");
+        submit(key, MutationType.CREATE, "create");
+        submit(key, MutationType.UPSERT, "upsert");
+        queue.drain();
+
+        Assertions.assertEquals(List.of("upsert"), applied);
+    }
+
+    @Test
+    @DisplayName("A delete replaces a pending upsert")
+    void testUpsertThenDelete() {
+        Object key = DatabaseWriteQueue.key("table", 1);
+        submit(key, MutationType.UPSERT, "upsert");
+        submit(key, MutationType.DELETE, "delete");
+        queue.drain();
+
+        Assertions.assertEquals(List.of("delete"), applied);
+    }
+
+    @Test
+    @DisplayName("Mutations of different keys are never merged")
+    void testDistinctKeys() {
+        submit(DatabaseWriteQueue.key("table", 1), MutationType.DELETE, "delete 1");
+        submit(DatabaseWriteQueue.key("table", 2), MutationType.CREATE, "create 2");
+        submit(DatabaseWriteQueue.key("table", 2), MutationType.DELETE, "delete 2");
+        queue.drain();
+
+        Assertions.assertEquals(List.of("delete 1", "delete 2"), applied);
+        Assertions.assertEquals(2, queue.getFlushedCount());
+    }
+
+    @Test
+    @DisplayName("Mutations are applied in the order of their last submission")
+    void testOrder() {
+        submit(DatabaseWriteQueue.key("table", 1), MutationType.CREATE, "create 1");
+        submit(DatabaseWriteQueue.key("table", 2), MutationType.CREATE, "create 2");
+        submit(DatabaseWriteQueue.key("table", 1), MutationType.UPSERT, "upsert 1");
+        queue.drain();
+
+        Assertions.assertEquals(List.of("create 2", "upsert 1"), applied);
+        Assertions.assertEquals(0, queue.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("Draining a key part only writes the matching keys")
+    void testDrainKeyPart() {
+        submit(DatabaseWriteQueue.key("table", "a"), MutationType.UPSERT, "upsert a");
+        submit(DatabaseWriteQueue.key("other", "a", 1), MutationType.CREATE, "create a");
+        submit(DatabaseWriteQueue.key("table", "b"), MutationType.UPSERT, "upsert b");
+
+        Assertions.assertTrue(queue.drain("a", 5000L));
+        Assertions.assertEquals(List.of("upsert a", "create a"), applied);
+        Assertions.assertEquals(1, queue.getPendingCount());
+
+        queue.drain();
+        Assertions.assertEquals(List.of("upsert a", "create a", "upsert b"), applied);
+    }
+
+    @Test
+    @DisplayName("Keyless mutations all run")
+    void testKeyless() {
+        queue.submit(() -> applied.add("a"));
+        queue.submit(() -> applied.add("b"));
+        queue.drain();
+
+        Assertions.assertEquals(List.of("a", "b"), applied);
+    }
+}
@@ -15,6 +15,7 @@ import org.mockbukkit.mockbukkit.MockBukkit;
 import org.mockbukkit.mockbukkit.entity.PlayerMock;
 
 import fr.openmc.core.OMCPlugin;
+import fr.openmc.core.bootstrap.integration.DatabaseManager;
 import fr.openmc.core.features.economy.models.EconomyPlayer;
 import fr.openmc.mock.MockBukkitHelper;
 import fr.openmc.mock.ServerMock;
@@ -101,6 +102,7 @@ public class EconomyManagerTest {
     public void testAddBalanceWithReasonRegistersTransaction() {
         EconomyManager.addBalance(player1.getUniqueId(), 100.0, "Test Reason");
         server.getScheduler().waitAsyncTasksFinished();
+        DatabaseManager.drainWriteQueue();
 
         List<Transaction> transactions = TransactionsManager.getTransactionsByPlayers(player1.getUniqueId());
         boolean found = transactions.stream().anyMatch(t -> 
@@ -117,6 +119,7 @@ public class EconomyManagerTest {
         EconomyManager.setBalance(player1.getUniqueId(), 200.0);
         EconomyManager.withdrawBalance(player1.getUniqueId(), 50.0, "Withdrawal Reason");
         server.getScheduler().waitAsyncTasksFinished();
+        DatabaseManager.drainWriteQueue();
 
         List<Transaction> transactions = TransactionsManager.getTransactionsByPlayers(player1.getUniqueId());
 
@@ -134,6 +137,7 @@ public class EconomyManagerTest {
         EconomyManager.setBalance(player1.getUniqueId(), 200.0);
         EconomyManager.withdrawBalance(player1.getUniqueId(), 50.0);
         server.getScheduler().waitAsyncTasksFinished();
+        DatabaseManager.drainWriteQueue();
 
         List<Transaction> transactions = TransactionsManager.getTransactionsByPlayers(player1.getUniqueId());
         boolean found = transactions.stream().anyMatch(t ->
@@ -171,6 +175,7 @@ public class EconomyManagerTest {
         EconomyManager.setBalance(player1.getUniqueId(), 400.0);
         EconomyManager.transferBalance(player1.getUniqueId(), player2.getUniqueId(), 150.0, "Gift");
         server.getScheduler().waitAsyncTasksFinished();
+        DatabaseManager.drainWriteQueue();
 
         List<Transaction> transactions = TransactionsManager.getTransactionsByPlayers(player1.getUniqueId());
 
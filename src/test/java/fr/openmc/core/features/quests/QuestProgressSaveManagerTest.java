@@ -0,0 +1,88 @@
+package fr.openmc.core.features.quests;
+
+import fr.openmc.core.features.quests.objects.Quest;
+import fr.openmc.core.features.quests.objects.QuestStep;
+import fr.openmc.core.features.quests.objects.QuestTier;
+import net.kyori.adventure.text.Component;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+class QuestProgressSaveManagerTest {
+
+    static class LegacyQuest extends Quest {
+        LegacyQuest() {
+            super(Component.text("Legacy quest"), List.of(), (ItemStack) null);
+            addTier(new QuestTier(10, player -> {}));
+            addTier(new QuestTier(20, List.of(player -> {}), new ArrayList<>(List.of(
+                    new QuestStep(Component.text("a"), 5)
+            )), true));
+        }
+    }
+
+    private static YamlConfiguration legacyFile() throws InvalidConfigurationException {
+        YamlConfiguration config = new YamlConfiguration();
+        config.loadFromString("""
+                Legacy quest:
+                  progress: 15
+                  currentTier: 1
+                  completedTiers: [0]
+                  pendingRewards: [0]
+                  tiers:
+                    '1':
+                      steps:
+                        '0': 2
+                Removed quest:
+                  progress: 99
+                """);
+        return config;
+    }
+
+    @Test
+    @DisplayName("A legacy YAML file is converted to the binary format")
+    void testMigrateLegacyFile() throws InvalidConfigurationException {
+        LegacyQuest quest = new LegacyQuest();
+        UUID playerUUID = UUID.randomUUID();
+
+        byte[] data = QuestProgressSaveManager.migrateLegacyFile(playerUUID, legacyFile(), List.of(quest));
+
+        UUID target = UUID.randomUUID();
+        QuestProgressSaveManager.getOrCreateProgress(target).decode(data, Map.of(quest.getId(), quest));
+        Assertions.assertEquals(15, quest.getProgress(target));
+        Assertions.assertEquals(1, quest.getCurrentTierIndex(target));
+        Assertions.assertEquals(Set.of(0), quest.getPendingRewardTiers(target));
+        Assertions.assertEquals(2, quest.getTiers().get(1).getSteps().get(0).getProgress(target));
+    }
+
+    @Test
+    @DisplayName("A migrated player is not kept in memory")
+    void testMigrationNotKept() throws InvalidConfigurationException {
+        UUID playerUUID = UUID.randomUUID();
+
+        QuestProgressSaveManager.migrateLegacyFile(playerUUID, legacyFile(), List.of(new LegacyQuest()));
+
+        Assertions.assertNull(QuestProgressSaveManager.getProgress(playerUUID));
+    }
+
+    @Test
+    @DisplayName("A player already in memory keeps the migrated progress")
+    void testMigrationInMemory() throws InvalidConfigurationException {
+        LegacyQuest quest = new LegacyQuest();
+        UUID playerUUID = UUID.randomUUID();
+        QuestProgressSaveManager.getOrCreateProgress(playerUUID);
+
+        QuestProgressSaveManager.migrateLegacyFile(playerUUID, legacyFile(), List.of(quest));
+
+        Assertions.assertNotNull(QuestProgressSaveManager.getProgress(playerUUID));
+        Assertions.assertEquals(15, quest.getProgress(playerUUID));
+    }
+}
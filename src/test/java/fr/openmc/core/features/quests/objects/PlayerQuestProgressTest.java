@@ -0,0 +1,97 @@
+package fr.openmc.core.features.quests.objects;
+
+import fr.openmc.core.features.quests.QuestProgressSaveManager;
+import net.kyori.adventure.text.Component;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+class PlayerQuestProgressTest {
+
+    static class StepQuest extends Quest {
+        StepQuest() {
+            super(Component.text("Step quest"), List.of(), (ItemStack) null);
+            addTier(new QuestTier(10, player -> {}));
+            addTier(new QuestTier(20, List.of(player -> {}), new ArrayList<>(List.of(
+                    new QuestStep(Component.text("a"), 5),
+                    new QuestStep(Component.text("b"), 3)
+            )), true));
+        }
+    }
+
+    static class OtherQuest extends Quest {
+        OtherQuest() {
+            super(Component.text("Other quest"), List.of(), (ItemStack) null);
+            addTier(new QuestTier(100, player -> {}));
+        }
+    }
+
+    @Test
+    @DisplayName("Encoded progress is decoded with the same values")
+    void testRoundTrip() {
+        StepQuest quest = new StepQuest();
+        UUID source = UUID.randomUUID();
+        quest.restoreProgress(source, 12, 1, List.of(0), List.of(0));
+        quest.getTiers().get(1).getSteps().get(0).setProgress(source, 4);
+        quest.getTiers().get(1).getSteps().get(1).setProgress(source, 3);
+
+        byte[] data = QuestProgressSaveManager.getProgress(source).encode(List.of(quest));
+
+        UUID target = UUID.randomUUID();
+        QuestProgressSaveManager.getOrCreateProgress(target).decode(data, Map.of(quest.getId(), quest));
+
+        Assertions.assertEquals(12, quest.getProgress(target));
+        Assertions.assertEquals(1, quest.getCurrentTierIndex(target));
+        Assertions.assertEquals(Set.of(0), quest.getPendingRewardTiers(target));
+        Assertions.assertEquals(4, quest.getTiers().get(1).getSteps().get(0).getProgress(target));
+        Assertions.assertEquals(3, quest.getTiers().get(1).getSteps().get(1).getProgress(target));
+    }
+
+    @Test
+    @DisplayName("Unknown quests are skipped when decoding")
+    void testUnknownQuest() {
+        StepQuest quest = new StepQuest();
+        OtherQuest other = new OtherQuest();
+        UUID source = UUID.randomUUID();
+        other.restoreProgress(source, 50, 0, List.of(), List.of());
+        quest.restoreProgress(source, 7, 0, List.of(), List.of());
+
+        byte[] data = QuestProgressSaveManager.getProgress(source).encode(List.of(other, quest));
+
+        UUID target = UUID.randomUUID();
+        QuestProgressSaveManager.getOrCreateProgress(target).decode(data, Map.of(quest.getId(), quest));
+
+        Assertions.assertEquals(7, quest.getProgress(target));
+        Assertions.assertEquals(0, other.getProgress(target));
+    }
+
+    @Test
+    @DisplayName("Decoding marks the progress as changed, clearDirty resets it")
+    void testDirty() {
+        StepQuest quest = new StepQuest();
+        UUID source = UUID.randomUUID();
+        quest.restoreProgress(source, 3, 0, List.of(), List.of());
+        byte[] data = QuestProgressSaveManager.getProgress(source).encode(List.of(quest));
+
+        PlayerQuestProgress progress = QuestProgressSaveManager.getOrCreateProgress(UUID.randomUUID());
+        progress.decode(data, Map.of(quest.getId(), quest));
+
+        Assertions.assertTrue(progress.clearDirty());
+        Assertions.assertFalse(progress.clearDirty());
+    }
+
+    @Test
+    @DisplayName("An unknown format version is refused")
+    void testUnknownVersion() {
+        PlayerQuestProgress progress = new PlayerQuestProgress();
+        Assertions.assertThrows(UncheckedIOException.class, () -> progress.decode(new byte[]{2, 0, 0}, Map.of()));
+    }
+}
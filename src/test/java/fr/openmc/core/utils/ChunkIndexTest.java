@@ -0,0 +1,58 @@
+package fr.openmc.core.utils;
+
+import fr.openmc.core.utils.world.chunk.ChunkIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ChunkIndexTest {
+
+    @Test
+    @DisplayName("Key packs and unpacks negative coordinates")
+    void testKey() {
+        long key = ChunkIndex.key(-12, 345);
+        Assertions.assertEquals(-12, ChunkIndex.keyX(key));
+        Assertions.assertEquals(345, ChunkIndex.keyZ(key));
+        Assertions.assertNotEquals(ChunkIndex.key(1, -1), ChunkIndex.key(-1, 1));
+    }
+
+    @Test
+    @DisplayName("Put, get and remove")
+    void testPutGetRemove() {
+        ChunkIndex<String> index = new ChunkIndex<>();
+        index.put(3, -4, "a");
+        Assertions.assertEquals("a", index.get(3, -4));
+        Assertions.assertTrue(index.contains(3, -4));
+
+        Assertions.assertFalse(index.remove(3, -4, "b"));
+        Assertions.assertTrue(index.remove(3, -4, "a"));
+        Assertions.assertNull(index.get(3, -4));
+    }
+
+    @Test
+    @DisplayName("Radius and adjacency queries")
+    void testNeighbours() {
+        ChunkIndex<String> index = new ChunkIndex<>();
+        index.put(0, 0, "a");
+        index.put(1, 0, "a");
+
+        Assertions.assertTrue(index.containsInRadius(2, 1, 1));
+        Assertions.assertFalse(index.containsInRadius(3, 3, 1));
+        Assertions.assertTrue(index.isAdjacentTo(0, 1, "a"));
+        Assertions.assertFalse(index.isAdjacentTo(1, 1, "b"));
+        Assertions.assertEquals(2, index.countAdjacent(1, 0, "a") + index.countAdjacent(0, 0, "a"));
+    }
+
+    @Test
+    @DisplayName("Remove all chunks of a value")
+    void testRemoveAll() {
+        ChunkIndex<String> index = new ChunkIndex<>();
+        index.put(0, 0, "a");
+        index.put(0, 1, "b");
+        index.put(0, 2, "a");
+
+        index.removeAll("a");
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals("b", index.get(0, 1));
+    }
+}
@@ -0,0 +1,69 @@
+package fr.openmc.core.utils;
+
+import fr.openmc.core.utils.types.RankedIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class RankedIndexTest {
+
+    private static List<String> keys(List<RankedIndex.Entry<String>> entries) {
+        return entries.stream().map(RankedIndex.Entry::key).toList();
+    }
+
+    @Test
+    @DisplayName("Entries are ranked by descending score")
+    void testTop() {
+        RankedIndex<String> index = new RankedIndex<>();
+        index.update("a", 10);
+        index.update("b", 30);
+        index.update("c", 20);
+
+        Assertions.assertEquals(List.of("b", "c", "a"), keys(index.top(10)));
+        Assertions.assertEquals(List.of("b", "c"), keys(index.top(2)));
+        Assertions.assertEquals(1, index.rank("b"));
+        Assertions.assertEquals(3, index.rank("a"));
+        Assertions.assertEquals(0, index.rank("unknown"));
+    }
+
+    @Test
+    @DisplayName("Updating a score moves the entry")
+    void testUpdate() {
+        RankedIndex<String> index = new RankedIndex<>();
+        index.update("a", 10);
+        index.update("b", 20);
+        index.update("a", 50);
+
+        Assertions.assertEquals(List.of("a", "b"), keys(index.top(10)));
+        Assertions.assertEquals(50, index.score("a"));
+        Assertions.assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Equal scores keep the first indexed entry in front")
+    void testTies() {
+        RankedIndex<String> index = new RankedIndex<>();
+        index.update("a", 5);
+        index.update("b", 5);
+        index.update("c", 5);
+
+        Assertions.assertEquals(List.of("a", "b", "c"), keys(index.top(10)));
+    }
+
+    @Test
+    @DisplayName("Remove and range")
+    void testRemoveAndRange() {
+        RankedIndex<String> index = new RankedIndex<>();
+        for (int i = 0; i < 100; i++) {
+            index.update("k" + i, i);
+        }
+        index.remove("k99");
+
+        Assertions.assertEquals(99, index.size());
+        Assertions.assertEquals(List.of("k98", "k97"), keys(index.top(2)));
+        Assertions.assertEquals(List.of("k88", "k87", "k86"), keys(index.range(10, 3)));
+        Assertions.assertEquals(1, index.rank("k98"));
+    }
+}